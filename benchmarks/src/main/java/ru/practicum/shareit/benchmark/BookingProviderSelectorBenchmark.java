@@ -0,0 +1,111 @@
+package ru.practicum.shareit.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import ru.practicum.shareit.booking.Booking;
+import ru.practicum.shareit.booking.BookingCursor;
+import ru.practicum.shareit.booking.BookingState;
+import ru.practicum.shareit.booking.service.provider.BookingProvider;
+import ru.practicum.shareit.booking.service.provider.BookingProviderSelector;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Measures the dispatch overhead of the selector alone: every state is served by a provider that returns
+ * prebuilt results without touching a repository.
+ */
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class BookingProviderSelectorBenchmark {
+
+    @Param({"ALL", "CURRENT", "PAST", "FUTURE", "WAITING", "REJECTED"})
+    private BookingState state;
+
+    private final Pageable pageable = PageRequest.of(0, 20);
+
+    private BookingProvider selector;
+
+    @Setup
+    public void setUp() {
+        Map<BookingState, BookingProvider> providers = new HashMap<>();
+        for (BookingState providerState : BookingState.values()) {
+            providers.put(providerState, new ConstantBookingProvider());
+        }
+        selector = new BookingProviderSelector(providers);
+    }
+
+    @Benchmark
+    public Collection<Booking> getAllBookingsOfUser() {
+        return selector.getAllBookingsOfUser(1L, state);
+    }
+
+    @Benchmark
+    public Slice<Booking> getAllBookingsForOwnerItemsPaged() {
+        return selector.getAllBookingsForOwnerItems(1L, state, pageable);
+    }
+
+    private static final class ConstantBookingProvider implements BookingProvider {
+
+        private final List<Booking> bookings = List.of(new Booking());
+        private final Slice<Booking> slice = new SliceImpl<>(bookings);
+
+        @Override
+        public Collection<Booking> getAllBookingsOfUser(Long userId, BookingState state) {
+            return bookings;
+        }
+
+        @Override
+        public Stream<Booking> streamAllBookingsOfUser(Long userId, BookingState state) {
+            return bookings.stream();
+        }
+
+        @Override
+        public Collection<Booking> getAllBookingsForOwnerItems(Long ownerId, BookingState state) {
+            return bookings;
+        }
+
+        @Override
+        public Slice<Booking> getAllBookingsOfUser(Long userId, BookingState state, Pageable pageable) {
+            return slice;
+        }
+
+        @Override
+        public Slice<Booking> getAllBookingsForOwnerItems(Long ownerId, BookingState state, Pageable pageable) {
+            return slice;
+        }
+
+        @Override
+        public Slice<Booking> getAllBookingsOfUser(Long userId, BookingState state, BookingCursor cursor,
+                                                   Pageable pageable) {
+            return slice;
+        }
+
+        @Override
+        public Slice<Booking> getAllBookingsForOwnerItems(Long ownerId, BookingState state, BookingCursor cursor,
+                                                          Pageable pageable) {
+            return slice;
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package ru.practicum.shareit.benchmark;
+
+import org.apache.commons.lang.SerializationUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import ru.practicum.shareit.booking.Booking;
+import ru.practicum.shareit.booking.BookingStatus;
+import ru.practicum.shareit.booking.dto.BookingLinkedDto;
+import ru.practicum.shareit.item.dto.CommentDto;
+import ru.practicum.shareit.item.dto.ItemDto;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.user.User;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the {@code withX} copies against the {@link SerializationUtils#clone} copies they replaced.
+ * The clone benchmarks repeat what the old methods did: clone the whole graph, then set one field.
+ */
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class CopyBenchmark {
+
+    @Param({"0", "10", "100"})
+    private int itemBookings;
+
+    private User booker;
+    private Item item;
+    private Booking booking;
+    private ItemDto itemDto;
+    private BookingLinkedDto nextBooking;
+    private BookingLinkedDto lastBooking;
+
+    @Setup
+    public void setUp() {
+        User owner = new User(1L, "owner", "owner@mail.com");
+        booker = new User(2L, "booker", "booker@mail.com");
+        item = new Item(1L, "item", "item description", true, owner, null);
+        LocalDateTime start = LocalDateTime.of(2043, 1, 1, 0, 0);
+        for (long i = 0; i < itemBookings; i++) {
+            Booking itemBooking = new Booking(
+                    i, start.plusDays(i), start.plusDays(i).plusHours(1), item, booker, BookingStatus.APPROVED);
+            item.getBookings().add(itemBooking);
+            booker.getBookings().add(itemBooking);
+        }
+        booking = new Booking(null, start, start.plusHours(1), null, null, BookingStatus.WAITING);
+        List<CommentDto> comments = new ArrayList<>();
+        for (long i = 0; i < itemBookings; i++) {
+            comments.add(new CommentDto(i, "comment " + i, "booker", start));
+        }
+        itemDto = new ItemDto(1L, "item", "item description", true, null, null, null, comments);
+        nextBooking = new BookingLinkedDto(1L, 2L);
+        lastBooking = new BookingLinkedDto(2L, 2L);
+    }
+
+    @Benchmark
+    public Booking bookingWithBookerAndItemClone() {
+        Booking bookingWithBooker = (Booking) SerializationUtils.clone(booking);
+        bookingWithBooker.setBooker(booker);
+        Booking bookingWithItem = (Booking) SerializationUtils.clone(bookingWithBooker);
+        bookingWithItem.setItem(item);
+        return bookingWithItem;
+    }
+
+    @Benchmark
+    public Booking bookingWithBookerAndItemCopy() {
+        return booking.withBooker(booker).withItem(item);
+    }
+
+    @Benchmark
+    public ItemDto itemDtoWithBookingsClone() {
+        ItemDto itemDtoWithNext = (ItemDto) SerializationUtils.clone(itemDto);
+        itemDtoWithNext.setNextBooking(nextBooking);
+        ItemDto itemDtoWithLast = (ItemDto) SerializationUtils.clone(itemDtoWithNext);
+        itemDtoWithLast.setLastBooking(lastBooking);
+        return itemDtoWithLast;
+    }
+
+    @Benchmark
+    public ItemDto itemDtoWithBookingsCopy() {
+        return itemDto.withNextBooking(nextBooking).withLastBooking(lastBooking);
+    }
+}
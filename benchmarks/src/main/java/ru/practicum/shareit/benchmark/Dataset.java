@@ -0,0 +1,50 @@
+package ru.practicum.shareit.benchmark;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+@Getter
+@RequiredArgsConstructor
+public class Dataset {
+
+    private final int users;
+    private final int requests;
+    private final int items;
+    private final int bookings;
+    private final int comments;
+
+    public long rows() {
+        return (long) users + requests + items + bookings + comments;
+    }
+
+    public long randomUserId() {
+        return ThreadLocalRandom.current().nextLong(1, users + 1L);
+    }
+
+    public long randomItemId() {
+        return ThreadLocalRandom.current().nextLong(1, items + 1L);
+    }
+
+    public long randomAvailableItemId() {
+        long itemId = randomItemId();
+        return isAvailable(itemId) ? itemId : itemId - 1;
+    }
+
+    public long randomRequestId() {
+        return ThreadLocalRandom.current().nextLong(1, requests + 1L);
+    }
+
+    public boolean isAvailable(long itemId) {
+        return itemId % 10 != 0;
+    }
+
+    public long ownerOf(long itemId) {
+        return (itemId - 1) / DatasetGenerator.ITEMS_PER_USER + 1;
+    }
+
+    public String randomSearchText() {
+        return DatasetGenerator.WORDS[ThreadLocalRandom.current().nextInt(DatasetGenerator.WORDS.length)];
+    }
+}
@@ -0,0 +1,134 @@
+package ru.practicum.shareit.benchmark;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+
+import javax.sql.DataSource;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.AbstractList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Seeds an empty shareit schema with a deterministic dataset whose size grows linearly with the number of
+ * users: every user owns {@value #ITEMS_PER_USER} items, every item has {@value #BOOKINGS_PER_ITEM}
+ * bookings (two finished, two ahead), every other user has a request that a quarter of the items answer,
+ * and every other item has a comment. Ids are left to the database, so the schema has to be empty.
+ */
+public class DatasetGenerator {
+
+    public static final int ITEMS_PER_USER = 2;
+    public static final int BOOKINGS_PER_ITEM = 4;
+    public static final String[] WORDS = {
+            "drill", "ladder", "tent", "bike", "kayak", "projector", "saw", "camera", "grill", "scooter"
+    };
+
+    private static final int BATCH_SIZE = 1000;
+    private static final long[] BOOKING_DAYS = {-20, -10, 10, 20};
+
+    private final JdbcTemplate jdbcTemplate;
+    private final long seed;
+
+    public DatasetGenerator(DataSource dataSource, long seed) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.seed = seed;
+    }
+
+    public Dataset generate(int users) {
+        Long existingUsers = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM users", Long.class);
+        if (existingUsers == null || existingUsers > 0) {
+            throw new IllegalStateException("Dataset can only be generated into an empty database");
+        }
+        Dataset dataset = describe(users);
+        int requests = dataset.getRequests();
+        int items = dataset.getItems();
+        Random random = new Random(seed);
+        LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.HOURS);
+
+        insert("INSERT INTO users(name, email) VALUES (?, ?)", users, (ps, i) -> {
+            ps.setString(1, "user " + i);
+            ps.setString(2, "user" + i + "@shareit.test");
+        });
+        insert("INSERT INTO requests(description, requestor_id, created) VALUES (?, ?, ?)", requests, (ps, i) -> {
+            ps.setString(1, "looking for a " + WORDS[i % WORDS.length]);
+            ps.setLong(2, 2L * i);
+            ps.setTimestamp(3, Timestamp.valueOf(now.minusDays(30).plusMinutes(i)));
+        });
+        insert("INSERT INTO items(name, description, is_available, owner_id, request_id) VALUES (?, ?, ?, ?, ?)",
+                items, (ps, i) -> {
+                    String word = WORDS[random.nextInt(WORDS.length)];
+                    ps.setString(1, word + " " + i);
+                    ps.setString(2, "a good " + word + " to share, number " + i);
+                    ps.setBoolean(3, dataset.isAvailable(i));
+                    ps.setLong(4, (i - 1L) / ITEMS_PER_USER + 1);
+                    if (requests > 0 && i % 4 == 0) {
+                        ps.setLong(5, random.nextInt(requests) + 1L);
+                    } else {
+                        ps.setObject(5, null);
+                    }
+                });
+        insert("INSERT INTO bookings(start_date, end_date, status, booker_id, item_id) VALUES (?, ?, ?, ?, ?)",
+                dataset.getBookings(), (ps, i) -> {
+                    long itemId = (i - 1L) / BOOKINGS_PER_ITEM + 1;
+                    LocalDateTime start = now.plusDays(BOOKING_DAYS[(i - 1) % BOOKINGS_PER_ITEM]);
+                    ps.setTimestamp(1, Timestamp.valueOf(start));
+                    ps.setTimestamp(2, Timestamp.valueOf(start.plusHours(2)));
+                    ps.setString(3, i % 7 == 0 ? "REJECTED" : i % 5 == 0 ? "WAITING" : "APPROVED");
+                    ps.setLong(4, randomOtherUser(random, users, (itemId - 1) / ITEMS_PER_USER + 1));
+                    ps.setLong(5, itemId);
+                });
+        insert("INSERT INTO comments(text, author_id, item_id, created) VALUES (?, ?, ?, ?)",
+                dataset.getComments(), (ps, i) -> {
+                    long itemId = 2L * i;
+                    ps.setString(1, "worked fine, comment " + i);
+                    ps.setLong(2, randomOtherUser(random, users, (itemId - 1) / ITEMS_PER_USER + 1));
+                    ps.setLong(3, itemId);
+                    ps.setTimestamp(4, Timestamp.valueOf(now.minusDays(5)));
+                });
+        return dataset;
+    }
+
+    /**
+     * Returns the shape of the dataset {@link #generate} seeds for the given number of users without
+     * touching the database, so a load driver can address the rows of an already seeded one.
+     */
+    public static Dataset describe(int users) {
+        int items = users * ITEMS_PER_USER;
+        return new Dataset(users, users / 2, items, items * BOOKINGS_PER_ITEM, items / 2);
+    }
+
+    public static int usersForRows(long rows) {
+        long rowsPerTwoUsers = describe(2).rows();
+        return (int) Math.max(2, rows * 2 / rowsPerTwoUsers);
+    }
+
+    private void insert(String sql, int rows, ParameterizedPreparedStatementSetter<Integer> setter) {
+        for (int from = 1; from <= rows; from += BATCH_SIZE) {
+            jdbcTemplate.batchUpdate(sql, numbers(from, Math.min(from + BATCH_SIZE - 1, rows)), BATCH_SIZE, setter);
+        }
+    }
+
+    private static List<Integer> numbers(int from, int to) {
+        return new AbstractList<>() {
+            @Override
+            public Integer get(int index) {
+                return from + index;
+            }
+
+            @Override
+            public int size() {
+                return to - from + 1;
+            }
+        };
+    }
+
+    private static long randomOtherUser(Random random, int users, long userId) {
+        if (users < 2) {
+            return userId;
+        }
+        long otherUserId = random.nextInt(users - 1) + 1L;
+        return otherUserId >= userId ? otherUserId + 1 : otherUserId;
+    }
+}
@@ -0,0 +1,89 @@
+package ru.practicum.shareit.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import ru.practicum.shareit.booking.BookingStatus;
+import ru.practicum.shareit.booking.dto.BookingLinkedDto;
+import ru.practicum.shareit.booking.dto.BookingResponseDto;
+import ru.practicum.shareit.item.dto.CommentDto;
+import ru.practicum.shareit.item.dto.ItemDto;
+import ru.practicum.shareit.user.dto.UserDto;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Serializes response DTOs with an object mapper configured like the one Spring Boot gives the controllers.
+ */
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class JsonBenchmark {
+
+    @Param({"0", "10"})
+    private int itemComments;
+
+    private ObjectWriter objectWriter;
+    private BookingResponseDto bookingResponseDto;
+    private ItemDto itemDto;
+
+    @Setup
+    public void setUp() {
+        objectWriter = Jackson2ObjectMapperBuilder
+                .json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build()
+                .writer();
+        LocalDateTime created = LocalDateTime.of(2023, 1, 1, 0, 0);
+        List<CommentDto> comments = new ArrayList<>();
+        for (long i = 1; i <= itemComments; i++) {
+            comments.add(new CommentDto(i, "comment text " + i, "author " + i, created.plusHours(i)));
+        }
+        itemDto = new ItemDto(
+                1L,
+                "item",
+                "item description",
+                true,
+                1L,
+                new BookingLinkedDto(1L, 2L),
+                new BookingLinkedDto(2L, 2L),
+                comments
+        );
+        bookingResponseDto = new BookingResponseDto(
+                1L,
+                created.plusDays(1),
+                created.plusDays(2),
+                BookingStatus.APPROVED,
+                new ItemDto(1L, "item", "item description", true, null, null, null, new ArrayList<>()),
+                new UserDto(2L, "booker", "booker@mail.com")
+        );
+    }
+
+    @Benchmark
+    public byte[] bookingResponseDto() throws JsonProcessingException {
+        return objectWriter.writeValueAsBytes(bookingResponseDto);
+    }
+
+    @Benchmark
+    public byte[] itemDto() throws JsonProcessingException {
+        return objectWriter.writeValueAsBytes(itemDto);
+    }
+}
@@ -0,0 +1,77 @@
+package ru.practicum.shareit.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import ru.practicum.shareit.booking.Booking;
+import ru.practicum.shareit.booking.BookingStatus;
+import ru.practicum.shareit.booking.dto.BookingResponseDto;
+import ru.practicum.shareit.booking.dto.mapper.BookingMapper;
+import ru.practicum.shareit.item.dto.ItemDto;
+import ru.practicum.shareit.item.dto.mapper.ItemMapper;
+import ru.practicum.shareit.item.dto.mapper.ItemToSimpleDtoMapper;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.request.ItemRequest;
+import ru.practicum.shareit.request.dto.ItemRequestDto;
+import ru.practicum.shareit.request.dto.mapper.ItemRequestMapper;
+import ru.practicum.shareit.user.User;
+import ru.practicum.shareit.user.dto.mapper.UserMapper;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class MapperBenchmark {
+
+    @Param({"1", "10", "100"})
+    private int requestItems;
+
+    private final ItemMapper itemMapper = new ItemMapper();
+    private final BookingMapper bookingMapper = new BookingMapper(itemMapper, new UserMapper());
+    private final ItemRequestMapper itemRequestMapper = new ItemRequestMapper(new ItemToSimpleDtoMapper());
+
+    private Item item;
+    private Booking booking;
+    private ItemRequest itemRequest;
+
+    @Setup
+    public void setUp() {
+        User owner = new User(1L, "owner", "owner@mail.com");
+        User booker = new User(2L, "booker", "booker@mail.com");
+        LocalDateTime created = LocalDateTime.of(2023, 1, 1, 0, 0);
+        itemRequest = new ItemRequest(1L, "request description", booker, created);
+        item = new Item(1L, "item", "item description", true, owner, itemRequest);
+        for (long i = 1; i <= requestItems; i++) {
+            itemRequest.getItems().add(new Item(i, "item " + i, "item description " + i, true, owner, itemRequest));
+        }
+        booking = new Booking(1L, created.plusDays(1), created.plusDays(2), item, booker, BookingStatus.APPROVED);
+    }
+
+    @Benchmark
+    public ItemDto itemMapper() {
+        return itemMapper.convert(item);
+    }
+
+    @Benchmark
+    public BookingResponseDto bookingMapper() {
+        return bookingMapper.convert(booking);
+    }
+
+    @Benchmark
+    public ItemRequestDto itemRequestMapper() {
+        return itemRequestMapper.convert(itemRequest);
+    }
+}
@@ -0,0 +1,41 @@
+package ru.practicum.shareit.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import ru.practicum.shareit.config.PageBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class PageBuilderBenchmark {
+
+    private final PageBuilder pageBuilder = new PageBuilder();
+    private final Sort sort = Sort.by(Sort.Direction.DESC, "start");
+
+    private int from = 40;
+    private int size = 20;
+
+    @Benchmark
+    public Pageable buildUnsorted() {
+        return pageBuilder.build(from, size, null);
+    }
+
+    @Benchmark
+    public Pageable buildSorted() {
+        return pageBuilder.build(from, size, sort);
+    }
+}
@@ -0,0 +1,130 @@
+package ru.practicum.shareit.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.orm.jpa.EntityManagerFactoryUtils;
+import org.springframework.orm.jpa.EntityManagerHolder;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import ru.practicum.shareit.ServerApplication;
+import ru.practicum.shareit.booking.dto.BookingResponseDto;
+import ru.practicum.shareit.booking.service.BookingService;
+import ru.practicum.shareit.item.dto.ItemDto;
+import ru.practicum.shareit.item.repository.DatabaseItemRepositoryImpl;
+import ru.practicum.shareit.item.service.ItemBookingSummarySweeper;
+import ru.practicum.shareit.item.service.ItemService;
+import ru.practicum.shareit.request.dto.ItemRequestDto;
+import ru.practicum.shareit.request.service.ItemRequestService;
+
+import javax.persistence.EntityManagerFactory;
+import javax.sql.DataSource;
+import java.util.Collection;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Runs the services against an in-memory H2 database seeded by {@link DatasetGenerator}. Every call gets
+ * its own entity manager the way open-in-view gives one to every request, so lazy associations resolve
+ * exactly as they do behind the controllers.
+ */
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ServiceBenchmark {
+
+    private static final int PAGE_SIZE = 20;
+
+    @Param({"1000", "10000"})
+    private int users;
+
+    private ConfigurableApplicationContext context;
+    private EntityManagerFactory entityManagerFactory;
+    private ItemService itemService;
+    private BookingService bookingService;
+    private ItemRequestService itemRequestService;
+    private Dataset dataset;
+
+    @Setup
+    public void setUp() {
+        context = new SpringApplicationBuilder(ServerApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "spring.datasource.url=jdbc:h2:mem:shareit-benchmark;DB_CLOSE_DELAY=-1",
+                        "shareit.item.booking-summary.sweeper.delay=PT24H",
+                        "logging.level.root=WARN"
+                )
+                .run();
+        entityManagerFactory = context.getBean(EntityManagerFactory.class);
+        itemService = context.getBean(ItemService.class);
+        bookingService = context.getBean(BookingService.class);
+        itemRequestService = context.getBean(ItemRequestService.class);
+
+        dataset = new DatasetGenerator(context.getBean(DataSource.class), 42).generate(users);
+        context.getBean(ItemBookingSummarySweeper.class).sweep();
+        context.getBean(DatabaseItemRepositoryImpl.class).buildSearchIndex();
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public ItemDto getItemByOwner() {
+        long itemId = dataset.randomItemId();
+        return inEntityManager(() -> itemService.getItem(dataset.ownerOf(itemId), itemId));
+    }
+
+    @Benchmark
+    public Collection<ItemDto> getAllItems() {
+        return inEntityManager(() -> itemService.getAllItems(dataset.randomUserId(), 0, PAGE_SIZE));
+    }
+
+    @Benchmark
+    public Collection<ItemDto> searchItem() {
+        return inEntityManager(() -> itemService.searchItem(dataset.randomSearchText(), 0, PAGE_SIZE));
+    }
+
+    @Benchmark
+    public Collection<BookingResponseDto> getAllBookingsOfUser() {
+        return inEntityManager(() -> bookingService.getAllBookingsOfUser(
+                dataset.randomUserId(), "ALL", 0, PAGE_SIZE));
+    }
+
+    @Benchmark
+    public Collection<BookingResponseDto> getAllBookingsForOwnerItems() {
+        return inEntityManager(() -> bookingService.getAllBookingsForOwnerItems(
+                dataset.randomUserId(), "ALL", 0, PAGE_SIZE));
+    }
+
+    @Benchmark
+    public Collection<ItemRequestDto> getAllItemRequests() {
+        return inEntityManager(() -> itemRequestService.getAllItemRequests(dataset.randomUserId(), 0, PAGE_SIZE));
+    }
+
+    private <T> T inEntityManager(Supplier<T> call) {
+        EntityManagerHolder holder = new EntityManagerHolder(entityManagerFactory.createEntityManager());
+        TransactionSynchronizationManager.bindResource(entityManagerFactory, holder);
+        try {
+            return call.get();
+        } finally {
+            TransactionSynchronizationManager.unbindResource(entityManagerFactory);
+            EntityManagerFactoryUtils.closeEntityManager(holder.getEntityManager());
+        }
+    }
+}
@@ -0,0 +1,137 @@
+package ru.practicum.shareit.loadtest;
+
+import ru.practicum.shareit.benchmark.Dataset;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * The gateway calls the workload is made of. Weights are relative shares of the mix: reads dominate, and
+ * a small share of booking requests keeps the write path and the summary refreshes busy.
+ */
+enum Endpoint {
+
+    GET_ITEM("GET /items/{id}", 25) {
+        @Override
+        HttpRequest.Builder request(URI baseUri, Dataset dataset) {
+            long itemId = dataset.randomItemId();
+            long userId = ThreadLocalRandom.current().nextBoolean() ? dataset.ownerOf(itemId) : dataset.randomUserId();
+            return get(baseUri, "/items/" + itemId, userId);
+        }
+    },
+    GET_OWN_ITEMS("GET /items", 15) {
+        @Override
+        HttpRequest.Builder request(URI baseUri, Dataset dataset) {
+            return get(baseUri, "/items?from=0&size=" + PAGE_SIZE, dataset.randomUserId());
+        }
+    },
+    SEARCH_ITEMS("GET /items/search", 15) {
+        @Override
+        HttpRequest.Builder request(URI baseUri, Dataset dataset) {
+            return get(baseUri, "/items/search?text=" + dataset.randomSearchText() + "&from=0&size=" + PAGE_SIZE,
+                    dataset.randomUserId());
+        }
+    },
+    GET_BOOKINGS("GET /bookings", 15) {
+        @Override
+        HttpRequest.Builder request(URI baseUri, Dataset dataset) {
+            return get(baseUri, "/bookings?state=" + randomState() + "&from=0&size=" + PAGE_SIZE,
+                    dataset.randomUserId());
+        }
+    },
+    GET_OWNER_BOOKINGS("GET /bookings/owner", 10) {
+        @Override
+        HttpRequest.Builder request(URI baseUri, Dataset dataset) {
+            return get(baseUri, "/bookings/owner?state=" + randomState() + "&from=0&size=" + PAGE_SIZE,
+                    dataset.randomUserId());
+        }
+    },
+    GET_OWN_REQUESTS("GET /requests", 5) {
+        @Override
+        HttpRequest.Builder request(URI baseUri, Dataset dataset) {
+            return get(baseUri, "/requests", dataset.randomUserId());
+        }
+    },
+    GET_ALL_REQUESTS("GET /requests/all", 5) {
+        @Override
+        HttpRequest.Builder request(URI baseUri, Dataset dataset) {
+            return get(baseUri, "/requests/all?from=0&size=" + PAGE_SIZE, dataset.randomUserId());
+        }
+    },
+    GET_USER("GET /users/{id}", 5) {
+        @Override
+        HttpRequest.Builder request(URI baseUri, Dataset dataset) {
+            return HttpRequest.newBuilder(baseUri.resolve("/users/" + dataset.randomUserId())).GET();
+        }
+    },
+    CREATE_BOOKING("POST /bookings", 5) {
+        @Override
+        HttpRequest.Builder request(URI baseUri, Dataset dataset) {
+            long itemId = dataset.randomAvailableItemId();
+            long bookerId = dataset.randomUserId();
+            if (bookerId == dataset.ownerOf(itemId)) {
+                bookerId = bookerId % dataset.getUsers() + 1;
+            }
+            // Far enough ahead and spread wide enough to rarely collide with another booking of the item
+            LocalDateTime start = LocalDateTime.now().truncatedTo(ChronoUnit.HOURS)
+                    .plusDays(60)
+                    .plusHours(ThreadLocalRandom.current().nextInt(24 * 365 * 5));
+            String body = String.format("{\"itemId\":%d,\"start\":\"%s\",\"end\":\"%s\"}",
+                    itemId, start, start.plusHours(1));
+            return HttpRequest.newBuilder(baseUri.resolve("/bookings"))
+                    .header(USER_ID_HEADER, String.valueOf(bookerId))
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(body));
+        }
+    };
+
+    private static final String USER_ID_HEADER = "X-Sharer-User-Id";
+    private static final int PAGE_SIZE = 20;
+    private static final String[] STATES = {"ALL", "ALL", "ALL", "CURRENT", "PAST", "FUTURE", "WAITING", "REJECTED"};
+    private static final Duration TIMEOUT = Duration.ofSeconds(30);
+    private static final int TOTAL_WEIGHT = Arrays.stream(values()).mapToInt(endpoint -> endpoint.weight).sum();
+
+    private final String label;
+    private final int weight;
+
+    Endpoint(String label, int weight) {
+        this.label = label;
+        this.weight = weight;
+    }
+
+    String getLabel() {
+        return label;
+    }
+
+    abstract HttpRequest.Builder request(URI baseUri, Dataset dataset);
+
+    HttpRequest newRequest(URI baseUri, Dataset dataset) {
+        return request(baseUri, dataset).timeout(TIMEOUT).build();
+    }
+
+    static Endpoint random() {
+        int point = ThreadLocalRandom.current().nextInt(TOTAL_WEIGHT);
+        for (Endpoint endpoint : values()) {
+            point -= endpoint.weight;
+            if (point < 0) {
+                return endpoint;
+            }
+        }
+        throw new IllegalStateException("Weights do not add up");
+    }
+
+    private static HttpRequest.Builder get(URI baseUri, String path, long userId) {
+        return HttpRequest.newBuilder(baseUri.resolve(path))
+                .header(USER_ID_HEADER, String.valueOf(userId))
+                .GET();
+    }
+
+    private static String randomState() {
+        return STATES[ThreadLocalRandom.current().nextInt(STATES.length)];
+    }
+}
@@ -0,0 +1,54 @@
+package ru.practicum.shareit.loadtest;
+
+import java.util.Arrays;
+
+/**
+ * Latencies and failures of one endpoint. Every worker records into its own instance, and the instances are
+ * merged once the run is over, so recording never contends.
+ */
+class Samples {
+
+    private long[] latencies = new long[1024];
+    private int count;
+    private int failures;
+
+    void record(long latencyNanos, boolean failed) {
+        if (count == latencies.length) {
+            latencies = Arrays.copyOf(latencies, count * 2);
+        }
+        latencies[count++] = latencyNanos;
+        if (failed) {
+            failures++;
+        }
+    }
+
+    void addAll(Samples other) {
+        if (count + other.count > latencies.length) {
+            latencies = Arrays.copyOf(latencies, Math.max(count + other.count, latencies.length * 2));
+        }
+        System.arraycopy(other.latencies, 0, latencies, count, other.count);
+        count += other.count;
+        failures += other.failures;
+    }
+
+    int getCount() {
+        return count;
+    }
+
+    int getFailures() {
+        return failures;
+    }
+
+    /**
+     * Returns the latency under which the given share of the samples fall, in nanoseconds. Sorts the samples,
+     * so it is meant to be called after recording has finished.
+     */
+    long percentile(double percentile) {
+        if (count == 0) {
+            return 0;
+        }
+        Arrays.sort(latencies, 0, count);
+        int index = (int) Math.ceil(percentile / 100 * count) - 1;
+        return latencies[Math.max(0, Math.min(index, count - 1))];
+    }
+}
@@ -0,0 +1,41 @@
+package ru.practicum.shareit.loadtest;
+
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import ru.practicum.shareit.benchmark.Dataset;
+import ru.practicum.shareit.benchmark.DatasetGenerator;
+
+import java.time.Duration;
+
+/**
+ * Creates the server schema in an empty H2 or PostgreSQL database and seeds it with a {@link DatasetGenerator}
+ * dataset of roughly {@code --rows} rows (or exactly {@code --users} users). Booking summaries and the item
+ * search index are built by the server itself when it starts on the seeded database.
+ */
+public class SeedDatabase {
+
+    public static void main(String[] args) {
+        Options options = Options.parse(args);
+        String url = options.getString("url", "jdbc:h2:file:./loadtest/shareit");
+        int users = options.has("users")
+                ? options.getInt("users", 0)
+                : DatasetGenerator.usersForRows(options.getLong("rows", 100_000));
+
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                url, options.getString("username", "test"), options.getString("password", "test"));
+        ResourceDatabasePopulator populator = new ResourceDatabasePopulator(new ClassPathResource("schema.sql"));
+        if (url.startsWith("jdbc:postgresql:")) {
+            populator.addScript(new ClassPathResource("schema-postgres.sql"));
+        }
+        populator.execute(dataSource);
+
+        long started = System.nanoTime();
+        Dataset dataset = new DatasetGenerator(dataSource, options.getLong("seed", 42)).generate(users);
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - started);
+        System.out.printf("Seeded %s with %d rows in %ds: %d users, %d requests, %d items, %d bookings, %d comments%n",
+                url, dataset.rows(), elapsed.toSeconds(), dataset.getUsers(), dataset.getRequests(),
+                dataset.getItems(), dataset.getBookings(), dataset.getComments());
+        System.out.printf("Drive it with --users=%d%n", dataset.getUsers());
+    }
+}
@@ -0,0 +1,83 @@
+package ru.practicum.shareit.loadtest;
+
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import ru.practicum.shareit.ServerApplication;
+import ru.practicum.shareit.benchmark.Dataset;
+import ru.practicum.shareit.benchmark.DatasetGenerator;
+import ru.practicum.shareit.item.repository.DatabaseItemRepositoryImpl;
+import ru.practicum.shareit.item.service.ItemBookingSummarySweeper;
+
+import javax.sql.DataSource;
+import java.net.URI;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Compares Tomcat's platform-thread pool of {@code --max-threads} workers with virtual threads
+ * ({@code shareit.threads.virtual}) at high concurrency. Every mode in {@code --modes} gets its own in-process
+ * server on a fresh in-memory H2 database of {@code --users} users, which {@link WorkloadDriver} then loads
+ * from {@code --threads} concurrent clients; the totals of all modes are printed side by side. The virtual
+ * mode is skipped unless the benchmark runs on JDK 21 or later.
+ */
+public class ThreadModeBenchmark {
+
+    private static final String PLATFORM = "platform";
+    private static final String VIRTUAL = "virtual";
+
+    public static void main(String[] args) throws Exception {
+        Options options = Options.parse(args);
+        String[] modes = options.getString("modes", PLATFORM + "," + VIRTUAL).split(",");
+        int users = options.getInt("users", 2000);
+        int threads = options.getInt("threads", 1000);
+        int maxThreads = options.getInt("max-threads", 200);
+        int poolSize = options.getInt("pool-size", 10);
+        Duration warmup = options.getDuration("warmup", Duration.ofSeconds(10));
+        Duration duration = options.getDuration("duration", Duration.ofSeconds(30));
+
+        Map<String, Samples> totals = new LinkedHashMap<>();
+        for (String mode : modes) {
+            if (!PLATFORM.equals(mode) && !VIRTUAL.equals(mode)) {
+                throw new IllegalArgumentException("Unknown mode " + mode + ", expected platform or virtual");
+            }
+            if (VIRTUAL.equals(mode) && Runtime.version().feature() < 21) {
+                System.out.printf("Skipping virtual threads, they need JDK 21 or later and this is %s%n",
+                        Runtime.version());
+                continue;
+            }
+            System.out.printf("Starting the server with %s threads%n", mode);
+            try (ConfigurableApplicationContext context = startServer(mode, maxThreads, poolSize)) {
+                Dataset dataset = new DatasetGenerator(context.getBean(DataSource.class), 42).generate(users);
+                context.getBean(ItemBookingSummarySweeper.class).sweep();
+                context.getBean(DatabaseItemRepositoryImpl.class).buildSearchIndex();
+
+                int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+                URI baseUri = URI.create("http://localhost:" + port);
+                totals.put(mode, WorkloadDriver.total(WorkloadDriver.drive(baseUri, dataset, threads, warmup, duration)));
+            }
+        }
+
+        System.out.printf("%n%d users, %d client threads, %d Tomcat threads, %d database connections%n",
+                users, threads, maxThreads, poolSize);
+        WorkloadDriver.printHeader("threads");
+        totals.forEach((mode, samples) -> WorkloadDriver.printRow(mode, samples, duration.toNanos() / 1e9));
+    }
+
+    /**
+     * Passes the settings as command line arguments, since default properties would lose to the server's own
+     * application.properties.
+     */
+    private static ConfigurableApplicationContext startServer(String mode, int maxThreads, int poolSize) {
+        return new SpringApplicationBuilder(ServerApplication.class).run(
+                "--server.port=0",
+                "--server.tomcat.threads.max=" + maxThreads,
+                "--shareit.threads.virtual=" + VIRTUAL.equals(mode),
+                "--spring.datasource.url=jdbc:h2:mem:shareit-" + mode,
+                "--spring.datasource.hikari.maximum-pool-size=" + poolSize,
+                "--shareit.item.booking-summary.sweeper.delay=PT24H",
+                "--logging.level.root=WARN"
+        );
+    }
+}
@@ -0,0 +1,126 @@
+package ru.practicum.shareit.loadtest;
+
+import ru.practicum.shareit.benchmark.Dataset;
+import ru.practicum.shareit.benchmark.DatasetGenerator;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Replays the {@link Endpoint} mix against a running gateway from {@code --threads} closed-loop workers,
+ * first for {@code --warmup} without recording and then for {@code --duration}, and prints the throughput and
+ * latency percentiles of every endpoint. {@code --users} has to match the seeded dataset so that the
+ * generated ids exist.
+ */
+public class WorkloadDriver {
+
+    private static final double[] PERCENTILES = {50, 90, 99, 99.9};
+
+    public static void main(String[] args) throws Exception {
+        Options options = Options.parse(args);
+        URI baseUri = URI.create(options.getString("url", "http://localhost:8080"));
+        Dataset dataset = DatasetGenerator.describe(options.getInt("users", 8000));
+        int threads = options.getInt("threads", 16);
+        Duration warmup = options.getDuration("warmup", Duration.ofSeconds(10));
+        Duration duration = options.getDuration("duration", Duration.ofSeconds(60));
+
+        print(drive(baseUri, dataset, threads, warmup, duration), duration);
+    }
+
+    static Map<Endpoint, Samples> drive(
+            URI baseUri, Dataset dataset, int threads, Duration warmup, Duration duration) throws Exception {
+        HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+        ExecutorService workers = Executors.newFixedThreadPool(threads);
+        try {
+            System.out.printf("Warming up %s for %ds with %d threads%n", baseUri, warmup.toSeconds(), threads);
+            run(workers, threads, client, baseUri, dataset, warmup);
+            System.out.printf("Measuring for %ds%n", duration.toSeconds());
+            return run(workers, threads, client, baseUri, dataset, duration);
+        } finally {
+            workers.shutdownNow();
+        }
+    }
+
+    private static Map<Endpoint, Samples> run(
+            ExecutorService workers, int threads, HttpClient client, URI baseUri, Dataset dataset,
+            Duration duration) throws Exception {
+        long deadline = System.nanoTime() + duration.toNanos();
+        List<Future<Map<Endpoint, Samples>>> results = new ArrayList<>();
+        for (int i = 0; i < threads; i++) {
+            results.add(workers.submit(() -> work(client, baseUri, dataset, deadline)));
+        }
+        Map<Endpoint, Samples> merged = new EnumMap<>(Endpoint.class);
+        for (Future<Map<Endpoint, Samples>> result : results) {
+            result.get().forEach((endpoint, samples) ->
+                    merged.computeIfAbsent(endpoint, e -> new Samples()).addAll(samples));
+        }
+        return merged;
+    }
+
+    private static Map<Endpoint, Samples> work(HttpClient client, URI baseUri, Dataset dataset, long deadline) {
+        Map<Endpoint, Samples> samples = new EnumMap<>(Endpoint.class);
+        while (System.nanoTime() < deadline && !Thread.currentThread().isInterrupted()) {
+            Endpoint endpoint = Endpoint.random();
+            long started = System.nanoTime();
+            boolean failed;
+            try {
+                HttpResponse<Void> response = client.send(
+                        endpoint.newRequest(baseUri, dataset), HttpResponse.BodyHandlers.discarding());
+                failed = response.statusCode() >= 400;
+            } catch (IOException e) {
+                failed = true;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+            samples.computeIfAbsent(endpoint, e -> new Samples()).record(System.nanoTime() - started, failed);
+        }
+        return samples;
+    }
+
+    private static void print(Map<Endpoint, Samples> samples, Duration duration) {
+        double seconds = duration.toNanos() / 1e9;
+        printHeader("endpoint");
+        for (Endpoint endpoint : Endpoint.values()) {
+            Samples endpointSamples = samples.get(endpoint);
+            if (endpointSamples != null) {
+                printRow(endpoint.getLabel(), endpointSamples, seconds);
+            }
+        }
+        printRow("total", total(samples), seconds);
+    }
+
+    static Samples total(Map<Endpoint, Samples> samples) {
+        Samples total = new Samples();
+        samples.values().forEach(total::addAll);
+        return total;
+    }
+
+    static void printHeader(String label) {
+        System.out.printf("%-22s %9s %9s %9s %9s %9s %9s %9s %9s%n",
+                label, "requests", "failed", "req/s", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms");
+    }
+
+    static void printRow(String label, Samples samples, double seconds) {
+        StringBuilder row = new StringBuilder(String.format("%-22s %9d %9d %9.1f",
+                label, samples.getCount(), samples.getFailures(), samples.getCount() / seconds));
+        for (double percentile : PERCENTILES) {
+            row.append(String.format(" %9.2f", samples.percentile(percentile) / 1e6));
+        }
+        row.append(String.format(" %9.2f", samples.percentile(100) / 1e6));
+        System.out.println(row);
+    }
+}
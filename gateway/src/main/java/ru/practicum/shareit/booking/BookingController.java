@@ -1,6 +1,7 @@
 package ru.practicum.shareit.booking;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Controller;
 import org.springframework.web.bind.annotation.*;
@@ -9,6 +10,7 @@ import ru.practicum.shareit.booking.dto.BookingRequestDto;
 import javax.validation.Valid;
 
 @Controller
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 @RequestMapping(path = "/bookings")
 @RequiredArgsConstructor
 public class BookingController {
@@ -54,4 +56,22 @@ public class BookingController {
             @RequestParam(required = false) Integer size) {
         return bookingClient.getBookingsOwner(userId, state, from, size);
     }
+
+    @GetMapping(params = "cursor")
+    public ResponseEntity<Object> getAllBookingsOfUserByCursor(
+            @RequestHeader("X-Sharer-User-Id") Long userId,
+            @RequestParam(defaultValue = "ALL") String state,
+            @RequestParam String cursor,
+            @RequestParam(defaultValue = "10") Integer size) {
+        return bookingClient.getBookingsByCursor(userId, state, cursor, size);
+    }
+
+    @GetMapping(path = "/owner", params = "cursor")
+    public ResponseEntity<Object> getAllBookingsForOwnerItemsByCursor(
+            @RequestHeader("X-Sharer-User-Id") Long userId,
+            @RequestParam(defaultValue = "ALL") String state,
+            @RequestParam String cursor,
+            @RequestParam(defaultValue = "10") Integer size) {
+        return bookingClient.getBookingsOwnerByCursor(userId, state, cursor, size);
+    }
 }
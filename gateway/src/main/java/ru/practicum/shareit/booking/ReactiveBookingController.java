@@ -0,0 +1,78 @@
+package ru.practicum.shareit.booking;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+import ru.practicum.shareit.booking.dto.BookingRequestDto;
+
+import javax.validation.Valid;
+
+@Controller
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@RequestMapping(path = "/bookings")
+@RequiredArgsConstructor
+public class ReactiveBookingController {
+
+    private final ReactiveBookingClient bookingClient;
+
+    @PostMapping
+    public Mono<ResponseEntity<Object>> createBooking(
+            @RequestHeader("X-Sharer-User-Id") Long userId,
+            @RequestBody @Valid BookingRequestDto bookingRequestDto) {
+        return bookingClient.bookItem(userId, bookingRequestDto);
+    }
+
+    @PatchMapping("/{bookingId}")
+    public Mono<ResponseEntity<Object>> updateBooking(
+            @RequestHeader("X-Sharer-User-Id") Long userId,
+            @PathVariable Long bookingId,
+            @RequestParam Boolean approved) {
+        return bookingClient.updateBooking(userId, bookingId, approved);
+    }
+
+    @GetMapping("/{bookingId}")
+    public Mono<ResponseEntity<Object>> getBooking(
+            @RequestHeader("X-Sharer-User-Id") Long userId,
+            @PathVariable Long bookingId) {
+        return bookingClient.getBooking(userId, bookingId);
+    }
+
+    @GetMapping
+    public Mono<ResponseEntity<Object>> getAllBookingsOfUser(
+            @RequestHeader("X-Sharer-User-Id") Long userId,
+            @RequestParam(defaultValue = "ALL") String state,
+            @RequestParam(required = false) Integer from,
+            @RequestParam(required = false) Integer size) {
+        return bookingClient.getBookings(userId, state, from, size);
+    }
+
+    @GetMapping("/owner")
+    public Mono<ResponseEntity<Object>> getAllBookingsForOwnerItems(
+            @RequestHeader("X-Sharer-User-Id") Long userId,
+            @RequestParam(defaultValue = "ALL") String state,
+            @RequestParam(required = false) Integer from,
+            @RequestParam(required = false) Integer size) {
+        return bookingClient.getBookingsOwner(userId, state, from, size);
+    }
+
+    @GetMapping(params = "cursor")
+    public Mono<ResponseEntity<Object>> getAllBookingsOfUserByCursor(
+            @RequestHeader("X-Sharer-User-Id") Long userId,
+            @RequestParam(defaultValue = "ALL") String state,
+            @RequestParam String cursor,
+            @RequestParam(defaultValue = "10") Integer size) {
+        return bookingClient.getBookingsByCursor(userId, state, cursor, size);
+    }
+
+    @GetMapping(path = "/owner", params = "cursor")
+    public Mono<ResponseEntity<Object>> getAllBookingsForOwnerItemsByCursor(
+            @RequestHeader("X-Sharer-User-Id") Long userId,
+            @RequestParam(defaultValue = "ALL") String state,
+            @RequestParam String cursor,
+            @RequestParam(defaultValue = "10") Integer size) {
+        return bookingClient.getBookingsOwnerByCursor(userId, state, cursor, size);
+    }
+}
@@ -5,7 +5,6 @@ import lombok.AllArgsConstructor;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.Setter;
-import org.apache.commons.lang.SerializationUtils;
 import ru.practicum.shareit.booking.dto.validation.ValidBookingRequest;
 
 import javax.validation.constraints.Future;
@@ -35,20 +34,24 @@ public class BookingRequestDto implements Serializable {
     private LocalDateTime end;
 
     public BookingRequestDto withItemId(Long itemId) {
-        BookingRequestDto bookingRequestDto = (BookingRequestDto) SerializationUtils.clone(this);
+        BookingRequestDto bookingRequestDto = copy();
         bookingRequestDto.setItemId(itemId);
         return bookingRequestDto;
     }
 
     public BookingRequestDto withStart(LocalDateTime start) {
-        BookingRequestDto bookingRequestDto = (BookingRequestDto) SerializationUtils.clone(this);
+        BookingRequestDto bookingRequestDto = copy();
         bookingRequestDto.setStart(start);
         return bookingRequestDto;
     }
 
     public BookingRequestDto withEnd(LocalDateTime end) {
-        BookingRequestDto bookingRequestDto = (BookingRequestDto) SerializationUtils.clone(this);
+        BookingRequestDto bookingRequestDto = copy();
         bookingRequestDto.setEnd(end);
         return bookingRequestDto;
     }
+
+    private BookingRequestDto copy() {
+        return new BookingRequestDto(itemId, start, end);
+    }
 }
@@ -1,12 +1,9 @@
 package ru.practicum.shareit.client;
 
-import java.util.List;
 import java.util.Map;
 
 import org.springframework.http.HttpEntity;
-import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
-import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.lang.Nullable;
 import org.springframework.web.client.HttpStatusCodeException;
@@ -15,9 +12,17 @@ import org.springframework.web.client.RestTemplate;
 public class BaseClient {
 
     protected final RestTemplate rest;
+    private final GatewayResponseCache cache;
+    private final String resource;
 
     public BaseClient(RestTemplate rest) {
+        this(rest, GatewayResponseCache.disabled(), "");
+    }
+
+    public BaseClient(RestTemplate rest, GatewayResponseCache cache, String resource) {
         this.rest = rest;
+        this.cache = cache;
+        this.resource = resource;
     }
 
     protected ResponseEntity<Object> get(String path) {
@@ -32,6 +37,22 @@ public class BaseClient {
         return makeAndSendRequest(HttpMethod.GET, path, userId, parameters, null);
     }
 
+    protected ResponseEntity<Object> getCached(String path, Long userId) {
+        return getCached(path, userId, null);
+    }
+
+    protected ResponseEntity<Object> getCached(String path, Long userId, @Nullable Map<String, Object> parameters) {
+        String key = GatewayResponseCache.key(path, userId, parameters);
+        ResponseEntity<Object> cachedResponse = cache.get(resource, key);
+        if (cachedResponse != null) {
+            return cachedResponse;
+        }
+        long generation = cache.generation(resource);
+        ResponseEntity<Object> response = get(path, userId, parameters);
+        cache.put(resource, key, generation, response);
+        return response;
+    }
+
     protected <T> ResponseEntity<Object> post(String path, T body) {
         return post(path, null, null, body);
     }
@@ -81,37 +102,40 @@ public class BaseClient {
     }
 
     private <T> ResponseEntity<Object> makeAndSendRequest(HttpMethod method, String path, Long userId, @Nullable Map<String, Object> parameters, @Nullable T body) {
-        HttpEntity<T> requestEntity = new HttpEntity<>(body, defaultHeaders(userId));
+        try {
+            return exchange(method, path, userId, parameters, body);
+        } finally {
+            if (method != HttpMethod.GET) {
+                cache.invalidate(resource);
+            }
+        }
+    }
 
-        ResponseEntity<Object> shareitServerResponse;
+    /**
+     * Relays the server response as raw bytes together with its status and end-to-end headers, so the body is
+     * never parsed into an object tree only to be serialized again by the gateway controller.
+     */
+    private <T> ResponseEntity<Object> exchange(HttpMethod method, String path, Long userId, @Nullable Map<String, Object> parameters, @Nullable T body) {
+        HttpEntity<T> requestEntity = new HttpEntity<>(body, ServerHeaders.requestHeaders(userId));
+
+        ResponseEntity<byte[]> shareitServerResponse;
         try {
             if (parameters != null) {
-                shareitServerResponse = rest.exchange(path, method, requestEntity, Object.class, parameters);
+                shareitServerResponse = rest.exchange(path, method, requestEntity, byte[].class, parameters);
             } else {
-                shareitServerResponse = rest.exchange(path, method, requestEntity, Object.class);
+                shareitServerResponse = rest.exchange(path, method, requestEntity, byte[].class);
             }
         } catch (HttpStatusCodeException e) {
-            return ResponseEntity.status(e.getStatusCode()).body(e.getResponseBodyAsByteArray());
+            return ResponseEntity.status(e.getStatusCode())
+                    .headers(ServerHeaders.relayedHeaders(e.getResponseHeaders()))
+                    .body(e.getResponseBodyAsByteArray());
         }
         return prepareGatewayResponse(shareitServerResponse);
     }
 
-    private HttpHeaders defaultHeaders(Long userId) {
-        HttpHeaders headers = new HttpHeaders();
-        headers.setContentType(MediaType.APPLICATION_JSON);
-        headers.setAccept(List.of(MediaType.APPLICATION_JSON));
-        if (userId != null) {
-            headers.set("X-Sharer-User-Id", String.valueOf(userId));
-        }
-        return headers;
-    }
-
-    private static ResponseEntity<Object> prepareGatewayResponse(ResponseEntity<Object> response) {
-        if (response.getStatusCode().is2xxSuccessful()) {
-            return response;
-        }
-
-        ResponseEntity.BodyBuilder responseBuilder = ResponseEntity.status(response.getStatusCode());
+    private static ResponseEntity<Object> prepareGatewayResponse(ResponseEntity<byte[]> response) {
+        ResponseEntity.BodyBuilder responseBuilder = ResponseEntity.status(response.getStatusCode())
+                .headers(ServerHeaders.relayedHeaders(response.getHeaders()));
 
         if (response.hasBody()) {
             return responseBuilder.body(response.getBody());
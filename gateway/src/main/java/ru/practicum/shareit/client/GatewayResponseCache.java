@@ -0,0 +1,203 @@
+package ru.practicum.shareit.client;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.ResponseEntity;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Successful server responses to repeated reads, kept for a short per-resource TTL and bounded by their total
+ * body size. A mutation forwarded by any client invalidates every resource whose responses it can change by
+ * bumping that resource's generation; entries of an older generation are dropped when next read, and a read
+ * that was already in flight when the generation changed is not stored at all.
+ */
+@Component
+public class GatewayResponseCache implements MeterBinder {
+
+    /**
+     * Items carry their bookings and their comments with author names, and requests list the items that
+     * answer them. Deleting a user also deletes their items and requests.
+     */
+    private static final Map<String, Set<String>> AFFECTED_RESOURCES = Map.of(
+            "/users", Set.of("/users", "/items", "/requests"),
+            "/items", Set.of("/items", "/requests"),
+            "/bookings", Set.of("/items"),
+            "/requests", Set.of("/requests")
+    );
+
+    private final boolean enabled;
+    private final long maxBytes;
+    private final long maxEntryBytes;
+    private final Map<String, Duration> ttls;
+    private final Clock clock;
+    private final LinkedHashMap<String, CachedResponse> responses = new LinkedHashMap<>(16, 0.75f, true);
+    private final Map<String, Long> generations = new HashMap<>();
+    private final AtomicLong hitCount = new AtomicLong();
+    private final AtomicLong missCount = new AtomicLong();
+    private long bytes;
+
+    @Autowired
+    public GatewayResponseCache(
+            @Value("${shareit-server.cache.enabled:true}") boolean enabled,
+            @Value("${shareit-server.cache.max-size:16MB}") DataSize maxSize,
+            @Value("${shareit-server.cache.max-entry-size:256KB}") DataSize maxEntrySize,
+            @Value("${shareit-server.cache.ttl.items:PT5S}") Duration itemsTtl,
+            @Value("${shareit-server.cache.ttl.requests:PT5S}") Duration requestsTtl,
+            @Value("${shareit-server.cache.ttl.users:PT10S}") Duration usersTtl) {
+        this(enabled, maxSize, maxEntrySize,
+                Map.of("/items", itemsTtl, "/requests", requestsTtl, "/users", usersTtl), Clock.systemUTC());
+    }
+
+    public GatewayResponseCache(
+            boolean enabled, DataSize maxSize, DataSize maxEntrySize, Map<String, Duration> ttls, Clock clock) {
+        this.enabled = enabled;
+        this.maxBytes = maxSize.toBytes();
+        this.maxEntryBytes = Math.min(maxEntrySize.toBytes(), maxBytes);
+        this.ttls = ttls;
+        this.clock = clock;
+    }
+
+    public static GatewayResponseCache disabled() {
+        return new GatewayResponseCache(false, DataSize.ofBytes(0), DataSize.ofBytes(0), Map.of(), Clock.systemUTC());
+    }
+
+    static String key(String path, Long userId, @Nullable Map<String, Object> parameters) {
+        String uri = parameters == null ? path : UriComponentsBuilder.fromUriString(path)
+                .buildAndExpand(parameters)
+                .toUriString();
+        return uri + "#" + userId;
+    }
+
+    @Nullable
+    public synchronized ResponseEntity<Object> get(String resource, String key) {
+        if (!enabled) {
+            return null;
+        }
+        String resourceKey = resource + key;
+        CachedResponse cachedResponse = responses.get(resourceKey);
+        if (cachedResponse != null && cachedResponse.generation == generation(resource)
+                && clock.instant().isBefore(cachedResponse.expiresAt)) {
+            hitCount.incrementAndGet();
+            return cachedResponse.response;
+        }
+        if (cachedResponse != null) {
+            remove(resourceKey);
+        }
+        missCount.incrementAndGet();
+        return null;
+    }
+
+    public synchronized long generation(String resource) {
+        return generations.getOrDefault(resource, 0L);
+    }
+
+    /**
+     * Stores a successful response read at {@code generation}, unless the resource has changed since.
+     */
+    public synchronized void put(String resource, String key, long generation, ResponseEntity<Object> response) {
+        Duration ttl = ttls.get(resource);
+        long weight = weight(key, response);
+        if (!enabled || ttl == null || !response.getStatusCode().is2xxSuccessful() || weight > maxEntryBytes
+                || generation != generation(resource)) {
+            return;
+        }
+        String resourceKey = resource + key;
+        remove(resourceKey);
+        responses.put(resourceKey, new CachedResponse(response, weight, generation, clock.instant().plus(ttl)));
+        bytes += weight;
+
+        Iterator<CachedResponse> eldest = responses.values().iterator();
+        while (bytes > maxBytes && eldest.hasNext()) {
+            bytes -= eldest.next().weight;
+            eldest.remove();
+        }
+    }
+
+    /**
+     * Called once a mutation of {@code resource} has been forwarded, whatever the server answered.
+     */
+    public synchronized void invalidate(String resource) {
+        for (String affected : AFFECTED_RESOURCES.getOrDefault(resource, Set.of(resource))) {
+            generations.merge(affected, 1L, Long::sum);
+        }
+    }
+
+    public long getHitCount() {
+        return hitCount.get();
+    }
+
+    public long getMissCount() {
+        return missCount.get();
+    }
+
+    public synchronized int size() {
+        return responses.size();
+    }
+
+    public synchronized long getBytes() {
+        return bytes;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("cache.gets", this, GatewayResponseCache::getHitCount)
+                .tag("cache", "gateway-responses")
+                .tag("result", "hit")
+                .register(registry);
+        FunctionCounter.builder("cache.gets", this, GatewayResponseCache::getMissCount)
+                .tag("cache", "gateway-responses")
+                .tag("result", "miss")
+                .register(registry);
+        Gauge.builder("cache.size", this, GatewayResponseCache::size)
+                .tag("cache", "gateway-responses")
+                .register(registry);
+        Gauge.builder("cache.bytes", this, GatewayResponseCache::getBytes)
+                .tag("cache", "gateway-responses")
+                .baseUnit("bytes")
+                .register(registry);
+    }
+
+    private void remove(String resourceKey) {
+        CachedResponse removed = responses.remove(resourceKey);
+        if (removed != null) {
+            bytes -= removed.weight;
+        }
+    }
+
+    private static long weight(String key, ResponseEntity<Object> response) {
+        Object body = response.getBody();
+        return key.length() + (body instanceof byte[] ? ((byte[]) body).length : 0);
+    }
+
+    private static final class CachedResponse {
+
+        private final ResponseEntity<Object> response;
+        private final long weight;
+        private final long generation;
+        private final Instant expiresAt;
+
+        private CachedResponse(ResponseEntity<Object> response, long weight, long generation, Instant expiresAt) {
+            this.response = response;
+            this.weight = weight;
+            this.generation = generation;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
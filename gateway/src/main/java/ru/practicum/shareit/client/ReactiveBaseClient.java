@@ -0,0 +1,133 @@
+package ru.practicum.shareit.client;
+
+import java.util.Map;
+
+import org.springframework.http.HttpMethod;
+import org.springframework.http.ResponseEntity;
+import org.springframework.lang.Nullable;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+/**
+ * Non-blocking counterpart of {@link BaseClient}: the same requests and the same relayed responses, but
+ * the calling thread is released while the server is working.
+ */
+public class ReactiveBaseClient {
+
+    protected final WebClient web;
+    private final GatewayResponseCache cache;
+    private final String resource;
+
+    public ReactiveBaseClient(WebClient web) {
+        this(web, GatewayResponseCache.disabled(), "");
+    }
+
+    public ReactiveBaseClient(WebClient web, GatewayResponseCache cache, String resource) {
+        this.web = web;
+        this.cache = cache;
+        this.resource = resource;
+    }
+
+    protected Mono<ResponseEntity<Object>> get(String path) {
+        return get(path, null, null);
+    }
+
+    protected Mono<ResponseEntity<Object>> get(String path, Long userId) {
+        return get(path, userId, null);
+    }
+
+    protected Mono<ResponseEntity<Object>> get(String path, Long userId, @Nullable Map<String, Object> parameters) {
+        return makeAndSendRequest(HttpMethod.GET, path, userId, parameters, null);
+    }
+
+    protected Mono<ResponseEntity<Object>> getCached(String path, Long userId) {
+        return getCached(path, userId, null);
+    }
+
+    protected Mono<ResponseEntity<Object>> getCached(String path, Long userId, @Nullable Map<String, Object> parameters) {
+        return Mono.defer(() -> {
+            String key = GatewayResponseCache.key(path, userId, parameters);
+            ResponseEntity<Object> cachedResponse = cache.get(resource, key);
+            if (cachedResponse != null) {
+                return Mono.just(cachedResponse);
+            }
+            long generation = cache.generation(resource);
+            return get(path, userId, parameters)
+                    .doOnNext(response -> cache.put(resource, key, generation, response));
+        });
+    }
+
+    protected <T> Mono<ResponseEntity<Object>> post(String path, T body) {
+        return post(path, null, null, body);
+    }
+
+    protected <T> Mono<ResponseEntity<Object>> post(String path, Long userId, T body) {
+        return post(path, userId, null, body);
+    }
+
+    protected <T> Mono<ResponseEntity<Object>> post(String path, Long userId, @Nullable Map<String, Object> parameters, T body) {
+        return makeAndSendRequest(HttpMethod.POST, path, userId, parameters, body);
+    }
+
+    protected <T> Mono<ResponseEntity<Object>> put(String path, Long userId, T body) {
+        return put(path, userId, null, body);
+    }
+
+    protected <T> Mono<ResponseEntity<Object>> put(String path, Long userId, @Nullable Map<String, Object> parameters, T body) {
+        return makeAndSendRequest(HttpMethod.PUT, path, userId, parameters, body);
+    }
+
+    protected <T> Mono<ResponseEntity<Object>> patch(String path, T body) {
+        return patch(path, null, null, body);
+    }
+
+    protected <T> Mono<ResponseEntity<Object>> patch(String path, Long userId) {
+        return patch(path, userId, null, null);
+    }
+
+    protected <T> Mono<ResponseEntity<Object>> patch(String path, Long userId, T body) {
+        return patch(path, userId, null, body);
+    }
+
+    protected <T> Mono<ResponseEntity<Object>> patch(String path, Long userId, @Nullable Map<String, Object> parameters, T body) {
+        return makeAndSendRequest(HttpMethod.PATCH, path, userId, parameters, body);
+    }
+
+    protected Mono<ResponseEntity<Object>> delete(String path) {
+        return delete(path, null, null);
+    }
+
+    protected Mono<ResponseEntity<Object>> delete(String path, Long userId) {
+        return delete(path, userId, null);
+    }
+
+    protected Mono<ResponseEntity<Object>> delete(String path, Long userId, @Nullable Map<String, Object> parameters) {
+        return makeAndSendRequest(HttpMethod.DELETE, path, userId, parameters, null);
+    }
+
+    /**
+     * Error statuses are relayed like any other response instead of being turned into exceptions, so the
+     * client sees exactly what the server answered.
+     */
+    private <T> Mono<ResponseEntity<Object>> makeAndSendRequest(HttpMethod method, String path, Long userId, @Nullable Map<String, Object> parameters, @Nullable T body) {
+        WebClient.RequestBodySpec request = web.method(method)
+                .uri(path, parameters != null ? parameters : Map.of())
+                .headers(headers -> headers.addAll(ServerHeaders.requestHeaders(userId)));
+
+        WebClient.RequestHeadersSpec<?> exchange = body != null ? request.bodyValue(body) : request;
+        Mono<ResponseEntity<Object>> response = exchange.exchangeToMono(serverResponse -> serverResponse.toEntity(byte[].class))
+                .map(ReactiveBaseClient::prepareGatewayResponse);
+        return method == HttpMethod.GET ? response : response.doFinally(signal -> cache.invalidate(resource));
+    }
+
+    private static ResponseEntity<Object> prepareGatewayResponse(ResponseEntity<byte[]> response) {
+        ResponseEntity.BodyBuilder responseBuilder = ResponseEntity.status(response.getStatusCode())
+                .headers(ServerHeaders.relayedHeaders(response.getHeaders()));
+
+        if (response.hasBody()) {
+            return responseBuilder.body(response.getBody());
+        }
+
+        return responseBuilder.build();
+    }
+}
@@ -0,0 +1,52 @@
+package ru.practicum.shareit.client;
+
+import io.netty.channel.ChannelOption;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.reactive.ClientHttpConnector;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.time.Duration;
+
+/**
+ * One connection pool shared by every {@link ReactiveBaseClient}, configured from the same
+ * {@code shareit-server.http-client.*} settings as {@link ServerHttpClientConfig}. Requests waiting for a
+ * connection are queued without holding a thread, so the pending queue can be much longer than the pool.
+ */
+@Configuration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveServerClientConfig {
+
+    private static final String POOL_NAME = "shareit-server";
+
+    @Bean(destroyMethod = "dispose")
+    public ConnectionProvider serverConnectionProvider(
+            @Value("${shareit-server.http-client.max-connections:200}") int maxConnections,
+            @Value("${shareit-server.http-client.max-pending-requests:10000}") int maxPendingRequests,
+            @Value("${shareit-server.http-client.connection-request-timeout:PT5S}") Duration connectionRequestTimeout,
+            @Value("${shareit-server.http-client.keep-alive:PT30S}") Duration keepAlive) {
+        return ConnectionProvider.builder(POOL_NAME)
+                .maxConnections(maxConnections)
+                .pendingAcquireMaxCount(maxPendingRequests)
+                .pendingAcquireTimeout(connectionRequestTimeout)
+                .maxIdleTime(keepAlive)
+                .evictInBackground(keepAlive)
+                .metrics(true)
+                .build();
+    }
+
+    @Bean
+    public ClientHttpConnector serverHttpConnector(
+            ConnectionProvider serverConnectionProvider,
+            @Value("${shareit-server.http-client.connect-timeout:PT2S}") Duration connectTimeout,
+            @Value("${shareit-server.http-client.read-timeout:PT30S}") Duration readTimeout) {
+        HttpClient httpClient = HttpClient.create(serverConnectionProvider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) connectTimeout.toMillis())
+                .responseTimeout(readTimeout);
+        return new ReactorClientHttpConnector(httpClient);
+    }
+}
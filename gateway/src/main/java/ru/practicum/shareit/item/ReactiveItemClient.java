@@ -0,0 +1,80 @@
+package ru.practicum.shareit.item;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.client.reactive.ClientHttpConnector;
+import org.springframework.stereotype.Service;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+import ru.practicum.shareit.client.GatewayResponseCache;
+import ru.practicum.shareit.client.ReactiveBaseClient;
+import ru.practicum.shareit.item.dto.CommentDto;
+import ru.practicum.shareit.item.dto.ItemDto;
+
+import java.util.Map;
+
+@Service
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveItemClient extends ReactiveBaseClient {
+
+    private static final String API_PREFIX = "/items";
+
+    @Autowired
+    public ReactiveItemClient(
+            @Value("${shareit-server.url}") String serverUrl,
+            WebClient.Builder builder,
+            ClientHttpConnector serverHttpConnector,
+            GatewayResponseCache responseCache) {
+        super(
+                builder
+                        .baseUrl(serverUrl + API_PREFIX)
+                        .clientConnector(serverHttpConnector)
+                        .build(),
+                responseCache,
+                API_PREFIX
+        );
+    }
+
+    public ReactiveItemClient(WebClient web) {
+        super(web);
+    }
+
+    public Mono<ResponseEntity<Object>> createItem(Long userId, ItemDto requestDto) {
+        return post("", userId, requestDto);
+    }
+
+    public Mono<ResponseEntity<Object>> updateItem(Long userId, Long itemId, ItemDto requestDto) {
+        return patch("/" + itemId, userId, requestDto);
+    }
+
+    public Mono<ResponseEntity<Object>> getItem(Long userId, Long itemId) {
+        return getCached("/" + itemId, userId);
+    }
+
+    public Mono<ResponseEntity<Object>> deleteItem(Long userId, Long itemId) {
+        return delete("/" + itemId, userId);
+    }
+
+    public Mono<ResponseEntity<Object>> getAllItems(Long userId, Integer from, Integer size) {
+        Map<String, Object> parameters = Map.of(
+                "from", from == null ? "" : from,
+                "size", size == null ? "" : size
+        );
+        return get("?from={from}&size={size}", userId, parameters);
+    }
+
+    public Mono<ResponseEntity<Object>> searchItems(Long userId, String text, Integer from, Integer size) {
+        Map<String, Object> parameters = Map.of(
+                "text", text == null ? "" : text,
+                "from", from == null ? "" : from,
+                "size", size == null ? "" : size
+        );
+        return getCached("/search?text={text}&from={from}&size={size}", userId, parameters);
+    }
+
+    public Mono<ResponseEntity<Object>> createComment(Long userId, Long itemId, CommentDto requestDto) {
+        return post("/" + itemId + "/comment", userId, requestDto);
+    }
+}
@@ -0,0 +1,73 @@
+package ru.practicum.shareit.item;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+import ru.practicum.shareit.item.dto.CommentDto;
+import ru.practicum.shareit.item.dto.ItemDto;
+
+import javax.validation.Valid;
+
+@RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@RequiredArgsConstructor
+@RequestMapping("/items")
+public class ReactiveItemController {
+
+    private final ReactiveItemClient itemClient;
+
+    @GetMapping("/{itemId}")
+    public Mono<ResponseEntity<Object>> getItem(
+            @RequestHeader(value = "X-Sharer-User-Id", required = false) Long userId,
+            @PathVariable Long itemId) {
+        return itemClient.getItem(userId, itemId);
+    }
+
+    @PostMapping()
+    public Mono<ResponseEntity<Object>> createItem(
+            @RequestHeader("X-Sharer-User-Id") Long userId,
+            @RequestBody @Valid ItemDto itemDto) {
+        return itemClient.createItem(userId, itemDto);
+    }
+
+    @PatchMapping("/{itemId}")
+    public Mono<ResponseEntity<Object>> updateItem(
+            @RequestHeader("X-Sharer-User-Id") Long userId,
+            @PathVariable Long itemId,
+            @RequestBody ItemDto itemDto) {
+        return itemClient.updateItem(userId, itemId, itemDto);
+    }
+
+    @DeleteMapping("/{itemId}")
+    public Mono<ResponseEntity<Object>> deleteItem(
+            @RequestHeader("X-Sharer-User-Id") Long userId,
+            @PathVariable Long itemId) {
+        return itemClient.deleteItem(userId, itemId);
+    }
+
+    @GetMapping
+    public Mono<ResponseEntity<Object>> getAllItems(
+            @RequestHeader("X-Sharer-User-Id") Long userId,
+            @RequestParam(required = false) Integer from,
+            @RequestParam(required = false) Integer size) {
+        return itemClient.getAllItems(userId, from, size);
+    }
+
+    @GetMapping("/search")
+    public Mono<ResponseEntity<Object>> searchItem(
+            @RequestParam String text,
+            @RequestParam(required = false) Integer from,
+            @RequestParam(required = false) Integer size) {
+        return itemClient.searchItems(0L, text, from, size);
+    }
+
+    @PostMapping("/{itemId}/comment")
+    public Mono<ResponseEntity<Object>> addComment(
+            @RequestHeader("X-Sharer-User-Id") Long userId,
+            @PathVariable Long itemId,
+            @RequestBody @Valid CommentDto commentDto) {
+        return itemClient.createComment(userId, itemId, commentDto);
+    }
+}
@@ -5,7 +5,6 @@ import lombok.AllArgsConstructor;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.Setter;
-import org.apache.commons.lang.SerializationUtils;
 
 import javax.validation.constraints.NotEmpty;
 import javax.validation.constraints.NotNull;
@@ -37,8 +36,12 @@ public class CommentDto implements Serializable {
     private LocalDateTime created;
 
     public CommentDto withText(String text) {
-        CommentDto commentDto = (CommentDto) SerializationUtils.clone(this);
+        CommentDto commentDto = copy();
         commentDto.setText(text);
         return commentDto;
     }
+
+    private CommentDto copy() {
+        return new CommentDto(id, text, authorName, created);
+    }
 }
@@ -5,11 +5,11 @@ import lombok.AllArgsConstructor;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.Setter;
-import org.apache.commons.lang.SerializationUtils;
 
 import javax.validation.constraints.NotEmpty;
 import javax.validation.constraints.NotNull;
 import java.io.Serializable;
+import java.util.ArrayList;
 import java.util.Collection;
 
 @Getter
@@ -45,20 +45,24 @@ public class ItemDto implements Serializable {
     private Collection<CommentDto> comments;
 
     public ItemDto withName(String name) {
-        ItemDto itemDto = (ItemDto) SerializationUtils.clone(this);
+        ItemDto itemDto = copy();
         itemDto.setName(name);
         return itemDto;
     }
 
     public ItemDto withDescription(String description) {
-        ItemDto itemDto = (ItemDto) SerializationUtils.clone(this);
+        ItemDto itemDto = copy();
         itemDto.setDescription(description);
         return itemDto;
     }
 
     public ItemDto withAvailable(Boolean available) {
-        ItemDto itemDto = (ItemDto) SerializationUtils.clone(this);
+        ItemDto itemDto = copy();
         itemDto.setAvailable(available);
         return itemDto;
     }
+
+    private ItemDto copy() {
+        return new ItemDto(id, name, description, available, requestId, comments != null ? new ArrayList<>(comments) : null);
+    }
 }
@@ -0,0 +1,62 @@
+package ru.practicum.shareit.request;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.client.reactive.ClientHttpConnector;
+import org.springframework.stereotype.Service;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+import ru.practicum.shareit.client.GatewayResponseCache;
+import ru.practicum.shareit.client.ReactiveBaseClient;
+import ru.practicum.shareit.request.dto.ItemRequestDto;
+
+import java.util.Map;
+
+@Service
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveItemRequestClient extends ReactiveBaseClient {
+
+    private static final String API_PREFIX = "/requests";
+
+    @Autowired
+    public ReactiveItemRequestClient(
+            @Value("${shareit-server.url}") String serverUrl,
+            WebClient.Builder builder,
+            ClientHttpConnector serverHttpConnector,
+            GatewayResponseCache responseCache) {
+        super(
+                builder
+                        .baseUrl(serverUrl + API_PREFIX)
+                        .clientConnector(serverHttpConnector)
+                        .build(),
+                responseCache,
+                API_PREFIX
+        );
+    }
+
+    public ReactiveItemRequestClient(WebClient web) {
+        super(web);
+    }
+
+    public Mono<ResponseEntity<Object>> createItemRequest(Long userId, ItemRequestDto requestDto) {
+        return post("", userId, requestDto);
+    }
+
+    public Mono<ResponseEntity<Object>> getItemRequest(Long userId, Long requestId) {
+        return get("/" + requestId, userId);
+    }
+
+    public Mono<ResponseEntity<Object>> getOwnItemRequests(Long userId) {
+        return get("", userId);
+    }
+
+    public Mono<ResponseEntity<Object>> getAllItemRequests(Long userId, Integer from, Integer size) {
+        Map<String, Object> parameters = Map.of(
+                "from", from == null ? "" : from,
+                "size", size == null ? "" : size
+        );
+        return getCached("/all?from={from}&size={size}", userId, parameters);
+    }
+}
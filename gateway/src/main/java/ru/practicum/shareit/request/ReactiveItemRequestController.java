@@ -0,0 +1,46 @@
+package ru.practicum.shareit.request;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+import ru.practicum.shareit.request.dto.ItemRequestDto;
+
+import javax.validation.Valid;
+
+@RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@RequiredArgsConstructor
+@RequestMapping(path = "/requests")
+public class ReactiveItemRequestController {
+
+    private final ReactiveItemRequestClient itemRequestClient;
+
+    @GetMapping("/{requestId}")
+    public Mono<ResponseEntity<Object>> getItemRequest(
+            @RequestHeader("X-Sharer-User-Id") Long userId,
+            @PathVariable Long requestId) {
+        return itemRequestClient.getItemRequest(userId, requestId);
+    }
+
+    @PostMapping()
+    public Mono<ResponseEntity<Object>> createItemRequest(
+            @RequestHeader("X-Sharer-User-Id") Long userId,
+            @RequestBody @Valid ItemRequestDto itemRequestDto) {
+        return itemRequestClient.createItemRequest(userId, itemRequestDto);
+    }
+
+    @GetMapping
+    public Mono<ResponseEntity<Object>> getOwnItemRequests(@RequestHeader(value = "X-Sharer-User-Id") Long userId) {
+        return itemRequestClient.getOwnItemRequests(userId);
+    }
+
+    @GetMapping("/all")
+    public Mono<ResponseEntity<Object>> getAllItemRequests(
+            @RequestHeader(value = "X-Sharer-User-Id") Long userId,
+            @RequestParam(required = false) Integer from,
+            @RequestParam(required = false) Integer size) {
+        return itemRequestClient.getAllItemRequests(userId, from, size);
+    }
+}
@@ -5,12 +5,12 @@ import lombok.AllArgsConstructor;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.Setter;
-import org.apache.commons.lang.SerializationUtils;
 
 import javax.validation.constraints.NotEmpty;
 import javax.validation.constraints.NotNull;
 import java.io.Serializable;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Collection;
 
 @Getter
@@ -36,8 +36,12 @@ public class ItemRequestDto implements Serializable {
     private Collection<Object> items;
 
     public ItemRequestDto withDescription(String description) {
-        ItemRequestDto requestDto = (ItemRequestDto) SerializationUtils.clone(this);
+        ItemRequestDto requestDto = copy();
         requestDto.setDescription(description);
         return requestDto;
     }
+
+    private ItemRequestDto copy() {
+        return new ItemRequestDto(id, description, created, items != null ? new ArrayList<>(items) : null);
+    }
 }
@@ -0,0 +1,60 @@
+package ru.practicum.shareit.user;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.client.reactive.ClientHttpConnector;
+import org.springframework.stereotype.Service;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+import ru.practicum.shareit.client.GatewayResponseCache;
+import ru.practicum.shareit.client.ReactiveBaseClient;
+import ru.practicum.shareit.user.dto.UserDto;
+
+@Service
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveUserClient extends ReactiveBaseClient {
+
+    private static final String API_PREFIX = "/users";
+
+    @Autowired
+    public ReactiveUserClient(
+            @Value("${shareit-server.url}") String serverUrl,
+            WebClient.Builder builder,
+            ClientHttpConnector serverHttpConnector,
+            GatewayResponseCache responseCache) {
+        super(
+                builder
+                        .baseUrl(serverUrl + API_PREFIX)
+                        .clientConnector(serverHttpConnector)
+                        .build(),
+                responseCache,
+                API_PREFIX
+        );
+    }
+
+    public ReactiveUserClient(WebClient web) {
+        super(web);
+    }
+
+    public Mono<ResponseEntity<Object>> createUser(UserDto requestDto) {
+        return post("", requestDto);
+    }
+
+    public Mono<ResponseEntity<Object>> updateUser(Long userId, UserDto requestDto) {
+        return patch("/" + userId, requestDto);
+    }
+
+    public Mono<ResponseEntity<Object>> getUser(Long userId) {
+        return getCached("/" + userId, null);
+    }
+
+    public Mono<ResponseEntity<Object>> deleteUser(Long userId) {
+        return delete("/" + userId, userId);
+    }
+
+    public Mono<ResponseEntity<Object>> getAllUsers() {
+        return get("");
+    }
+}
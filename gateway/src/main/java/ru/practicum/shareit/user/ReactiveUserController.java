@@ -0,0 +1,46 @@
+package ru.practicum.shareit.user;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+import ru.practicum.shareit.user.dto.UserDto;
+
+import javax.validation.Valid;
+
+@RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@RequiredArgsConstructor
+@RequestMapping(path = "/users")
+public class ReactiveUserController {
+
+    private final ReactiveUserClient userClient;
+
+    @GetMapping("/{userId}")
+    public Mono<ResponseEntity<Object>> getUser(@PathVariable Long userId) {
+        return userClient.getUser(userId);
+    }
+
+    @PostMapping
+    public Mono<ResponseEntity<Object>> createUser(@RequestBody @Valid UserDto userDto) {
+        return userClient.createUser(userDto);
+    }
+
+    @PatchMapping("/{userId}")
+    public Mono<ResponseEntity<Object>> updateUser(
+            @PathVariable Long userId,
+            @RequestBody UserDto userDto) {
+        return userClient.updateUser(userId, userDto);
+    }
+
+    @DeleteMapping("/{userId}")
+    public Mono<ResponseEntity<Object>> deleteUser(@PathVariable Long userId) {
+        return userClient.deleteUser(userId);
+    }
+
+    @GetMapping
+    public Mono<ResponseEntity<Object>> getAllUsers() {
+        return userClient.getAllUsers();
+    }
+}
@@ -5,7 +5,6 @@ import lombok.AllArgsConstructor;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.Setter;
-import org.apache.commons.lang.SerializationUtils;
 
 import javax.validation.constraints.Email;
 import javax.validation.constraints.NotNull;
@@ -32,14 +31,18 @@ public class UserDto implements Serializable {
     private String email;
 
     public UserDto withName(String name) {
-        UserDto userDto = (UserDto) SerializationUtils.clone(this);
+        UserDto userDto = copy();
         userDto.setName(name);
         return userDto;
     }
 
     public UserDto withEmail(String email) {
-        UserDto userDto = (UserDto) SerializationUtils.clone(this);
+        UserDto userDto = copy();
         userDto.setEmail(email);
         return userDto;
     }
+
+    private UserDto copy() {
+        return new UserDto(id, name, email);
+    }
 }
@@ -0,0 +1,71 @@
+package ru.practicum.shareit;
+
+import org.apache.coyote.ProtocolHandler;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.boot.context.annotation.UserConfigurations;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.boot.test.context.runner.ReactiveWebApplicationContextRunner;
+import org.springframework.boot.test.context.runner.WebApplicationContextRunner;
+import org.springframework.boot.web.embedded.tomcat.TomcatProtocolHandlerCustomizer;
+import ru.practicum.shareit.config.VirtualThreadsConfig;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+class VirtualThreadsConfigTest {
+
+    private final WebApplicationContextRunner runner = new WebApplicationContextRunner()
+            .withConfiguration(AutoConfigurations.of(TaskExecutionAutoConfiguration.class))
+            .withConfiguration(UserConfigurations.of(VirtualThreadsConfig.class));
+
+    @Test
+    void platformThreadsByDefaultTest() {
+        runner.run(context -> assertThat(context).doesNotHaveBean(TomcatProtocolHandlerCustomizer.class));
+        runner.withPropertyValues("shareit.threads.virtual=false")
+                .run(context -> assertThat(context).doesNotHaveBean(TomcatProtocolHandlerCustomizer.class));
+    }
+
+    @Test
+    void servletApplicationsOnlyTest() {
+        new ReactiveWebApplicationContextRunner()
+                .withConfiguration(UserConfigurations.of(VirtualThreadsConfig.class))
+                .withPropertyValues("shareit.threads.virtual=true")
+                .run(context -> assertThat(context).hasNotFailed()
+                        .doesNotHaveBean(TomcatProtocolHandlerCustomizer.class));
+        new ApplicationContextRunner()
+                .withConfiguration(UserConfigurations.of(VirtualThreadsConfig.class))
+                .withPropertyValues("shareit.threads.virtual=true")
+                .run(context -> assertThat(context).hasNotFailed()
+                        .doesNotHaveBean(TomcatProtocolHandlerCustomizer.class));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void virtualThreadsNeedJdk21Test() {
+        runner.withPropertyValues("shareit.threads.virtual=true").run(context -> {
+            if (Runtime.version().feature() >= 21) {
+                assertThat(context).hasSingleBean(Executor.class).hasBean("applicationTaskExecutor");
+                ProtocolHandler protocolHandler = mock(ProtocolHandler.class);
+                context.getBean(TomcatProtocolHandlerCustomizer.class).customize(protocolHandler);
+                ArgumentCaptor<Executor> executor = ArgumentCaptor.forClass(Executor.class);
+                verify(protocolHandler).setExecutor(executor.capture());
+                CompletableFuture<String> threadName = new CompletableFuture<>();
+                executor.getValue().execute(() -> threadName.complete(Thread.currentThread().toString()));
+                assertThat(threadName.get()).startsWith("VirtualThread").contains("http-virtual-");
+                context.close();
+                assertThat(((ExecutorService) executor.getValue()).isShutdown()).isTrue();
+            } else {
+                assertThat(context).hasFailed();
+                assertThat(context.getStartupFailure()).hasStackTraceContaining("needs JDK 21 or later");
+            }
+        });
+    }
+}
@@ -3,9 +3,15 @@ package ru.practicum.shareit.client;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentMatchers;
 import org.mockito.Mockito;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.util.unit.DataSize;
 import org.springframework.web.client.RestTemplate;
 
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
 import java.util.Collections;
 import java.util.Map;
 
@@ -58,7 +64,7 @@ public class BaseClientTest {
 
     @Test
     void getRequestWithErrorAndBodyTest() {
-        Map<String, String> body = Map.of("error", "mes");
+        byte[] body = "{\"error\":\"mes\"}".getBytes(StandardCharsets.UTF_8);
         Mockito
                 .when(rest.exchange(
                         anyString(),
@@ -74,6 +80,31 @@ public class BaseClientTest {
                 ArgumentMatchers.<Class<Object>>any());
     }
 
+    @Test
+    void getRequestRelaysBytesAndEndToEndHeadersTest() {
+        byte[] body = "[{\"id\":1}]".getBytes(StandardCharsets.UTF_8);
+        Mockito
+                .when(rest.exchange(
+                        anyString(),
+                        ArgumentMatchers.any(),
+                        ArgumentMatchers.<ResponseEntity<Object>>any(),
+                        ArgumentMatchers.<Class<Object>>any()))
+                .thenReturn(ResponseEntity.ok()
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .header(HttpHeaders.TRANSFER_ENCODING, "chunked")
+                        .header(HttpHeaders.CONNECTION, "keep-alive")
+                        .body(body));
+        ResponseEntity<Object> response = baseClient.get("", 1L);
+        assertThat(response.getBody()).isSameAs(body);
+        assertThat(response.getHeaders().getContentType()).isEqualTo(MediaType.APPLICATION_JSON);
+        assertThat(response.getHeaders().containsKey(HttpHeaders.TRANSFER_ENCODING)).isFalse();
+        assertThat(response.getHeaders().containsKey(HttpHeaders.CONNECTION)).isFalse();
+        verify(rest, times(1)).exchange(anyString(),
+                ArgumentMatchers.any(),
+                ArgumentMatchers.<ResponseEntity<Object>>any(),
+                ArgumentMatchers.eq(byte[].class));
+    }
+
     @Test
     void getRequestWithErrorAndWithoutBodyTest() {
         Mockito
@@ -91,6 +122,28 @@ public class BaseClientTest {
                 ArgumentMatchers.<Class<Object>>any());
     }
 
+    @Test
+    void cachedGetRequestIsInvalidatedByMutationTest() {
+        GatewayResponseCache cache = new GatewayResponseCache(true, DataSize.ofMegabytes(1), DataSize.ofKilobytes(64),
+                Map.of("/items", Duration.ofMinutes(1)), Clock.systemUTC());
+        BaseClient cachingClient = new BaseClient(rest, cache, "/items");
+
+        cachingClient.getCached("/1", 1L);
+        cachingClient.getCached("/1", 1L);
+        cachingClient.getCached("/1", 2L);
+        verify(rest, times(2)).exchange(anyString(),
+                ArgumentMatchers.any(),
+                ArgumentMatchers.<ResponseEntity<Object>>any(),
+                ArgumentMatchers.<Class<Object>>any());
+
+        cachingClient.patch("/1", 1L, Map.of("name", "Drill"));
+        cachingClient.getCached("/1", 1L);
+        verify(rest, times(4)).exchange(anyString(),
+                ArgumentMatchers.any(),
+                ArgumentMatchers.<ResponseEntity<Object>>any(),
+                ArgumentMatchers.<Class<Object>>any());
+    }
+
     @Test
     void postRequestTest() {
         assertThat(baseClient.post("", null)).isEqualTo(ResponseEntity.ok(null));
@@ -10,10 +10,12 @@ import ru.practicum.shareit.booking.BookingClient;
 import ru.practicum.shareit.booking.dto.BookingRequestDto;
 
 import java.time.LocalDateTime;
+import java.util.Map;
 
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
 import static org.mockito.ArgumentMatchers.anyMap;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
@@ -77,4 +79,15 @@ public class BookingClientTest {
                 ArgumentMatchers.<Class<Object>>any(),
                 anyMap());
     }
+
+    @Test
+    void getBookingsByCursorTest() {
+        assertThat(bookingClient.getBookingsByCursor(1L, "ALL", "", 10))
+                .isEqualTo(ResponseEntity.ok(null));
+        verify(rest, times(1)).exchange(eq("?state={state}&cursor={cursor}&size={size}"),
+                ArgumentMatchers.any(),
+                ArgumentMatchers.<ResponseEntity<Object>>any(),
+                ArgumentMatchers.<Class<Object>>any(),
+                eq(Map.of("state", "ALL", "cursor", "", "size", 10)));
+    }
 }
@@ -0,0 +1,145 @@
+package ru.practicum.shareit.client;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.ResponseEntity;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class GatewayResponseCacheTest {
+
+    private final MutableClock clock = new MutableClock();
+
+    private final GatewayResponseCache cache = new GatewayResponseCache(
+            true,
+            DataSize.ofBytes(100),
+            DataSize.ofBytes(60),
+            Map.of("/items", Duration.ofSeconds(5), "/requests", Duration.ofSeconds(5), "/users", Duration.ofSeconds(10)),
+            clock
+    );
+
+    @Test
+    @DisplayName("Key includes expanded query and user id test")
+    void keyTest() {
+        assertThat(GatewayResponseCache.key("/search?text={text}&from={from}", 0L, Map.of("text", "drill", "from", 0)))
+                .isEqualTo("/search?text=drill&from=0#0");
+        assertThat(GatewayResponseCache.key("/1", 2L, null)).isEqualTo("/1#2");
+        assertThat(GatewayResponseCache.key("/1", 2L, null)).isNotEqualTo(GatewayResponseCache.key("/1", 3L, null));
+    }
+
+    @Test
+    @DisplayName("Cached response expires after resource ttl test")
+    void ttlTest() {
+        ResponseEntity<Object> response = ok("{\"id\":1}");
+        cache.put("/items", "/1#1", 0, response);
+        assertThat(cache.get("/items", "/1#1")).isSameAs(response);
+
+        clock.advance(Duration.ofSeconds(6));
+        assertThat(cache.get("/items", "/1#1")).isNull();
+        assertThat(cache.size()).isZero();
+        assertThat(cache.getHitCount()).isEqualTo(1);
+        assertThat(cache.getMissCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Mutation invalidates affected resources only test")
+    void invalidateTest() {
+        cache.put("/items", "/1#1", 0, ok("{}"));
+        cache.put("/requests", "/all#1", 0, ok("[]"));
+        cache.put("/users", "/1#null", 0, ok("{}"));
+
+        cache.invalidate("/bookings");
+        assertThat(cache.get("/items", "/1#1")).isNull();
+        assertThat(cache.get("/requests", "/all#1")).isNotNull();
+        assertThat(cache.get("/users", "/1#null")).isNotNull();
+
+        cache.invalidate("/items");
+        assertThat(cache.get("/requests", "/all#1")).isNull();
+        assertThat(cache.get("/users", "/1#null")).isNotNull();
+
+        cache.put("/items", "/1#1", cache.generation("/items"), ok("{}"));
+        cache.put("/requests", "/all#1", cache.generation("/requests"), ok("[]"));
+        assertThat(cache.get("/requests", "/all#1")).isNotNull();
+        cache.invalidate("/users");
+        assertThat(cache.get("/users", "/1#null")).isNull();
+        assertThat(cache.get("/items", "/1#1")).isNull();
+        assertThat(cache.get("/requests", "/all#1")).isNull();
+    }
+
+    @Test
+    @DisplayName("Response read before a mutation is not stored test")
+    void inFlightReadTest() {
+        long generation = cache.generation("/items");
+        cache.invalidate("/items");
+        cache.put("/items", "/1#1", generation, ok("{}"));
+        assertThat(cache.get("/items", "/1#1")).isNull();
+    }
+
+    @Test
+    @DisplayName("Only small successful responses of cached resources are stored test")
+    void notCachedTest() {
+        cache.put("/items", "/1#1", 0, ResponseEntity.status(404).body("{}".getBytes(StandardCharsets.UTF_8)));
+        cache.put("/items", "/2#1", 0, ok("x".repeat(61)));
+        cache.put("/bookings", "/1#1", 0, ok("{}"));
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("Least recently used responses are evicted over max size test")
+    void maxSizeTest() {
+        cache.put("/items", "/1#1", 0, ok("x".repeat(40)));
+        cache.put("/items", "/2#1", 0, ok("x".repeat(40)));
+        cache.get("/items", "/1#1");
+        cache.put("/items", "/3#1", 0, ok("x".repeat(40)));
+
+        assertThat(cache.get("/items", "/1#1")).isNotNull();
+        assertThat(cache.get("/items", "/2#1")).isNull();
+        assertThat(cache.get("/items", "/3#1")).isNotNull();
+        assertThat(cache.getBytes()).isLessThanOrEqualTo(100);
+    }
+
+    @Test
+    @DisplayName("Disabled cache stores nothing test")
+    void disabledTest() {
+        GatewayResponseCache disabled = GatewayResponseCache.disabled();
+        disabled.put("/items", "/1#1", 0, ok("{}"));
+        assertThat(disabled.get("/items", "/1#1")).isNull();
+    }
+
+    private static ResponseEntity<Object> ok(String body) {
+        return ResponseEntity.ok(body.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static class MutableClock extends Clock {
+
+        private Instant instant = Instant.parse("2043-01-01T00:00:00Z");
+
+        private void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package ru.practicum.shareit.client;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ReactiveBaseClientTest {
+
+    private final List<ClientRequest> requests = new ArrayList<>();
+
+    private ClientResponse serverResponse = ClientResponse.create(HttpStatus.OK).build();
+
+    private final ReactiveBaseClient client = new ReactiveBaseClient(WebClient.builder()
+            .baseUrl("http://server/items")
+            .exchangeFunction(request -> {
+                requests.add(request);
+                return Mono.just(serverResponse);
+            })
+            .build());
+
+    @Test
+    void getRequestExpandsParametersAndSendsUserIdTest() {
+        assertThat(client.get("/search?text={text}", 7L, Map.of("text", "drill")).block())
+                .isEqualTo(ResponseEntity.ok().build());
+
+        ClientRequest request = requests.get(0);
+        assertThat(request.method()).isEqualTo(HttpMethod.GET);
+        assertThat(request.url()).hasToString("http://server/items/search?text=drill");
+        assertThat(request.headers().getFirst("X-Sharer-User-Id")).isEqualTo("7");
+        assertThat(request.headers().getAccept()).containsExactly(MediaType.APPLICATION_JSON);
+    }
+
+    @Test
+    void requestWithoutUserIdHasNoUserHeaderTest() {
+        client.delete("/1").block();
+        assertThat(requests.get(0).method()).isEqualTo(HttpMethod.DELETE);
+        assertThat(requests.get(0).headers()).doesNotContainKey("X-Sharer-User-Id");
+    }
+
+    @Test
+    void responseRelaysBytesAndEndToEndHeadersTest() {
+        serverResponse = ClientResponse.create(HttpStatus.OK)
+                .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                .header(HttpHeaders.TRANSFER_ENCODING, "chunked")
+                .body("{\"id\":1}")
+                .build();
+
+        ResponseEntity<Object> response = client.post("", 1L, Map.of("name", "Drill")).block();
+
+        assertThat(requests.get(0).method()).isEqualTo(HttpMethod.POST);
+        assertThat(response.getBody()).isEqualTo("{\"id\":1}".getBytes(StandardCharsets.UTF_8));
+        assertThat(response.getHeaders().getContentType()).isEqualTo(MediaType.APPLICATION_JSON);
+        assertThat(response.getHeaders()).doesNotContainKey(HttpHeaders.TRANSFER_ENCODING);
+    }
+
+    @Test
+    void errorResponseIsRelayedTest() {
+        serverResponse = ClientResponse.create(HttpStatus.NOT_FOUND)
+                .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                .body("{\"error\":\"Item not found\"}")
+                .build();
+
+        ResponseEntity<Object> response = client.patch("/1", 1L).block();
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
+        assertThat(response.getBody()).isEqualTo("{\"error\":\"Item not found\"}".getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,73 @@
+package ru.practicum.shareit.client;
+
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.http.client.methods.HttpGet;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.apache.http.util.EntityUtils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+
+import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+
+public class ServerHttpClientConfigTest {
+
+    private final ServerHttpClientConfig config = new ServerHttpClientConfig();
+
+    private final PoolingHttpClientConnectionManager connectionManager =
+            config.serverConnectionManager(50, 20, Duration.ofSeconds(2));
+
+    @AfterEach
+    void close() {
+        connectionManager.close();
+    }
+
+    @Test
+    void connectionManagerLimitsTest() {
+        assertThat(connectionManager.getMaxTotal()).isEqualTo(50);
+        assertThat(connectionManager.getDefaultMaxPerRoute()).isEqualTo(20);
+        assertThat(connectionManager.getValidateAfterInactivity()).isEqualTo(2000);
+    }
+
+    @Test
+    void connectionPoolMetricsTest() {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        config.serverConnectionPoolMetrics(connectionManager).bindTo(meterRegistry);
+        assertThat(meterRegistry.get("httpcomponents.httpclient.pool.total.max").gauge().value()).isEqualTo(50.0);
+        assertThat(meterRegistry.get("httpcomponents.httpclient.pool.route.max.default").gauge().value())
+                .isEqualTo(20.0);
+        assertThat(meterRegistry.get("httpcomponents.httpclient.pool.total.connections")
+                .tag("state", "leased").gauge().value()).isEqualTo(0.0);
+        assertThat(meterRegistry.get("httpcomponents.httpclient.pool.total.pending").gauge().value()).isEqualTo(0.0);
+    }
+
+    @Test
+    void idleConnectionIsEvictedTest() throws Exception {
+        HttpServer server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/", exchange -> {
+            byte[] body = "{}".getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(200, body.length);
+            exchange.getResponseBody().write(body);
+            exchange.close();
+        });
+        server.start();
+        try (CloseableHttpClient httpClient = config.serverHttpClient(connectionManager, Duration.ofSeconds(2),
+                Duration.ofSeconds(2), Duration.ofSeconds(2), Duration.ofMillis(200))) {
+            String url = "http://localhost:" + server.getAddress().getPort() + "/users";
+            EntityUtils.consume(httpClient.execute(new HttpGet(url)).getEntity());
+            assertThat(connectionManager.getTotalStats().getAvailable()).isEqualTo(1);
+            long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+            while (connectionManager.getTotalStats().getAvailable() > 0 && System.nanoTime() < deadline) {
+                Thread.sleep(50);
+            }
+            assertThat(connectionManager.getTotalStats().getAvailable()).isEqualTo(0);
+        } finally {
+            server.stop(0);
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package ru.practicum.shareit.controller;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.WebFluxTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Mono;
+import ru.practicum.shareit.booking.ReactiveBookingClient;
+import ru.practicum.shareit.booking.ReactiveBookingController;
+import ru.practicum.shareit.booking.dto.BookingRequestDto;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@WebFluxTest(controllers = ReactiveBookingController.class)
+class ReactiveBookingControllerTest {
+
+    private static final Long USER_ID = 999L;
+
+    @Autowired
+    private WebTestClient client;
+
+    @MockBean
+    private ReactiveBookingClient bookingClient;
+
+    private final BookingRequestDto bookingRequestDto = new BookingRequestDto(
+            2L,
+            LocalDateTime.of(2043, 1, 1, 10, 0, 0),
+            LocalDateTime.of(2043, 1, 1, 11, 0, 0)
+    );
+
+    private final byte[] serverBody = "{\"id\":1}".getBytes(StandardCharsets.UTF_8);
+
+    @Test
+    @DisplayName("Create valid booking test")
+    void createValidBookingTest() {
+        when(bookingClient.bookItem(anyLong(), any()))
+                .thenReturn(Mono.just(ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(serverBody)));
+        postBooking(bookingRequestDto)
+                .expectStatus().isOk()
+                .expectBody().jsonPath("$.id").isEqualTo(1);
+        verify(bookingClient, times(1)).bookItem(eq(USER_ID), any());
+    }
+
+    @Test
+    @DisplayName("Create booking with item id is null test")
+    void createBookingWithItemIdIsNullTest() {
+        postBooking(bookingRequestDto.withItemId(null))
+                .expectStatus().isBadRequest()
+                .expectBody().jsonPath("$.error").exists();
+        verify(bookingClient, never()).bookItem(anyLong(), any());
+    }
+
+    @Test
+    @DisplayName("Create booking with start after end test")
+    void createBookingWithStartAfterEndTest() {
+        postBooking(bookingRequestDto.withStart(LocalDateTime.of(2043, 1, 2, 10, 0)))
+                .expectStatus().isBadRequest()
+                .expectBody().jsonPath("$.error").exists();
+        verify(bookingClient, never()).bookItem(anyLong(), any());
+    }
+
+    @Test
+    @DisplayName("Get all bookings of user by cursor test")
+    void getAllBookingsOfUserByCursorTest() {
+        when(bookingClient.getBookingsByCursor(anyLong(), any(), any(), any()))
+                .thenReturn(Mono.just(ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(serverBody)));
+        client.get().uri("/bookings?state=PAST&cursor=abc")
+                .header("X-Sharer-User-Id", String.valueOf(USER_ID))
+                .exchange()
+                .expectStatus().isOk();
+        verify(bookingClient, times(1)).getBookingsByCursor(USER_ID, "PAST", "abc", 10);
+        verify(bookingClient, never()).getBookings(anyLong(), any(), any(), any());
+    }
+
+    private WebTestClient.ResponseSpec postBooking(BookingRequestDto dto) {
+        return client.post().uri("/bookings")
+                .header("X-Sharer-User-Id", String.valueOf(USER_ID))
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(dto)
+                .exchange();
+    }
+}
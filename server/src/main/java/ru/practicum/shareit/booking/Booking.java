@@ -3,7 +3,6 @@ package ru.practicum.shareit.booking;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
-import org.apache.commons.lang.SerializationUtils;
 import org.hibernate.annotations.DynamicUpdate;
 import ru.practicum.shareit.config.BaseEntity;
 import ru.practicum.shareit.item.model.Item;
@@ -20,8 +19,10 @@ import java.time.LocalDateTime;
 @Table(
         name = "bookings",
         indexes = {
-                @Index(name = "booking_item_id_idx", columnList = "item_id"),
-                @Index(name = "booking_booker_id_idx", columnList = "booker_id")
+                @Index(name = "booking_booker_id_start_date_idx", columnList = "booker_id, start_date DESC, id DESC"),
+                @Index(name = "booking_booker_id_status_start_date_idx", columnList = "booker_id, status, start_date DESC"),
+                @Index(name = "booking_item_id_status_start_date_idx", columnList = "item_id, status, start_date"),
+                @Index(name = "booking_item_id_end_date_idx", columnList = "item_id, end_date")
         }
 )
 public class Booking extends BaseEntity<Long> {
@@ -71,38 +72,42 @@ public class Booking extends BaseEntity<Long> {
     private BookingStatus status = BookingStatus.WAITING;
 
     public Booking withId(Long id) {
-        Booking booking = (Booking) SerializationUtils.clone(this);
+        Booking booking = copy();
         booking.setId(id);
         return booking;
     }
 
     public Booking withStart(LocalDateTime start) {
-        Booking booking = (Booking) SerializationUtils.clone(this);
+        Booking booking = copy();
         booking.setStart(start);
         return booking;
     }
 
     public Booking withEnd(LocalDateTime end) {
-        Booking booking = (Booking) SerializationUtils.clone(this);
-        booking.setStart(end);
+        Booking booking = copy();
+        booking.setEnd(end);
         return booking;
     }
 
     public Booking withItem(Item item) {
-        Booking booking = (Booking) SerializationUtils.clone(this);
+        Booking booking = copy();
         booking.setItem(item);
         return booking;
     }
 
     public Booking withBooker(User booker) {
-        Booking booking = (Booking) SerializationUtils.clone(this);
+        Booking booking = copy();
         booking.setBooker(booker);
         return booking;
     }
 
     public Booking withStatus(BookingStatus status) {
-        Booking booking = (Booking) SerializationUtils.clone(this);
+        Booking booking = copy();
         booking.setStatus(status);
         return booking;
     }
+
+    private Booking copy() {
+        return new Booking(id, start, end, item, booker, status);
+    }
 }
@@ -1,19 +1,28 @@
 package ru.practicum.shareit.booking;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Slice;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import ru.practicum.shareit.booking.dto.BookingRequestDto;
 import ru.practicum.shareit.booking.dto.BookingResponseDto;
 import ru.practicum.shareit.booking.service.BookingService;
+import ru.practicum.shareit.config.JsonArrayWriter;
 
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
 import java.util.Collection;
+import java.util.List;
 
 @RestController
 @RequiredArgsConstructor
 @RequestMapping(path = "/bookings")
 public class BookingController {
 
+    private static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+
     private final BookingService bookingService;
+    private final JsonArrayWriter jsonArrayWriter;
 
     @PostMapping
     public BookingResponseDto createBooking(
@@ -38,12 +47,17 @@ public class BookingController {
     }
 
     @GetMapping
-    public Collection<BookingResponseDto> getAllBookingsOfUser(
+    public void getAllBookingsOfUser(
             @RequestHeader("X-Sharer-User-Id") Long userId,
             @RequestParam(defaultValue = "ALL") String state,
             @RequestParam(required = false) Integer from,
-            @RequestParam(required = false) Integer size) {
-        return bookingService.getAllBookingsOfUser(userId, state, from, size);
+            @RequestParam(required = false) Integer size,
+            HttpServletResponse response) throws IOException {
+        if (from == null || size == null) {
+            jsonArrayWriter.write(response, action -> bookingService.forEachBookingOfUser(userId, state, action));
+        } else {
+            jsonArrayWriter.write(response, bookingService.getAllBookingsOfUser(userId, state, from, size)::forEach);
+        }
     }
 
     @GetMapping("/owner")
@@ -54,4 +68,33 @@ public class BookingController {
             @RequestParam(required = false) Integer size) {
         return bookingService.getAllBookingsForOwnerItems(userId, state, from, size);
     }
+
+    @GetMapping(params = "cursor")
+    public ResponseEntity<Collection<BookingResponseDto>> getAllBookingsOfUserByCursor(
+            @RequestHeader("X-Sharer-User-Id") Long userId,
+            @RequestParam(defaultValue = "ALL") String state,
+            @RequestParam String cursor,
+            @RequestParam(defaultValue = "10") Integer size) {
+        return toResponse(bookingService.getAllBookingsOfUserByCursor(userId, state, cursor, size));
+    }
+
+    @GetMapping(path = "/owner", params = "cursor")
+    public ResponseEntity<Collection<BookingResponseDto>> getAllBookingsForOwnerItemsByCursor(
+            @RequestHeader("X-Sharer-User-Id") Long userId,
+            @RequestParam(defaultValue = "ALL") String state,
+            @RequestParam String cursor,
+            @RequestParam(defaultValue = "10") Integer size) {
+        return toResponse(bookingService.getAllBookingsForOwnerItemsByCursor(userId, state, cursor, size));
+    }
+
+    private ResponseEntity<Collection<BookingResponseDto>> toResponse(Slice<BookingResponseDto> slice) {
+        List<BookingResponseDto> bookings = slice.getContent();
+        if (!slice.hasNext()) {
+            return ResponseEntity.ok(bookings);
+        }
+        BookingResponseDto last = bookings.get(bookings.size() - 1);
+        return ResponseEntity.ok()
+                .header(NEXT_CURSOR_HEADER, new BookingCursor(last.getStart(), last.getId()).encode())
+                .body(bookings);
+    }
 }
@@ -5,6 +5,7 @@ import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.ResponseBody;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import ru.practicum.shareit.booking.exceptions.BookingCursorException;
 import ru.practicum.shareit.booking.exceptions.BookingNotFoundException;
 import ru.practicum.shareit.booking.exceptions.BookingOverlapsException;
 import ru.practicum.shareit.booking.exceptions.BookingStateException;
@@ -25,7 +26,8 @@ public class BookingExceptionController {
     @ExceptionHandler({
             BookingUpdateException.class,
             BookingStateException.class,
-            BookingOverlapsException.class
+            BookingOverlapsException.class,
+            BookingCursorException.class
     })
     @ResponseStatus(HttpStatus.BAD_REQUEST)
     public ErrorResponse bookingBadRequestHandler(RuntimeException e) {
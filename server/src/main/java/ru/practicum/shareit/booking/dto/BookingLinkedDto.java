@@ -4,7 +4,6 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import lombok.AllArgsConstructor;
 import lombok.EqualsAndHashCode;
 import lombok.Setter;
-import org.apache.commons.lang.SerializationUtils;
 
 import java.io.Serializable;
 
@@ -22,8 +21,12 @@ public class BookingLinkedDto implements Serializable {
     private Long bookerId;
 
     public BookingLinkedDto withId(Long id) {
-        BookingLinkedDto bookingLinkedDto = (BookingLinkedDto) SerializationUtils.clone(this);
+        BookingLinkedDto bookingLinkedDto = copy();
         bookingLinkedDto.setId(id);
         return bookingLinkedDto;
     }
+
+    private BookingLinkedDto copy() {
+        return new BookingLinkedDto(id, bookerId);
+    }
 }
@@ -5,7 +5,6 @@ import lombok.AllArgsConstructor;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.Setter;
-import org.apache.commons.lang.SerializationUtils;
 import ru.practicum.shareit.booking.BookingStatus;
 import ru.practicum.shareit.item.dto.ItemDto;
 import ru.practicum.shareit.user.dto.UserDto;
@@ -40,20 +39,24 @@ public class BookingResponseDto implements Serializable {
     private UserDto bookerDto;
 
     public BookingResponseDto withId(Long id) {
-        BookingResponseDto bookingResponseDto = (BookingResponseDto) SerializationUtils.clone(this);
+        BookingResponseDto bookingResponseDto = copy();
         bookingResponseDto.setId(id);
         return bookingResponseDto;
     }
 
     public BookingResponseDto withStatus(BookingStatus status) {
-        BookingResponseDto bookingResponseDto = (BookingResponseDto) SerializationUtils.clone(this);
+        BookingResponseDto bookingResponseDto = copy();
         bookingResponseDto.setStatus(status);
         return bookingResponseDto;
     }
 
     public BookingResponseDto withBookerDto(UserDto bookerDto) {
-        BookingResponseDto bookingResponseDto = (BookingResponseDto) SerializationUtils.clone(this);
+        BookingResponseDto bookingResponseDto = copy();
         bookingResponseDto.setBookerDto(bookerDto);
         return bookingResponseDto;
     }
+
+    private BookingResponseDto copy() {
+        return new BookingResponseDto(id, start, end, status, itemDto, bookerDto);
+    }
 }
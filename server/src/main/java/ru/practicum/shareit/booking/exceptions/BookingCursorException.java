@@ -0,0 +1,10 @@
+package ru.practicum.shareit.booking.exceptions;
+
+public class BookingCursorException extends RuntimeException {
+
+    private static final String MES_PATTERN = "Invalid cursor: %s";
+
+    public BookingCursorException(String cursor) {
+        super(String.format(MES_PATTERN, cursor));
+    }
+}
@@ -0,0 +1,149 @@
+package ru.practicum.shareit.booking.repository;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import ru.practicum.shareit.booking.Booking;
+import ru.practicum.shareit.booking.BookingStatus;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Component
+public class BookingIntervalIndex {
+
+    private final Map<Long, ItemIntervals> items;
+    private final AtomicLong generations = new AtomicLong();
+
+    public BookingIntervalIndex(@Value("${shareit.booking.index.max-items:10000}") int maxItems) {
+        this.items = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, ItemIntervals> eldest) {
+                return size() > maxItems;
+            }
+        });
+    }
+
+    /**
+     * Returns {@code null} when the item is cold, still loading, or the booking starts
+     * before the moment the item was loaded, so the answer has to come from the database.
+     */
+    public Boolean isOverlaps(Long itemId, LocalDateTime start, LocalDateTime end) {
+        ItemIntervals intervals = items.get(itemId);
+        return intervals == null ? null : intervals.isOverlaps(start, end);
+    }
+
+    public boolean contains(Long itemId) {
+        return items.containsKey(itemId);
+    }
+
+    public long beginWarmUp(Long itemId) {
+        return items.computeIfAbsent(itemId, id -> new ItemIntervals(generations.incrementAndGet())).generation;
+    }
+
+    public void completeWarmUp(Long itemId, long generation, LocalDateTime horizon, Collection<Booking> bookings) {
+        ItemIntervals intervals = items.get(itemId);
+        if (intervals != null && intervals.generation == generation && !intervals.completeWarmUp(horizon, bookings)) {
+            items.remove(itemId, intervals);
+        }
+    }
+
+    public void update(Booking booking) {
+        Long itemId = booking.getItem().getId();
+        ItemIntervals intervals = items.get(itemId);
+        if (intervals != null && !intervals.update(booking)) {
+            items.remove(itemId, intervals);
+        }
+    }
+
+    public void evict(Long itemId) {
+        items.remove(itemId);
+    }
+
+    private static final class Interval {
+
+        private final Long bookingId;
+        private final LocalDateTime start;
+        private final LocalDateTime end;
+
+        private Interval(Booking booking) {
+            this.bookingId = booking.getId();
+            this.start = booking.getStart();
+            this.end = booking.getEnd();
+        }
+    }
+
+    private static final class ItemIntervals {
+
+        private final long generation;
+        private final TreeMap<LocalDateTime, Interval> byStart = new TreeMap<>();
+        private final Map<Long, Interval> byBookingId = new HashMap<>();
+        private Set<Long> touchedWhileLoading = new HashSet<>();
+        private LocalDateTime horizon;
+
+        private ItemIntervals(long generation) {
+            this.generation = generation;
+        }
+
+        private synchronized Boolean isOverlaps(LocalDateTime start, LocalDateTime end) {
+            if (horizon == null || start.isBefore(horizon)) {
+                return null;
+            }
+            Map.Entry<LocalDateTime, Interval> candidate = byStart.floorEntry(end);
+            return candidate != null && start.isBefore(candidate.getValue().end);
+        }
+
+        private synchronized boolean completeWarmUp(LocalDateTime horizon, Collection<Booking> bookings) {
+            if (touchedWhileLoading == null) {
+                return true;
+            }
+            for (Booking booking : bookings) {
+                if (!touchedWhileLoading.contains(booking.getId()) && !add(booking)) {
+                    return false;
+                }
+            }
+            this.touchedWhileLoading = null;
+            this.horizon = horizon;
+            return true;
+        }
+
+        private synchronized boolean update(Booking booking) {
+            if (touchedWhileLoading != null) {
+                touchedWhileLoading.add(booking.getId());
+            }
+            remove(booking.getId());
+            return BookingStatus.REJECTED.equals(booking.getStatus()) || add(booking);
+        }
+
+        private boolean add(Booking booking) {
+            Interval interval = new Interval(booking);
+            if (interval.end.isBefore(interval.start)) {
+                return false;
+            }
+            Map.Entry<LocalDateTime, Interval> previous = byStart.floorEntry(interval.start);
+            Map.Entry<LocalDateTime, Interval> next = byStart.higherEntry(interval.start);
+            if (previous != null && previous.getValue().end.isAfter(interval.start)
+                    || previous != null && previous.getKey().equals(interval.start)
+                    || next != null && interval.end.isAfter(next.getKey())) {
+                return false;
+            }
+            byStart.put(interval.start, interval);
+            byBookingId.put(interval.bookingId, interval);
+            return true;
+        }
+
+        private void remove(Long bookingId) {
+            Interval interval = byBookingId.remove(bookingId);
+            if (interval != null) {
+                byStart.remove(interval.start, interval);
+            }
+        }
+    }
+}
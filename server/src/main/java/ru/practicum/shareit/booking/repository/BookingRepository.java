@@ -1,11 +1,13 @@
 package ru.practicum.shareit.booking.repository;
 
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import ru.practicum.shareit.booking.Booking;
+import ru.practicum.shareit.booking.BookingCursor;
 import ru.practicum.shareit.booking.BookingStatus;
 
 import java.util.Collection;
+import java.util.stream.Stream;
 
 public interface BookingRepository {
 
@@ -15,43 +17,73 @@ public interface BookingRepository {
 
     Collection<Booking> findAllBookingsOfUserWithStatus(Long userId, BookingStatus status);
 
-    Page<Booking> findAllBookingsOfUserWithStatus(Long userId, BookingStatus status, Pageable pageable);
+    Slice<Booking> findAllBookingsOfUserWithStatus(Long userId, BookingStatus status, Pageable pageable);
+
+    Slice<Booking> findAllBookingsOfUserWithStatus(Long userId, BookingStatus status, BookingCursor cursor, Pageable pageable);
+
+    Stream<Booking> streamAllBookingsOfUserWithStatus(Long userId, BookingStatus status);
 
     Collection<Booking> findAllFutureBookingsOfUser(Long userId);
 
-    Page<Booking> findAllFutureBookingsOfUser(Long userId, Pageable pageable);
+    Slice<Booking> findAllFutureBookingsOfUser(Long userId, Pageable pageable);
+
+    Slice<Booking> findAllFutureBookingsOfUser(Long userId, BookingCursor cursor, Pageable pageable);
+
+    Stream<Booking> streamAllFutureBookingsOfUser(Long userId);
 
     Collection<Booking> findAllPastBookingsOfUser(Long userId);
 
-    Page<Booking> findAllPastBookingsOfUser(Long userId, Pageable pageable);
+    Slice<Booking> findAllPastBookingsOfUser(Long userId, Pageable pageable);
+
+    Slice<Booking> findAllPastBookingsOfUser(Long userId, BookingCursor cursor, Pageable pageable);
+
+    Stream<Booking> streamAllPastBookingsOfUser(Long userId);
 
     Collection<Booking> findAllCurrentBookingsOfUser(Long userId);
 
-    Page<Booking> findAllCurrentBookingsOfUser(Long userId, Pageable pageable);
+    Slice<Booking> findAllCurrentBookingsOfUser(Long userId, Pageable pageable);
+
+    Slice<Booking> findAllCurrentBookingsOfUser(Long userId, BookingCursor cursor, Pageable pageable);
+
+    Stream<Booking> streamAllCurrentBookingsOfUser(Long userId);
 
     Collection<Booking> findAllBookingOfUser(Long userId);
 
-    Page<Booking> findAllBookingOfUser(Long userId, Pageable pageable);
+    Slice<Booking> findAllBookingOfUser(Long userId, Pageable pageable);
+
+    Slice<Booking> findAllBookingOfUser(Long userId, BookingCursor cursor, Pageable pageable);
+
+    Stream<Booking> streamAllBookingOfUser(Long userId);
+
+    Collection<Booking> findAllBookingsOfOwnerWithStatus(Long ownerId, BookingStatus status);
+
+    Slice<Booking> findAllBookingsOfOwnerWithStatus(Long ownerId, BookingStatus status, Pageable pageable);
+
+    Slice<Booking> findAllBookingsOfOwnerWithStatus(Long ownerId, BookingStatus status, BookingCursor cursor, Pageable pageable);
+
+    Collection<Booking> findAllFutureBookingsOfOwner(Long ownerId);
+
+    Slice<Booking> findAllFutureBookingsOfOwner(Long ownerId, Pageable pageable);
 
-    Collection<Booking> findAllBookingsOfItemsWithStatus(Collection<Long> itemIds, BookingStatus status);
+    Slice<Booking> findAllFutureBookingsOfOwner(Long ownerId, BookingCursor cursor, Pageable pageable);
 
-    Page<Booking> findAllBookingsOfItemsWithStatus(Collection<Long> itemIds, BookingStatus status, Pageable pageable);
+    Collection<Booking> findAllPastBookingsOfOwner(Long ownerId);
 
-    Collection<Booking> findAllFutureBookingsOfItems(Collection<Long> itemIds);
+    Slice<Booking> findAllPastBookingsOfOwner(Long ownerId, Pageable pageable);
 
-    Page<Booking> findAllFutureBookingsOfItems(Collection<Long> itemIds, Pageable pageable);
+    Slice<Booking> findAllPastBookingsOfOwner(Long ownerId, BookingCursor cursor, Pageable pageable);
 
-    Collection<Booking> findAllPastBookingsOfItems(Collection<Long> itemIds);
+    Collection<Booking> findAllCurrentBookingsOfOwner(Long ownerId);
 
-    Page<Booking> findAllPastBookingsOfItems(Collection<Long> itemIds, Pageable pageable);
+    Slice<Booking> findAllCurrentBookingsOfOwner(Long ownerId, Pageable pageable);
 
-    Collection<Booking> findAllCurrentBookingsOfItems(Collection<Long> itemIds);
+    Slice<Booking> findAllCurrentBookingsOfOwner(Long ownerId, BookingCursor cursor, Pageable pageable);
 
-    Page<Booking> findAllCurrentBookingsOfItems(Collection<Long> itemIds, Pageable pageable);
+    Collection<Booking> findAllBookingOfOwner(Long ownerId);
 
-    Collection<Booking> findAllBookingOfItems(Collection<Long> itemIds);
+    Slice<Booking> findAllBookingOfOwner(Long ownerId, Pageable pageable);
 
-    Page<Booking> findAllBookingOfItems(Collection<Long> itemIds, Pageable pageable);
+    Slice<Booking> findAllBookingOfOwner(Long ownerId, BookingCursor cursor, Pageable pageable);
 
     Boolean isBookingOverlapsOthers(Booking booking);
 }
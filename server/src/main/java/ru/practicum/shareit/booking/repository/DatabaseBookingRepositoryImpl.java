@@ -1,16 +1,21 @@
 package ru.practicum.shareit.booking.repository;
 
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import ru.practicum.shareit.booking.Booking;
+import ru.practicum.shareit.booking.BookingCursor;
 import ru.practicum.shareit.booking.BookingStatus;
+import ru.practicum.shareit.config.EntityStreams;
 
 import java.time.LocalDateTime;
 import java.util.Collection;
+import java.util.stream.Stream;
 
 @Repository
 @Transactional(readOnly = true)
@@ -18,6 +23,8 @@ import java.util.Collection;
 public class DatabaseBookingRepositoryImpl implements BookingRepository {
 
     private final JpaBookingRepository bookingRepository;
+    private final BookingIntervalIndex bookingIntervalIndex;
+    private final EntityStreams entityStreams;
     private final Sort bookingSort = Sort.by(Sort.Direction.DESC, "start");
 
     @Override
@@ -28,7 +35,15 @@ public class DatabaseBookingRepositoryImpl implements BookingRepository {
     @Transactional
     @Override
     public Booking saveBooking(Booking booking) {
-        return bookingRepository.save(booking);
+        Booking savedBooking = bookingRepository.save(booking);
+        // Rejections may only leave the index once committed, while new intervals have to be visible
+        // before the item lock is released; a rolled back interval only costs one database check.
+        if (BookingStatus.REJECTED.equals(savedBooking.getStatus())) {
+            afterCommit(() -> bookingIntervalIndex.update(savedBooking));
+        } else {
+            bookingIntervalIndex.update(savedBooking);
+        }
+        return savedBooking;
     }
 
     @Override
@@ -37,107 +52,219 @@ public class DatabaseBookingRepositoryImpl implements BookingRepository {
     }
 
     @Override
-    public Page<Booking> findAllBookingsOfUserWithStatus(Long userId, BookingStatus status, Pageable pageable) {
+    public Slice<Booking> findAllBookingsOfUserWithStatus(Long userId, BookingStatus status, Pageable pageable) {
         return bookingRepository.findAllBookingsOfUserByStatus(userId, status, pageable);
     }
 
+    @Override
+    public Slice<Booking> findAllBookingsOfUserWithStatus(Long userId, BookingStatus status, BookingCursor cursor, Pageable pageable) {
+        return bookingRepository.findAllBookingsOfUserByStatusAfterCursor(userId, status, cursor.getStart(), cursor.getId(), pageable);
+    }
+
+    @Override
+    public Stream<Booking> streamAllBookingsOfUserWithStatus(Long userId, BookingStatus status) {
+        return entityStreams.detaching(bookingRepository.streamAllBookingsOfUserByStatus(userId, status));
+    }
+
     @Override
     public Collection<Booking> findAllFutureBookingsOfUser(Long userId) {
         return bookingRepository.findAllFutureBookingsOfUser(userId, LocalDateTime.now(), bookingSort);
     }
 
     @Override
-    public Page<Booking> findAllFutureBookingsOfUser(Long userId, Pageable pageable) {
+    public Slice<Booking> findAllFutureBookingsOfUser(Long userId, Pageable pageable) {
         return bookingRepository.findAllFutureBookingsOfUser(userId, LocalDateTime.now(), pageable);
     }
 
+    @Override
+    public Slice<Booking> findAllFutureBookingsOfUser(Long userId, BookingCursor cursor, Pageable pageable) {
+        return bookingRepository.findAllFutureBookingsOfUserAfterCursor(userId, LocalDateTime.now(), cursor.getStart(), cursor.getId(), pageable);
+    }
+
+    @Override
+    public Stream<Booking> streamAllFutureBookingsOfUser(Long userId) {
+        return entityStreams.detaching(bookingRepository.streamAllFutureBookingsOfUser(userId, LocalDateTime.now()));
+    }
+
     @Override
     public Collection<Booking> findAllPastBookingsOfUser(Long userId) {
         return bookingRepository.findAllPreviousBookingsOfUser(userId, LocalDateTime.now(), bookingSort);
     }
 
     @Override
-    public Page<Booking> findAllPastBookingsOfUser(Long userId, Pageable pageable) {
+    public Slice<Booking> findAllPastBookingsOfUser(Long userId, Pageable pageable) {
         return bookingRepository.findAllPreviousBookingsOfUser(userId, LocalDateTime.now(), pageable);
     }
 
+    @Override
+    public Slice<Booking> findAllPastBookingsOfUser(Long userId, BookingCursor cursor, Pageable pageable) {
+        return bookingRepository.findAllPreviousBookingsOfUserAfterCursor(userId, LocalDateTime.now(), cursor.getStart(), cursor.getId(), pageable);
+    }
+
+    @Override
+    public Stream<Booking> streamAllPastBookingsOfUser(Long userId) {
+        return entityStreams.detaching(bookingRepository.streamAllPreviousBookingsOfUser(userId, LocalDateTime.now()));
+    }
+
     @Override
     public Collection<Booking> findAllCurrentBookingsOfUser(Long userId) {
         return bookingRepository.findAllCurrentBookingsOfUser(userId, LocalDateTime.now(), bookingSort);
     }
 
     @Override
-    public Page<Booking> findAllCurrentBookingsOfUser(Long userId, Pageable pageable) {
+    public Slice<Booking> findAllCurrentBookingsOfUser(Long userId, Pageable pageable) {
         return bookingRepository.findAllCurrentBookingsOfUser(userId, LocalDateTime.now(), pageable);
     }
 
+    @Override
+    public Slice<Booking> findAllCurrentBookingsOfUser(Long userId, BookingCursor cursor, Pageable pageable) {
+        return bookingRepository.findAllCurrentBookingsOfUserAfterCursor(userId, LocalDateTime.now(), cursor.getStart(), cursor.getId(), pageable);
+    }
+
+    @Override
+    public Stream<Booking> streamAllCurrentBookingsOfUser(Long userId) {
+        return entityStreams.detaching(bookingRepository.streamAllCurrentBookingsOfUser(userId, LocalDateTime.now()));
+    }
+
     @Override
     public Collection<Booking> findAllBookingOfUser(Long userId) {
         return bookingRepository.findAllBookingsOfUser(userId, bookingSort);
     }
 
     @Override
-    public Page<Booking> findAllBookingOfUser(Long userId, Pageable pageable) {
+    public Slice<Booking> findAllBookingOfUser(Long userId, Pageable pageable) {
         return bookingRepository.findAllBookingsOfUser(userId, pageable);
     }
 
     @Override
-    public Collection<Booking> findAllBookingsOfItemsWithStatus(Collection<Long> itemIds, BookingStatus status) {
-        return bookingRepository.findAllBookingsOfItemsByStatus(itemIds, status, bookingSort);
+    public Slice<Booking> findAllBookingOfUser(Long userId, BookingCursor cursor, Pageable pageable) {
+        return bookingRepository.findAllBookingsOfUserAfterCursor(userId, cursor.getStart(), cursor.getId(), pageable);
+    }
+
+    @Override
+    public Stream<Booking> streamAllBookingOfUser(Long userId) {
+        return entityStreams.detaching(bookingRepository.streamAllBookingsOfUser(userId));
     }
 
     @Override
-    public Page<Booking> findAllBookingsOfItemsWithStatus(Collection<Long> itemIds, BookingStatus status, Pageable pageable) {
-        return bookingRepository.findAllBookingsOfItemsByStatus(itemIds, status, pageable);
+    public Collection<Booking> findAllBookingsOfOwnerWithStatus(Long ownerId, BookingStatus status) {
+        return bookingRepository.findAllBookingsOfOwnerByStatus(ownerId, status, bookingSort);
     }
 
     @Override
-    public Collection<Booking> findAllFutureBookingsOfItems(Collection<Long> itemIds) {
-        return bookingRepository.findAllFutureBookingsOfItems(itemIds, LocalDateTime.now(), bookingSort);
+    public Slice<Booking> findAllBookingsOfOwnerWithStatus(Long ownerId, BookingStatus status, Pageable pageable) {
+        return bookingRepository.findAllBookingsOfOwnerByStatus(ownerId, status, pageable);
     }
 
     @Override
-    public Page<Booking> findAllFutureBookingsOfItems(Collection<Long> itemIds, Pageable pageable) {
-        return bookingRepository.findAllFutureBookingsOfItems(itemIds, LocalDateTime.now(), pageable);
+    public Slice<Booking> findAllBookingsOfOwnerWithStatus(Long ownerId, BookingStatus status, BookingCursor cursor, Pageable pageable) {
+        return bookingRepository.findAllBookingsOfOwnerByStatusAfterCursor(ownerId, status, cursor.getStart(), cursor.getId(), pageable);
     }
 
     @Override
-    public Collection<Booking> findAllPastBookingsOfItems(Collection<Long> itemIds) {
-        return bookingRepository.findAllPreviousBookingsOfItems(itemIds, LocalDateTime.now(), bookingSort);
+    public Collection<Booking> findAllFutureBookingsOfOwner(Long ownerId) {
+        return bookingRepository.findAllFutureBookingsOfOwner(ownerId, LocalDateTime.now(), bookingSort);
     }
 
     @Override
-    public Page<Booking> findAllPastBookingsOfItems(Collection<Long> itemIds, Pageable pageable) {
-        return bookingRepository.findAllPreviousBookingsOfItems(itemIds, LocalDateTime.now(), pageable);
+    public Slice<Booking> findAllFutureBookingsOfOwner(Long ownerId, Pageable pageable) {
+        return bookingRepository.findAllFutureBookingsOfOwner(ownerId, LocalDateTime.now(), pageable);
     }
 
     @Override
-    public Collection<Booking> findAllCurrentBookingsOfItems(Collection<Long> itemIds) {
-        return bookingRepository.findAllCurrentBookingsOfItems(itemIds, LocalDateTime.now(), bookingSort);
+    public Slice<Booking> findAllFutureBookingsOfOwner(Long ownerId, BookingCursor cursor, Pageable pageable) {
+        return bookingRepository.findAllFutureBookingsOfOwnerAfterCursor(ownerId, LocalDateTime.now(), cursor.getStart(), cursor.getId(), pageable);
     }
 
     @Override
-    public Page<Booking> findAllCurrentBookingsOfItems(Collection<Long> itemIds, Pageable pageable) {
-        return bookingRepository.findAllCurrentBookingsOfItems(itemIds, LocalDateTime.now(), pageable);
+    public Collection<Booking> findAllPastBookingsOfOwner(Long ownerId) {
+        return bookingRepository.findAllPreviousBookingsOfOwner(ownerId, LocalDateTime.now(), bookingSort);
     }
 
     @Override
-    public Collection<Booking> findAllBookingOfItems(Collection<Long> itemIds) {
-        return bookingRepository.findAllBookingsOfItems(itemIds, bookingSort);
+    public Slice<Booking> findAllPastBookingsOfOwner(Long ownerId, Pageable pageable) {
+        return bookingRepository.findAllPreviousBookingsOfOwner(ownerId, LocalDateTime.now(), pageable);
     }
 
     @Override
-    public Page<Booking> findAllBookingOfItems(Collection<Long> itemIds, Pageable pageable) {
-        return bookingRepository.findAllBookingsOfItems(itemIds, pageable);
+    public Slice<Booking> findAllPastBookingsOfOwner(Long ownerId, BookingCursor cursor, Pageable pageable) {
+        return bookingRepository.findAllPreviousBookingsOfOwnerAfterCursor(ownerId, LocalDateTime.now(), cursor.getStart(), cursor.getId(), pageable);
+    }
+
+    @Override
+    public Collection<Booking> findAllCurrentBookingsOfOwner(Long ownerId) {
+        return bookingRepository.findAllCurrentBookingsOfOwner(ownerId, LocalDateTime.now(), bookingSort);
+    }
+
+    @Override
+    public Slice<Booking> findAllCurrentBookingsOfOwner(Long ownerId, Pageable pageable) {
+        return bookingRepository.findAllCurrentBookingsOfOwner(ownerId, LocalDateTime.now(), pageable);
+    }
+
+    @Override
+    public Slice<Booking> findAllCurrentBookingsOfOwner(Long ownerId, BookingCursor cursor, Pageable pageable) {
+        return bookingRepository.findAllCurrentBookingsOfOwnerAfterCursor(ownerId, LocalDateTime.now(), cursor.getStart(), cursor.getId(), pageable);
+    }
+
+    @Override
+    public Collection<Booking> findAllBookingOfOwner(Long ownerId) {
+        return bookingRepository.findAllBookingsOfOwner(ownerId, bookingSort);
+    }
+
+    @Override
+    public Slice<Booking> findAllBookingOfOwner(Long ownerId, Pageable pageable) {
+        return bookingRepository.findAllBookingsOfOwner(ownerId, pageable);
+    }
+
+    @Override
+    public Slice<Booking> findAllBookingOfOwner(Long ownerId, BookingCursor cursor, Pageable pageable) {
+        return bookingRepository.findAllBookingsOfOwnerAfterCursor(ownerId, cursor.getStart(), cursor.getId(), pageable);
     }
 
     @Override
     public Boolean isBookingOverlapsOthers(Booking booking) {
+        Long itemId = booking.getItem().getId();
+        Boolean indexedOverlaps = bookingIntervalIndex.isOverlaps(itemId, booking.getStart(), booking.getEnd());
+        if (Boolean.FALSE.equals(indexedOverlaps)) {
+            return false;
+        }
         Integer overlapsCount = bookingRepository.getOverlapsBookingsCount(
-                booking.getItem().getId(),
+                itemId,
                 booking.getStart(),
                 booking.getEnd()
         );
-        return overlapsCount > 0;
+        boolean overlaps = overlapsCount > 0;
+        if (indexedOverlaps == null && !bookingIntervalIndex.contains(itemId)
+                || Boolean.TRUE.equals(indexedOverlaps) && !overlaps) {
+            if (indexedOverlaps != null) {
+                bookingIntervalIndex.evict(itemId);
+            }
+            warmUpIndex(itemId);
+        }
+        return overlaps;
+    }
+
+    private void warmUpIndex(Long itemId) {
+        long generation = bookingIntervalIndex.beginWarmUp(itemId);
+        LocalDateTime horizon = LocalDateTime.now();
+        bookingIntervalIndex.completeWarmUp(
+                itemId,
+                generation,
+                horizon,
+                bookingRepository.findAllActiveBookingsOfItem(itemId, horizon)
+        );
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
     }
 }
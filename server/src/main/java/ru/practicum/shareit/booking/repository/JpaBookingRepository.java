@@ -1,85 +1,179 @@
 package ru.practicum.shareit.booking.repository;
 
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import ru.practicum.shareit.booking.Booking;
 import ru.practicum.shareit.booking.BookingStatus;
+import ru.practicum.shareit.config.EntityStreams;
 
+import javax.persistence.QueryHint;
 import java.time.LocalDateTime;
 import java.util.Collection;
+import java.util.stream.Stream;
 
 public interface JpaBookingRepository extends JpaRepository<Booking, Long> {
 
+    String AFTER_CURSOR = " AND (b.start < :cursorStart OR (b.start = :cursorStart AND b.id < :cursorId))";
+
+    String OF_OWNER = "SELECT b FROM Booking b JOIN b.item i WHERE i.owner.id = :ownerId";
+
+    String STREAM_OF_USER = "SELECT b FROM Booking b " +
+            "JOIN FETCH b.booker " +
+            "JOIN FETCH b.item i " +
+            "JOIN FETCH i.owner " +
+            "LEFT JOIN FETCH i.request r " +
+            "LEFT JOIN FETCH r.requestor " +
+            "WHERE b.booker.id = :userId";
+
+    String STREAM_ORDER = " ORDER BY b.start DESC, b.id DESC";
+
     @Query("SELECT b FROM Booking b WHERE b.booker.id = :userId AND b.end < :curTime")
     Collection<Booking> findAllPreviousBookingsOfUser(Long userId, LocalDateTime curTime, Sort sort);
 
     @Query("SELECT b FROM Booking b WHERE b.booker.id = :userId AND b.end < :curTime")
-    Page<Booking> findAllPreviousBookingsOfUser(Long userId, LocalDateTime curTime, Pageable pageable);
+    Slice<Booking> findAllPreviousBookingsOfUser(Long userId, LocalDateTime curTime, Pageable pageable);
 
     @Query("SELECT b FROM Booking b WHERE b.booker.id = :userId AND b.start > :curTime")
     Collection<Booking> findAllFutureBookingsOfUser(Long userId, LocalDateTime curTime, Sort sort);
 
     @Query("SELECT b FROM Booking b WHERE b.booker.id = :userId AND b.start > :curTime")
-    Page<Booking> findAllFutureBookingsOfUser(Long userId, LocalDateTime curTime, Pageable pageable);
+    Slice<Booking> findAllFutureBookingsOfUser(Long userId, LocalDateTime curTime, Pageable pageable);
 
     @Query("SELECT b FROM Booking b WHERE b.booker.id = :userId AND :curTime BETWEEN b.start AND b.end")
     Collection<Booking> findAllCurrentBookingsOfUser(Long userId, LocalDateTime curTime, Sort sort);
 
     @Query("SELECT b FROM Booking b WHERE b.booker.id = :userId AND :curTime BETWEEN b.start AND b.end")
-    Page<Booking> findAllCurrentBookingsOfUser(Long userId, LocalDateTime curTime, Pageable pageable);
+    Slice<Booking> findAllCurrentBookingsOfUser(Long userId, LocalDateTime curTime, Pageable pageable);
 
     @Query("SELECT b FROM Booking b WHERE b.booker.id = :userId AND b.status = :status")
     Collection<Booking> findAllBookingsOfUserByStatus(Long userId, BookingStatus status, Sort sort);
 
     @Query("SELECT b FROM Booking b WHERE b.booker.id = :userId AND b.status = :status")
-    Page<Booking> findAllBookingsOfUserByStatus(Long userId, BookingStatus status, Pageable pageable);
+    Slice<Booking> findAllBookingsOfUserByStatus(Long userId, BookingStatus status, Pageable pageable);
 
     @Query("SELECT b FROM Booking b WHERE b.booker.id = :userId")
     Collection<Booking> findAllBookingsOfUser(Long userId, Sort sort);
 
     @Query("SELECT b FROM Booking b WHERE b.booker.id = :userId")
-    Page<Booking> findAllBookingsOfUser(Long userId, Pageable pageable);
+    Slice<Booking> findAllBookingsOfUser(Long userId, Pageable pageable);
+
+    @Query(STREAM_OF_USER + " AND b.end < :curTime" + STREAM_ORDER)
+    @QueryHints(@QueryHint(name = EntityStreams.FETCH_SIZE_HINT, value = EntityStreams.FETCH_SIZE))
+    Stream<Booking> streamAllPreviousBookingsOfUser(Long userId, LocalDateTime curTime);
+
+    @Query(STREAM_OF_USER + " AND b.start > :curTime" + STREAM_ORDER)
+    @QueryHints(@QueryHint(name = EntityStreams.FETCH_SIZE_HINT, value = EntityStreams.FETCH_SIZE))
+    Stream<Booking> streamAllFutureBookingsOfUser(Long userId, LocalDateTime curTime);
+
+    @Query(STREAM_OF_USER + " AND :curTime BETWEEN b.start AND b.end" + STREAM_ORDER)
+    @QueryHints(@QueryHint(name = EntityStreams.FETCH_SIZE_HINT, value = EntityStreams.FETCH_SIZE))
+    Stream<Booking> streamAllCurrentBookingsOfUser(Long userId, LocalDateTime curTime);
+
+    @Query(STREAM_OF_USER + " AND b.status = :status" + STREAM_ORDER)
+    @QueryHints(@QueryHint(name = EntityStreams.FETCH_SIZE_HINT, value = EntityStreams.FETCH_SIZE))
+    Stream<Booking> streamAllBookingsOfUserByStatus(Long userId, BookingStatus status);
+
+    @Query(STREAM_OF_USER + STREAM_ORDER)
+    @QueryHints(@QueryHint(name = EntityStreams.FETCH_SIZE_HINT, value = EntityStreams.FETCH_SIZE))
+    Stream<Booking> streamAllBookingsOfUser(Long userId);
+
+    @Query(OF_OWNER + " AND b.end < :curTime")
+    Collection<Booking> findAllPreviousBookingsOfOwner(Long ownerId, LocalDateTime curTime, Sort sort);
+
+    @Query(OF_OWNER + " AND b.end < :curTime")
+    Slice<Booking> findAllPreviousBookingsOfOwner(Long ownerId, LocalDateTime curTime, Pageable pageable);
 
-    @Query("SELECT b FROM Booking b WHERE b.item.id IN :itemIds AND b.end < :curTime")
-    Collection<Booking> findAllPreviousBookingsOfItems(Collection<Long> itemIds, LocalDateTime curTime, Sort sort);
+    @Query(OF_OWNER + " AND b.start > :curTime")
+    Collection<Booking> findAllFutureBookingsOfOwner(Long ownerId, LocalDateTime curTime, Sort sort);
 
-    @Query("SELECT b FROM Booking b WHERE b.item.id IN :itemIds AND b.end < :curTime")
-    Page<Booking> findAllPreviousBookingsOfItems(Collection<Long> itemIds, LocalDateTime curTime, Pageable pageable);
+    @Query(OF_OWNER + " AND b.start > :curTime")
+    Slice<Booking> findAllFutureBookingsOfOwner(Long ownerId, LocalDateTime curTime, Pageable pageable);
 
-    @Query("SELECT b FROM Booking b WHERE b.item.id IN :itemIds AND b.start > :curTime")
-    Collection<Booking> findAllFutureBookingsOfItems(Collection<Long> itemIds, LocalDateTime curTime, Sort sort);
+    @Query(OF_OWNER + " AND :curTime BETWEEN b.start AND b.end")
+    Collection<Booking> findAllCurrentBookingsOfOwner(Long ownerId, LocalDateTime curTime, Sort sort);
 
-    @Query("SELECT b FROM Booking b WHERE b.item.id IN :itemIds AND b.start > :curTime")
-    Page<Booking> findAllFutureBookingsOfItems(Collection<Long> itemIds, LocalDateTime curTime, Pageable pageable);
+    @Query(OF_OWNER + " AND :curTime BETWEEN b.start AND b.end")
+    Slice<Booking> findAllCurrentBookingsOfOwner(Long ownerId, LocalDateTime curTime, Pageable pageable);
 
-    @Query("SELECT b FROM Booking b WHERE b.item.id IN :itemIds AND :curTime BETWEEN b.start AND b.end")
-    Collection<Booking> findAllCurrentBookingsOfItems(Collection<Long> itemIds, LocalDateTime curTime, Sort sort);
+    @Query(OF_OWNER + " AND b.status = :status")
+    Collection<Booking> findAllBookingsOfOwnerByStatus(Long ownerId, BookingStatus status, Sort sort);
 
-    @Query("SELECT b FROM Booking b WHERE b.item.id IN :itemIds AND :curTime BETWEEN b.start AND b.end")
-    Page<Booking> findAllCurrentBookingsOfItems(Collection<Long> itemIds, LocalDateTime curTime, Pageable pageable);
+    @Query(OF_OWNER + " AND b.status = :status")
+    Slice<Booking> findAllBookingsOfOwnerByStatus(Long ownerId, BookingStatus status, Pageable pageable);
 
-    @Query("SELECT b FROM Booking b WHERE b.item.id IN :itemIds AND b.status = :status")
-    Collection<Booking> findAllBookingsOfItemsByStatus(Collection<Long> itemIds, BookingStatus status, Sort sort);
+    @Query(OF_OWNER)
+    Collection<Booking> findAllBookingsOfOwner(Long ownerId, Sort sort);
 
-    @Query("SELECT b FROM Booking b WHERE b.item.id IN :itemIds AND b.status = :status")
-    Page<Booking> findAllBookingsOfItemsByStatus(Collection<Long> itemIds, BookingStatus status, Pageable pageable);
+    @Query(OF_OWNER)
+    Slice<Booking> findAllBookingsOfOwner(Long ownerId, Pageable pageable);
 
-    @Query("SELECT b FROM Booking b WHERE b.item.id IN :itemIds")
-    Collection<Booking> findAllBookingsOfItems(Collection<Long> itemIds, Sort sort);
+    @Query("SELECT b FROM Booking b WHERE b.booker.id = :userId AND b.end < :curTime" + AFTER_CURSOR)
+    Slice<Booking> findAllPreviousBookingsOfUserAfterCursor(
+            Long userId, LocalDateTime curTime, LocalDateTime cursorStart, Long cursorId, Pageable pageable);
 
-    @Query("SELECT b FROM Booking b WHERE b.item.id IN :itemIds")
-    Page<Booking> findAllBookingsOfItems(Collection<Long> itemIds, Pageable pageable);
+    @Query("SELECT b FROM Booking b WHERE b.booker.id = :userId AND b.start > :curTime" + AFTER_CURSOR)
+    Slice<Booking> findAllFutureBookingsOfUserAfterCursor(
+            Long userId, LocalDateTime curTime, LocalDateTime cursorStart, Long cursorId, Pageable pageable);
+
+    @Query("SELECT b FROM Booking b WHERE b.booker.id = :userId AND :curTime BETWEEN b.start AND b.end" + AFTER_CURSOR)
+    Slice<Booking> findAllCurrentBookingsOfUserAfterCursor(
+            Long userId, LocalDateTime curTime, LocalDateTime cursorStart, Long cursorId, Pageable pageable);
+
+    @Query("SELECT b FROM Booking b WHERE b.booker.id = :userId AND b.status = :status" + AFTER_CURSOR)
+    Slice<Booking> findAllBookingsOfUserByStatusAfterCursor(
+            Long userId, BookingStatus status, LocalDateTime cursorStart, Long cursorId, Pageable pageable);
+
+    @Query("SELECT b FROM Booking b WHERE b.booker.id = :userId" + AFTER_CURSOR)
+    Slice<Booking> findAllBookingsOfUserAfterCursor(
+            Long userId, LocalDateTime cursorStart, Long cursorId, Pageable pageable);
+
+    @Query(OF_OWNER + " AND b.end < :curTime" + AFTER_CURSOR)
+    Slice<Booking> findAllPreviousBookingsOfOwnerAfterCursor(
+            Long ownerId, LocalDateTime curTime, LocalDateTime cursorStart, Long cursorId, Pageable pageable);
+
+    @Query(OF_OWNER + " AND b.start > :curTime" + AFTER_CURSOR)
+    Slice<Booking> findAllFutureBookingsOfOwnerAfterCursor(
+            Long ownerId, LocalDateTime curTime, LocalDateTime cursorStart, Long cursorId, Pageable pageable);
+
+    @Query(OF_OWNER + " AND :curTime BETWEEN b.start AND b.end" + AFTER_CURSOR)
+    Slice<Booking> findAllCurrentBookingsOfOwnerAfterCursor(
+            Long ownerId, LocalDateTime curTime, LocalDateTime cursorStart, Long cursorId, Pageable pageable);
+
+    @Query(OF_OWNER + " AND b.status = :status" + AFTER_CURSOR)
+    Slice<Booking> findAllBookingsOfOwnerByStatusAfterCursor(
+            Long ownerId, BookingStatus status, LocalDateTime cursorStart, Long cursorId, Pageable pageable);
+
+    @Query(OF_OWNER + AFTER_CURSOR)
+    Slice<Booking> findAllBookingsOfOwnerAfterCursor(
+            Long ownerId, LocalDateTime cursorStart, Long cursorId, Pageable pageable);
 
     @Query("SELECT count(b) FROM Booking b " +
             "WHERE b.item.id = :itemId AND b.status <> 'REJECTED' AND :start < b.end AND :end >= b.start")
     Integer getOverlapsBookingsCount(Long itemId, LocalDateTime start, LocalDateTime end);
 
+    @Query("SELECT b FROM Booking b JOIN FETCH b.item JOIN FETCH b.booker " +
+            "WHERE b.item.id = :itemId AND b.status <> 'REJECTED' AND b.end > :curTime")
+    Collection<Booking> findAllActiveBookingsOfItem(Long itemId, LocalDateTime curTime);
+
     Booking findFirstByItem_IdAndStartIsAfterAndStatusOrderByStart(Long itemId, LocalDateTime curTime, BookingStatus status);
 
     Booking findFirstByItem_IdAndStartIsBeforeAndStatusOrderByEndDesc(Long itemId, LocalDateTime curTime, BookingStatus status);
 
+    @Query("SELECT b FROM Booking b JOIN FETCH b.item JOIN FETCH b.booker " +
+            "WHERE b.item.id IN :itemIds AND b.status = :status AND b.start > :curTime " +
+            "AND b.start = (SELECT MIN(nb.start) FROM Booking nb " +
+            "WHERE nb.item.id = b.item.id AND nb.status = :status AND nb.start > :curTime)")
+    Collection<Booking> findNextBookingsOfItems(Collection<Long> itemIds, LocalDateTime curTime, BookingStatus status);
+
+    @Query("SELECT b FROM Booking b JOIN FETCH b.item JOIN FETCH b.booker " +
+            "WHERE b.item.id IN :itemIds AND b.status = :status AND b.start < :curTime " +
+            "AND b.end = (SELECT MAX(lb.end) FROM Booking lb " +
+            "WHERE lb.item.id = b.item.id AND lb.status = :status AND lb.start < :curTime)")
+    Collection<Booking> findLastBookingsOfItems(Collection<Long> itemIds, LocalDateTime curTime, BookingStatus status);
+
     Integer countByItem_IdAndBooker_IdAndStatusAndEndIsBefore(Long itemId, Long bookerId, BookingStatus status, LocalDateTime curTime);
 }
@@ -1,9 +1,11 @@
 package ru.practicum.shareit.booking.service;
 
+import org.springframework.data.domain.Slice;
 import ru.practicum.shareit.booking.dto.BookingRequestDto;
 import ru.practicum.shareit.booking.dto.BookingResponseDto;
 
 import java.util.Collection;
+import java.util.function.Consumer;
 
 public interface BookingService {
 
@@ -15,5 +17,11 @@ public interface BookingService {
 
     Collection<BookingResponseDto> getAllBookingsOfUser(Long userId, String state, Integer from, Integer siz);
 
+    void forEachBookingOfUser(Long userId, String state, Consumer<? super BookingResponseDto> action);
+
     Collection<BookingResponseDto> getAllBookingsForOwnerItems(Long userId, String state, Integer from, Integer size);
+
+    Slice<BookingResponseDto> getAllBookingsOfUserByCursor(Long userId, String state, String cursor, Integer size);
+
+    Slice<BookingResponseDto> getAllBookingsForOwnerItemsByCursor(Long userId, String state, String cursor, Integer size);
 }
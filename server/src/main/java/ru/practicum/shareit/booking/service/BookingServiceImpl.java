@@ -3,10 +3,12 @@ package ru.practicum.shareit.booking.service;
 import lombok.RequiredArgsConstructor;
 import org.springframework.core.convert.converter.Converter;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import ru.practicum.shareit.booking.Booking;
+import ru.practicum.shareit.booking.BookingCursor;
 import ru.practicum.shareit.booking.BookingState;
 import ru.practicum.shareit.booking.BookingStatus;
 import ru.practicum.shareit.booking.dto.BookingRequestDto;
@@ -27,14 +29,16 @@ import ru.practicum.shareit.user.exception.UserNotFoundException;
 import ru.practicum.shareit.user.repository.UserRepository;
 
 import java.util.Collection;
-import java.util.Collections;
-import java.util.List;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
 public class BookingServiceImpl implements BookingService {
 
+    private static final Sort KEYSET_SORT = Sort.by(Sort.Direction.DESC, "start").and(Sort.by(Sort.Direction.DESC, "id"));
+
     private final BookingRepository bookingRepository;
     private final ItemRepository itemRepository;
     private final UserRepository userRepository;
@@ -50,7 +54,7 @@ public class BookingServiceImpl implements BookingService {
         if (user == null) {
             throw new UserNotFoundException(userId);
         }
-        Item item = itemRepository.findItemById(bookingRequestDto.getItemId());
+        Item item = itemRepository.findItemByIdForUpdate(bookingRequestDto.getItemId());
         if (item == null) {
             throw new ItemNotFoundException(bookingRequestDto.getItemId());
         }
@@ -70,32 +74,32 @@ public class BookingServiceImpl implements BookingService {
     @Transactional
     @Override
     public BookingResponseDto updateBooking(Long userId, Long bookingId, Boolean approved) {
-        User user = userRepository.findUserById(userId);
-        if (user == null) {
+        if (!userRepository.existsUserById(userId)) {
             throw new UserNotFoundException(userId);
         }
         Booking booking = bookingRepository.findBookingById(bookingId);
-        if (booking == null || !booking.getItem().getOwner().equals(user)) {
+        if (booking == null || !booking.getItem().getOwner().getId().equals(userId)) {
             throw new BookingNotFoundException(bookingId);
         }
         if (booking.getStatus().equals(BookingStatus.APPROVED)) {
             throw new BookingUpdateException("Booking already has been approved");
         }
         booking.setStatus(approved ? BookingStatus.APPROVED : BookingStatus.REJECTED);
-        return bookingResponseMapper.convert(bookingRepository.saveBooking(booking));
+        Booking savedBooking = bookingRepository.saveBooking(booking);
+        itemRepository.refreshBookingSummary(savedBooking.getItem().getId());
+        return bookingResponseMapper.convert(savedBooking);
     }
 
     @Override
     public BookingResponseDto getBooking(Long userId, Long bookingId) {
-        User user = userRepository.findUserById(userId);
-        if (user == null) {
+        if (!userRepository.existsUserById(userId)) {
             throw new UserNotFoundException(userId);
         }
         Booking booking = bookingRepository.findBookingById(bookingId);
         if (booking == null) {
             throw new BookingNotFoundException(bookingId);
         }
-        if (!booking.getBooker().equals(user) && !booking.getItem().getOwner().equals(user)) {
+        if (!booking.getBooker().getId().equals(userId) && !booking.getItem().getOwner().getId().equals(userId)) {
             throw new BookingNotFoundException(bookingId);
         }
         return bookingResponseMapper.convert(booking);
@@ -103,8 +107,7 @@ public class BookingServiceImpl implements BookingService {
 
     @Override
     public Collection<BookingResponseDto> getAllBookingsOfUser(Long userId, String state, Integer from, Integer size) {
-        User user = userRepository.findUserById(userId);
-        if (user == null) {
+        if (!userRepository.existsUserById(userId)) {
             throw new UserNotFoundException(userId);
         }
         BookingState bookingState;
@@ -128,19 +131,27 @@ public class BookingServiceImpl implements BookingService {
                 .collect(Collectors.toList());
     }
 
+    @Transactional(readOnly = true)
     @Override
-    public Collection<BookingResponseDto> getAllBookingsForOwnerItems(Long userId, String state, Integer from, Integer size) {
-        User user = userRepository.findUserById(userId);
-        if (user == null) {
+    public void forEachBookingOfUser(Long userId, String state, Consumer<? super BookingResponseDto> action) {
+        if (!userRepository.existsUserById(userId)) {
             throw new UserNotFoundException(userId);
         }
-        List<Long> itemIds = itemRepository
-                .findAllItems(userId)
-                .stream()
-                .map(Item::getId)
-                .collect(Collectors.toList());
-        if (itemIds.isEmpty()) {
-            return Collections.emptyList();
+        BookingState bookingState;
+        try {
+            bookingState = BookingState.valueOf(state);
+        } catch (IllegalArgumentException e) {
+            throw new BookingStateException(state);
+        }
+        try (Stream<Booking> bookings = bookingProviderSelector.streamAllBookingsOfUser(userId, bookingState)) {
+            bookings.map(bookingResponseMapper::convert).forEach(action);
+        }
+    }
+
+    @Override
+    public Collection<BookingResponseDto> getAllBookingsForOwnerItems(Long userId, String state, Integer from, Integer size) {
+        if (!userRepository.existsUserById(userId)) {
+            throw new UserNotFoundException(userId);
         }
         BookingState bookingState;
         try {
@@ -150,16 +161,51 @@ public class BookingServiceImpl implements BookingService {
         }
         if (from == null || size == null) {
             return bookingProviderSelector
-                    .getAllBookingsForOwnerItems(itemIds, bookingState)
+                    .getAllBookingsForOwnerItems(userId, bookingState)
                     .stream()
                     .map(bookingResponseMapper::convert)
                     .collect(Collectors.toList());
         }
         Pageable pageable = pageBuilder.build(from, size, Sort.by(Sort.Direction.DESC, "start"));
         return bookingProviderSelector
-                .getAllBookingsForOwnerItems(itemIds, bookingState, pageable)
+                .getAllBookingsForOwnerItems(userId, bookingState, pageable)
                 .stream()
                 .map(bookingResponseMapper::convert)
                 .collect(Collectors.toList());
     }
+
+    @Override
+    public Slice<BookingResponseDto> getAllBookingsOfUserByCursor(Long userId, String state, String cursor, Integer size) {
+        if (!userRepository.existsUserById(userId)) {
+            throw new UserNotFoundException(userId);
+        }
+        BookingState bookingState;
+        try {
+            bookingState = BookingState.valueOf(state);
+        } catch (IllegalArgumentException e) {
+            throw new BookingStateException(state);
+        }
+        Pageable pageable = pageBuilder.build(0, size, KEYSET_SORT);
+        return bookingProviderSelector
+                .getAllBookingsOfUser(userId, bookingState, BookingCursor.decode(cursor), pageable)
+                .map(bookingResponseMapper::convert);
+    }
+
+    @Override
+    public Slice<BookingResponseDto> getAllBookingsForOwnerItemsByCursor(Long userId, String state, String cursor, Integer size) {
+        if (!userRepository.existsUserById(userId)) {
+            throw new UserNotFoundException(userId);
+        }
+        BookingState bookingState;
+        try {
+            bookingState = BookingState.valueOf(state);
+        } catch (IllegalArgumentException e) {
+            throw new BookingStateException(state);
+        }
+        Pageable pageable = pageBuilder.build(0, size, KEYSET_SORT);
+        BookingCursor bookingCursor = BookingCursor.decode(cursor);
+        return bookingProviderSelector
+                .getAllBookingsForOwnerItems(userId, bookingState, bookingCursor, pageable)
+                .map(bookingResponseMapper::convert);
+    }
 }
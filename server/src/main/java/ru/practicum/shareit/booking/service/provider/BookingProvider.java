@@ -1,20 +1,28 @@
 package ru.practicum.shareit.booking.service.provider;
 
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import ru.practicum.shareit.booking.Booking;
+import ru.practicum.shareit.booking.BookingCursor;
 import ru.practicum.shareit.booking.BookingState;
 
 import java.util.Collection;
-import java.util.List;
+import java.util.stream.Stream;
 
 public interface BookingProvider {
 
     Collection<Booking> getAllBookingsOfUser(Long userId, BookingState state);
 
-    Collection<Booking> getAllBookingsForOwnerItems(List<Long> itemIds, BookingState state);
+    Stream<Booking> streamAllBookingsOfUser(Long userId, BookingState state);
 
-    Page<Booking> getAllBookingsOfUser(Long userId, BookingState state, Pageable pageable);
+    Collection<Booking> getAllBookingsForOwnerItems(Long ownerId, BookingState state);
 
-    Page<Booking> getAllBookingsForOwnerItems(List<Long> itemIds, BookingState state, Pageable pageable);
+    Slice<Booking> getAllBookingsOfUser(Long userId, BookingState state, Pageable pageable);
+
+    Slice<Booking> getAllBookingsForOwnerItems(Long ownerId, BookingState state, Pageable pageable);
+
+    Slice<Booking> getAllBookingsOfUser(Long userId, BookingState state, BookingCursor cursor, Pageable pageable);
+
+    Slice<Booking> getAllBookingsForOwnerItems(Long ownerId, BookingState state, BookingCursor cursor,
+                                               Pageable pageable);
 }
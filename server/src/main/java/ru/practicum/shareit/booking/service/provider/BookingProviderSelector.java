@@ -1,14 +1,15 @@
 package ru.practicum.shareit.booking.service.provider;
 
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Component;
 import ru.practicum.shareit.booking.Booking;
+import ru.practicum.shareit.booking.BookingCursor;
 import ru.practicum.shareit.booking.BookingState;
 
 import java.util.Collection;
-import java.util.List;
+import java.util.stream.Stream;
 import java.util.Map;
 
 @Component
@@ -23,17 +24,34 @@ public class BookingProviderSelector implements BookingProvider {
     }
 
     @Override
-    public Collection<Booking> getAllBookingsForOwnerItems(List<Long> itemIds, BookingState state) {
-        return providersMap.get(state).getAllBookingsForOwnerItems(itemIds, state);
+    public Stream<Booking> streamAllBookingsOfUser(Long userId, BookingState state) {
+        return providersMap.get(state).streamAllBookingsOfUser(userId, state);
     }
 
     @Override
-    public Page<Booking> getAllBookingsOfUser(Long userId, BookingState state, Pageable pageable) {
+    public Collection<Booking> getAllBookingsForOwnerItems(Long ownerId, BookingState state) {
+        return providersMap.get(state).getAllBookingsForOwnerItems(ownerId, state);
+    }
+
+    @Override
+    public Slice<Booking> getAllBookingsOfUser(Long userId, BookingState state, Pageable pageable) {
         return providersMap.get(state).getAllBookingsOfUser(userId, state, pageable);
     }
 
     @Override
-    public Page<Booking> getAllBookingsForOwnerItems(List<Long> itemIds, BookingState state, Pageable pageable) {
-        return providersMap.get(state).getAllBookingsForOwnerItems(itemIds, state, pageable);
+    public Slice<Booking> getAllBookingsForOwnerItems(Long ownerId, BookingState state, Pageable pageable) {
+        return providersMap.get(state).getAllBookingsForOwnerItems(ownerId, state, pageable);
+    }
+
+    @Override
+    public Slice<Booking> getAllBookingsOfUser(Long userId, BookingState state, BookingCursor cursor,
+                                               Pageable pageable) {
+        return providersMap.get(state).getAllBookingsOfUser(userId, state, cursor, pageable);
+    }
+
+    @Override
+    public Slice<Booking> getAllBookingsForOwnerItems(Long ownerId, BookingState state, BookingCursor cursor,
+                                                      Pageable pageable) {
+        return providersMap.get(state).getAllBookingsForOwnerItems(ownerId, state, cursor, pageable);
     }
 }
@@ -1,15 +1,16 @@
 package ru.practicum.shareit.booking.service.provider;
 
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Component;
 import ru.practicum.shareit.booking.Booking;
+import ru.practicum.shareit.booking.BookingCursor;
 import ru.practicum.shareit.booking.BookingState;
 import ru.practicum.shareit.booking.repository.BookingRepository;
 
 import java.util.Collection;
-import java.util.List;
+import java.util.stream.Stream;
 
 @Component
 @RequiredArgsConstructor
@@ -23,17 +24,34 @@ public class DefaultBookingProvider implements BookingProvider {
     }
 
     @Override
-    public Collection<Booking> getAllBookingsForOwnerItems(List<Long> itemIds, BookingState state) {
-        return bookingRepository.findAllBookingOfItems(itemIds);
+    public Stream<Booking> streamAllBookingsOfUser(Long userId, BookingState state) {
+        return bookingRepository.streamAllBookingOfUser(userId);
     }
 
     @Override
-    public Page<Booking> getAllBookingsOfUser(Long userId, BookingState state, Pageable pageable) {
+    public Collection<Booking> getAllBookingsForOwnerItems(Long ownerId, BookingState state) {
+        return bookingRepository.findAllBookingOfOwner(ownerId);
+    }
+
+    @Override
+    public Slice<Booking> getAllBookingsOfUser(Long userId, BookingState state, Pageable pageable) {
         return bookingRepository.findAllBookingOfUser(userId, pageable);
     }
 
     @Override
-    public Page<Booking> getAllBookingsForOwnerItems(List<Long> itemIds, BookingState state, Pageable pageable) {
-        return bookingRepository.findAllBookingOfItems(itemIds, pageable);
+    public Slice<Booking> getAllBookingsForOwnerItems(Long ownerId, BookingState state, Pageable pageable) {
+        return bookingRepository.findAllBookingOfOwner(ownerId, pageable);
+    }
+
+    @Override
+    public Slice<Booking> getAllBookingsOfUser(Long userId, BookingState state, BookingCursor cursor,
+                                               Pageable pageable) {
+        return bookingRepository.findAllBookingOfUser(userId, cursor, pageable);
+    }
+
+    @Override
+    public Slice<Booking> getAllBookingsForOwnerItems(Long ownerId, BookingState state, BookingCursor cursor,
+                                                      Pageable pageable) {
+        return bookingRepository.findAllBookingOfOwner(ownerId, cursor, pageable);
     }
-}
\ No newline at end of file
+}
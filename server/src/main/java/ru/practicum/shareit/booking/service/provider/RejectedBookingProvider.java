@@ -1,16 +1,17 @@
 package ru.practicum.shareit.booking.service.provider;
 
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Component;
 import ru.practicum.shareit.booking.Booking;
+import ru.practicum.shareit.booking.BookingCursor;
 import ru.practicum.shareit.booking.BookingState;
 import ru.practicum.shareit.booking.BookingStatus;
 import ru.practicum.shareit.booking.repository.BookingRepository;
 
 import java.util.Collection;
-import java.util.List;
+import java.util.stream.Stream;
 
 @Component
 @RequiredArgsConstructor
@@ -24,17 +25,34 @@ public class RejectedBookingProvider implements BookingProvider {
     }
 
     @Override
-    public Collection<Booking> getAllBookingsForOwnerItems(List<Long> itemIds, BookingState state) {
-        return bookingRepository.findAllBookingsOfItemsWithStatus(itemIds, BookingStatus.REJECTED);
+    public Stream<Booking> streamAllBookingsOfUser(Long userId, BookingState state) {
+        return bookingRepository.streamAllBookingsOfUserWithStatus(userId, BookingStatus.REJECTED);
     }
 
     @Override
-    public Page<Booking> getAllBookingsOfUser(Long userId, BookingState state, Pageable pageable) {
+    public Collection<Booking> getAllBookingsForOwnerItems(Long ownerId, BookingState state) {
+        return bookingRepository.findAllBookingsOfOwnerWithStatus(ownerId, BookingStatus.REJECTED);
+    }
+
+    @Override
+    public Slice<Booking> getAllBookingsOfUser(Long userId, BookingState state, Pageable pageable) {
         return bookingRepository.findAllBookingsOfUserWithStatus(userId, BookingStatus.REJECTED, pageable);
     }
 
     @Override
-    public Page<Booking> getAllBookingsForOwnerItems(List<Long> itemIds, BookingState state, Pageable pageable) {
-        return bookingRepository.findAllBookingsOfItemsWithStatus(itemIds, BookingStatus.REJECTED, pageable);
+    public Slice<Booking> getAllBookingsForOwnerItems(Long ownerId, BookingState state, Pageable pageable) {
+        return bookingRepository.findAllBookingsOfOwnerWithStatus(ownerId, BookingStatus.REJECTED, pageable);
+    }
+
+    @Override
+    public Slice<Booking> getAllBookingsOfUser(Long userId, BookingState state, BookingCursor cursor,
+                                               Pageable pageable) {
+        return bookingRepository.findAllBookingsOfUserWithStatus(userId, BookingStatus.REJECTED, cursor, pageable);
+    }
+
+    @Override
+    public Slice<Booking> getAllBookingsForOwnerItems(Long ownerId, BookingState state, BookingCursor cursor,
+                                                      Pageable pageable) {
+        return bookingRepository.findAllBookingsOfOwnerWithStatus(ownerId, BookingStatus.REJECTED, cursor, pageable);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,62 @@
+package ru.practicum.shareit.config;
+
+import org.springframework.stereotype.Component;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+@Component
+public class EntityStreams {
+
+    public static final String FETCH_SIZE_HINT = "org.hibernate.fetchSize";
+
+    public static final String FETCH_SIZE = "500";
+
+    private static final int CLEAR_INTERVAL = Integer.parseInt(FETCH_SIZE);
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /**
+     * Clears the persistence context after every fetch of rows, so a long stream does not keep every entity
+     * it has read. Elements already handed out become detached and have to be mapped before the next fetch.
+     */
+    public <T> Stream<T> detaching(Stream<T> stream) {
+        AtomicLong count = new AtomicLong();
+        return stream.peek(entity -> {
+            if (count.incrementAndGet() % CLEAR_INTERVAL == 0) {
+                entityManager.clear();
+            }
+        });
+    }
+
+    public static <T> Stream<List<T>> chunked(Stream<T> stream, int chunkSize) {
+        Iterator<T> iterator = stream.iterator();
+        Iterator<List<T>> chunks = new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                return iterator.hasNext();
+            }
+
+            @Override
+            public List<T> next() {
+                List<T> chunk = new ArrayList<>(chunkSize);
+                while (chunk.size() < chunkSize && iterator.hasNext()) {
+                    chunk.add(iterator.next());
+                }
+                return chunk;
+            }
+        };
+        return StreamSupport
+                .stream(Spliterators.spliteratorUnknownSize(chunks, Spliterator.ORDERED), false)
+                .onClose(stream::close);
+    }
+}
@@ -0,0 +1,46 @@
+package ru.practicum.shareit.config;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.function.Consumer;
+
+@Component
+@RequiredArgsConstructor
+public class JsonArrayWriter {
+
+    private final ObjectMapper objectMapper;
+
+    @FunctionalInterface
+    public interface Source<T> {
+
+        void forEach(Consumer<T> action);
+    }
+
+    /**
+     * Writes the elements of the source as a JSON array while they are produced. The generator is flushed
+     * only when its buffer fills up, so an exception thrown before the first element leaves the response
+     * untouched for the exception controllers.
+     */
+    public <T> void write(HttpServletResponse response, Source<T> source) throws IOException {
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        JsonGenerator generator = objectMapper.getFactory().createGenerator(response.getOutputStream());
+        generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        generator.writeStartArray();
+        source.forEach(value -> {
+            try {
+                generator.writeObject(value);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        generator.writeEndArray();
+        generator.close();
+    }
+}
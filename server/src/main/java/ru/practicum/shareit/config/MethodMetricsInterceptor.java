@@ -0,0 +1,89 @@
+package ru.practicum.shareit.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.util.ClassUtils;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Times every call of an advised method as {@code shareit.method}, tagged with the implementing class, the
+ * method and the simple name of the exception it threw ({@code none} on success). Failed calls are also
+ * counted as {@code shareit.method.errors}. The registry is resolved on the first call, so the interceptor
+ * can be created by a bean post processor before the registry exists.
+ */
+public class MethodMetricsInterceptor implements MethodInterceptor {
+
+    public static final String TIMER_NAME = "shareit.method";
+    public static final String ERRORS_NAME = "shareit.method.errors";
+    private static final String NO_EXCEPTION = "none";
+
+    private final ObjectProvider<MeterRegistry> meterRegistryProvider;
+    private final Map<Class<?>, Map<Method, Timer>> successTimers = new ConcurrentHashMap<>();
+    private volatile MeterRegistry meterRegistry;
+
+    public MethodMetricsInterceptor(ObjectProvider<MeterRegistry> meterRegistryProvider) {
+        this.meterRegistryProvider = meterRegistryProvider;
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        MeterRegistry registry = getMeterRegistry();
+        if (registry == null) {
+            return invocation.proceed();
+        }
+        long started = registry.config().clock().monotonicTime();
+        try {
+            Object result = invocation.proceed();
+            Timer timer = successTimers
+                    .computeIfAbsent(targetClass(invocation), targetClass -> new ConcurrentHashMap<>())
+                    .computeIfAbsent(invocation.getMethod(), method -> timer(registry, invocation, NO_EXCEPTION));
+            timer.record(registry.config().clock().monotonicTime() - started, TimeUnit.NANOSECONDS);
+            return result;
+        } catch (Throwable e) {
+            String exception = e.getClass().getSimpleName();
+            timer(registry, invocation, exception)
+                    .record(registry.config().clock().monotonicTime() - started, TimeUnit.NANOSECONDS);
+            Counter.builder(ERRORS_NAME)
+                    .tag("class", className(invocation))
+                    .tag("method", invocation.getMethod().getName())
+                    .tag("exception", exception)
+                    .register(registry)
+                    .increment();
+            throw e;
+        }
+    }
+
+    private MeterRegistry getMeterRegistry() {
+        MeterRegistry registry = meterRegistry;
+        if (registry == null) {
+            registry = meterRegistryProvider.getIfAvailable();
+            meterRegistry = registry;
+        }
+        return registry;
+    }
+
+    private static Timer timer(MeterRegistry registry, MethodInvocation invocation, String exception) {
+        return Timer.builder(TIMER_NAME)
+                .tag("class", className(invocation))
+                .tag("method", invocation.getMethod().getName())
+                .tag("exception", exception)
+                .register(registry);
+    }
+
+    private static Class<?> targetClass(MethodInvocation invocation) {
+        Object target = invocation.getThis();
+        return target == null ? invocation.getMethod().getDeclaringClass() : target.getClass();
+    }
+
+    private static String className(MethodInvocation invocation) {
+        return ClassUtils.getUserClass(targetClass(invocation)).getSimpleName();
+    }
+}
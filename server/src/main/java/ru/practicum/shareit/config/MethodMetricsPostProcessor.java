@@ -0,0 +1,53 @@
+package ru.practicum.shareit.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.aop.framework.autoproxy.AbstractBeanFactoryAwareAdvisingPostProcessor;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.aop.support.StaticMethodMatcherPointcut;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.stereotype.Repository;
+import org.springframework.stereotype.Service;
+import org.springframework.util.ClassUtils;
+
+import java.lang.reflect.Method;
+
+/**
+ * Advises the methods {@code @Service} and {@code @Repository} beans implement from their {@code *Service}
+ * and {@code *Repository} interfaces with a {@link MethodMetricsInterceptor}. The advice is added in front of
+ * the existing ones, so the timings include transactions. Spring Data repositories are left alone: Spring
+ * Boot already times them as {@code spring.data.repository.invocations}.
+ */
+public class MethodMetricsPostProcessor extends AbstractBeanFactoryAwareAdvisingPostProcessor {
+
+    public MethodMetricsPostProcessor(ObjectProvider<MeterRegistry> meterRegistryProvider) {
+        this.advisor = new DefaultPointcutAdvisor(new ServiceMethodPointcut(),
+                new MethodMetricsInterceptor(meterRegistryProvider));
+        setBeforeExistingAdvisors(true);
+        setProxyTargetClass(true);
+    }
+
+    private static final class ServiceMethodPointcut extends StaticMethodMatcherPointcut {
+
+        private ServiceMethodPointcut() {
+            setClassFilter(ServiceMethodPointcut::isServiceOrRepository);
+        }
+
+        @Override
+        public boolean matches(Method method, Class<?> targetClass) {
+            for (Class<?> type : ClassUtils.getAllInterfacesForClassAsSet(targetClass)) {
+                String name = type.getSimpleName();
+                if ((name.endsWith("Service") || name.endsWith("Repository"))
+                        && ClassUtils.hasMethod(type, method.getName(), method.getParameterTypes())) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private static boolean isServiceOrRepository(Class<?> type) {
+            return AnnotatedElementUtils.hasAnnotation(type, Service.class)
+                    || AnnotatedElementUtils.hasAnnotation(type, Repository.class);
+        }
+    }
+}
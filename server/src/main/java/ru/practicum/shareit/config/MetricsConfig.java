@@ -0,0 +1,16 @@
+package ru.practicum.shareit.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class MetricsConfig {
+
+    @Bean
+    public static MethodMetricsPostProcessor methodMetricsPostProcessor(
+            ObjectProvider<MeterRegistry> meterRegistryProvider) {
+        return new MethodMetricsPostProcessor(meterRegistryProvider);
+    }
+}
@@ -0,0 +1,16 @@
+package ru.practicum.shareit.config;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Hands every statement Hibernate prepares to {@link SqlStatistics}, so slow statements can be reported with
+ * their SQL. Registered as {@code hibernate.session_factory.statement_inspector}.
+ */
+public class SqlStatementInspector implements StatementInspector {
+
+    @Override
+    public String inspect(String sql) {
+        SqlStatistics.statementPrepared(sql);
+        return sql;
+    }
+}
@@ -0,0 +1,134 @@
+package ru.practicum.shareit.config;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Counts and times the SQL statements the current thread executes while a scope is open. Statements are
+ * reported by {@link SqlStatementInspector} and {@link SqlTimingEventListener}, so only statements issued
+ * through Hibernate are seen. Scopes nest, and a statement is recorded in every open scope of the thread:
+ *
+ * <pre>
+ * try (SqlStatistics statistics = SqlStatistics.start()) {
+ *     itemService.getAllItems(userId, 0, 20);
+ *     assertThat(statistics.getStatementCount()).isLessThanOrEqualTo(4);
+ * }
+ * </pre>
+ */
+public final class SqlStatistics implements AutoCloseable {
+
+    private static final ThreadLocal<SqlStatistics> CURRENT = new ThreadLocal<>();
+
+    private final SqlStatistics outer;
+    private final long slowThresholdNanos;
+    private final List<SlowStatement> slowStatements = new ArrayList<>();
+    private final List<String> statements;
+    private String currentSql;
+    private int statementCount;
+    private long totalNanos;
+    private boolean closed;
+
+    private SqlStatistics(SqlStatistics outer, Duration slowThreshold, boolean recording) {
+        this.outer = outer;
+        this.slowThresholdNanos = slowThreshold.toNanos();
+        this.statements = recording ? new ArrayList<>() : null;
+    }
+
+    public static SqlStatistics start() {
+        return start(Duration.ofNanos(Long.MAX_VALUE));
+    }
+
+    /**
+     * Opens a scope that also keeps every statement that ran for longer than the threshold.
+     */
+    public static SqlStatistics start(Duration slowThreshold) {
+        return open(new SqlStatistics(CURRENT.get(), slowThreshold, false));
+    }
+
+    /**
+     * Opens a scope that also keeps the SQL of every statement in the order they ran, for tests that look
+     * at what Hibernate generates.
+     */
+    public static SqlStatistics recording() {
+        return open(new SqlStatistics(CURRENT.get(), Duration.ofNanos(Long.MAX_VALUE), true));
+    }
+
+    private static SqlStatistics open(SqlStatistics statistics) {
+        CURRENT.set(statistics);
+        return statistics;
+    }
+
+    static void statementPrepared(String sql) {
+        for (SqlStatistics statistics = CURRENT.get(); statistics != null; statistics = statistics.outer) {
+            statistics.currentSql = sql;
+        }
+    }
+
+    static void statementExecuted(long nanos) {
+        for (SqlStatistics statistics = CURRENT.get(); statistics != null; statistics = statistics.outer) {
+            statistics.statementCount++;
+            statistics.totalNanos += nanos;
+            if (statistics.statements != null) {
+                statistics.statements.add(statistics.currentSql);
+            }
+            if (nanos >= statistics.slowThresholdNanos) {
+                statistics.slowStatements.add(new SlowStatement(statistics.currentSql, Duration.ofNanos(nanos)));
+            }
+        }
+    }
+
+    public int getStatementCount() {
+        return statementCount;
+    }
+
+    public Duration getTotalTime() {
+        return Duration.ofNanos(totalNanos);
+    }
+
+    public List<SlowStatement> getSlowStatements() {
+        return Collections.unmodifiableList(slowStatements);
+    }
+
+    public List<String> getStatements() {
+        if (statements == null) {
+            throw new IllegalStateException("Statements are only kept by a scope opened with SqlStatistics.recording()");
+        }
+        return Collections.unmodifiableList(statements);
+    }
+
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        if (CURRENT.get() == this) {
+            if (outer == null) {
+                CURRENT.remove();
+            } else {
+                CURRENT.set(outer);
+            }
+        }
+    }
+
+    public static final class SlowStatement {
+
+        private final String sql;
+        private final Duration duration;
+
+        private SlowStatement(String sql, Duration duration) {
+            this.sql = sql;
+            this.duration = duration;
+        }
+
+        public String getSql() {
+            return sql;
+        }
+
+        public Duration getDuration() {
+            return duration;
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package ru.practicum.shareit.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.time.Duration;
+
+/**
+ * Opens a {@link SqlStatistics} scope around every request and reports it under the endpoint, which is the
+ * method and the mapped path pattern: the statement count and the total statement time go to the
+ * {@code shareit.http.sql.statements} and {@code shareit.http.sql.time} meters and to the debug log, and every
+ * statement slower than {@code shareit.sql.slow-threshold} is logged with its SQL and counted as
+ * {@code shareit.http.sql.slow}.
+ */
+@Slf4j
+@Component
+public class SqlStatisticsFilter extends OncePerRequestFilter {
+
+    private static final String UNMAPPED = "UNMAPPED";
+
+    private final ObjectProvider<MeterRegistry> meterRegistryProvider;
+    private final boolean enabled;
+    private final Duration slowThreshold;
+
+    public SqlStatisticsFilter(
+            ObjectProvider<MeterRegistry> meterRegistryProvider,
+            @Value("${shareit.sql.statistics.enabled:true}") boolean enabled,
+            @Value("${shareit.sql.slow-threshold:PT0.1S}") Duration slowThreshold) {
+        this.meterRegistryProvider = meterRegistryProvider;
+        this.enabled = enabled;
+        this.slowThreshold = slowThreshold;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        if (!enabled) {
+            chain.doFilter(request, response);
+            return;
+        }
+        SqlStatistics statistics = SqlStatistics.start(slowThreshold);
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            statistics.close();
+            report(endpoint(request), statistics);
+        }
+    }
+
+    private void report(String endpoint, SqlStatistics statistics) {
+        for (SqlStatistics.SlowStatement statement : statistics.getSlowStatements()) {
+            log.warn("Slow SQL statement in {} took {} ms: {}",
+                    endpoint, statement.getDuration().toMillis(), statement.getSql());
+        }
+        log.debug("{} executed {} SQL statements in {} ms",
+                endpoint, statistics.getStatementCount(), statistics.getTotalTime().toMillis());
+        MeterRegistry registry = meterRegistryProvider.getIfAvailable();
+        if (registry == null) {
+            return;
+        }
+        DistributionSummary.builder("shareit.http.sql.statements")
+                .tag("endpoint", endpoint)
+                .register(registry)
+                .record(statistics.getStatementCount());
+        Timer.builder("shareit.http.sql.time")
+                .tag("endpoint", endpoint)
+                .register(registry)
+                .record(statistics.getTotalTime());
+        if (!statistics.getSlowStatements().isEmpty()) {
+            Counter.builder("shareit.http.sql.slow")
+                    .tag("endpoint", endpoint)
+                    .register(registry)
+                    .increment(statistics.getSlowStatements().size());
+        }
+    }
+
+    private static String endpoint(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return request.getMethod() + " " + (pattern == null ? UNMAPPED : pattern);
+    }
+}
@@ -0,0 +1,32 @@
+package ru.practicum.shareit.config;
+
+import org.hibernate.BaseSessionEventListener;
+
+/**
+ * Times the JDBC executions of a session for {@link SqlStatistics}; a flushed batch counts as one statement.
+ * Registered as {@code hibernate.session.events.auto}, which creates one listener per session.
+ */
+public class SqlTimingEventListener extends BaseSessionEventListener {
+
+    private long executionStarted;
+
+    @Override
+    public void jdbcExecuteStatementStart() {
+        executionStarted = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteStatementEnd() {
+        SqlStatistics.statementExecuted(System.nanoTime() - executionStarted);
+    }
+
+    @Override
+    public void jdbcExecuteBatchStart() {
+        executionStarted = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteBatchEnd() {
+        SqlStatistics.statementExecuted(System.nanoTime() - executionStarted);
+    }
+}
@@ -2,10 +2,13 @@ package ru.practicum.shareit.item;
 
 import lombok.RequiredArgsConstructor;
 import org.springframework.web.bind.annotation.*;
+import ru.practicum.shareit.config.JsonArrayWriter;
 import ru.practicum.shareit.item.dto.CommentDto;
 import ru.practicum.shareit.item.dto.ItemDto;
 import ru.practicum.shareit.item.service.ItemService;
 
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
 import java.util.Collection;
 
 @RestController
@@ -14,6 +17,7 @@ import java.util.Collection;
 public class ItemController {
 
     private final ItemService itemService;
+    private final JsonArrayWriter jsonArrayWriter;
 
     @GetMapping("/{itemId}")
     public ItemDto getItem(
@@ -45,11 +49,16 @@ public class ItemController {
     }
 
     @GetMapping
-    public Collection<ItemDto> getAllItems(
+    public void getAllItems(
             @RequestHeader("X-Sharer-User-Id") Long userId,
             @RequestParam(required = false) Integer from,
-            @RequestParam(required = false) Integer size) {
-        return itemService.getAllItems(userId, from, size);
+            @RequestParam(required = false) Integer size,
+            HttpServletResponse response) throws IOException {
+        if (from == null || size == null) {
+            jsonArrayWriter.write(response, action -> itemService.forEachItem(userId, action));
+        } else {
+            jsonArrayWriter.write(response, itemService.getAllItems(userId, from, size)::forEach);
+        }
     }
 
     @GetMapping("/search")
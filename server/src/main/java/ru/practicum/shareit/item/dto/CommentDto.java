@@ -5,7 +5,6 @@ import lombok.AllArgsConstructor;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.Setter;
-import org.apache.commons.lang.SerializationUtils;
 
 import javax.validation.constraints.NotEmpty;
 import javax.validation.constraints.NotNull;
@@ -37,14 +36,18 @@ public class CommentDto implements Serializable {
     private LocalDateTime created;
 
     public CommentDto withId(Long id) {
-        CommentDto commentDto = (CommentDto) SerializationUtils.clone(this);
+        CommentDto commentDto = copy();
         commentDto.setId(id);
         return commentDto;
     }
 
     public CommentDto withAuthorName(String authorName) {
-        CommentDto commentDto = (CommentDto) SerializationUtils.clone(this);
+        CommentDto commentDto = copy();
         commentDto.setAuthorName(authorName);
         return commentDto;
     }
+
+    private CommentDto copy() {
+        return new CommentDto(id, text, authorName, created);
+    }
 }
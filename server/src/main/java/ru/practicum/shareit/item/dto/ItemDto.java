@@ -5,10 +5,10 @@ import lombok.AllArgsConstructor;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.Setter;
-import org.apache.commons.lang.SerializationUtils;
 import ru.practicum.shareit.booking.dto.BookingLinkedDto;
 
 import java.io.Serializable;
+import java.util.ArrayList;
 import java.util.Collection;
 
 @Getter
@@ -46,44 +46,57 @@ public class ItemDto implements Serializable {
     private Collection<CommentDto> comments;
 
     public ItemDto withId(Long id) {
-        ItemDto itemDto = (ItemDto) SerializationUtils.clone(this);
+        ItemDto itemDto = copy();
         itemDto.setId(id);
         return itemDto;
     }
 
     public ItemDto withName(String name) {
-        ItemDto itemDto = (ItemDto) SerializationUtils.clone(this);
+        ItemDto itemDto = copy();
         itemDto.setName(name);
         return itemDto;
     }
 
     public ItemDto withDescription(String description) {
-        ItemDto itemDto = (ItemDto) SerializationUtils.clone(this);
+        ItemDto itemDto = copy();
         itemDto.setDescription(description);
         return itemDto;
     }
 
     public ItemDto withAvailable(Boolean available) {
-        ItemDto itemDto = (ItemDto) SerializationUtils.clone(this);
+        ItemDto itemDto = copy();
         itemDto.setAvailable(available);
         return itemDto;
     }
 
     public ItemDto withNextBooking(BookingLinkedDto nextBooking) {
-        ItemDto itemDto = (ItemDto) SerializationUtils.clone(this);
+        ItemDto itemDto = copy();
         itemDto.setNextBooking(nextBooking);
         return itemDto;
     }
 
     public ItemDto withLastBooking(BookingLinkedDto lastBooking) {
-        ItemDto itemDto = (ItemDto) SerializationUtils.clone(this);
+        ItemDto itemDto = copy();
         itemDto.setLastBooking(lastBooking);
         return itemDto;
     }
 
     public ItemDto withComments(Collection<CommentDto> comments) {
-        ItemDto itemDto = (ItemDto) SerializationUtils.clone(this);
+        ItemDto itemDto = copy();
         itemDto.setComments(comments);
         return itemDto;
     }
+
+    private ItemDto copy() {
+        return new ItemDto(
+                id,
+                name,
+                description,
+                available,
+                requestId,
+                lastBooking,
+                nextBooking,
+                comments != null ? new ArrayList<>(comments) : null
+        );
+    }
 }
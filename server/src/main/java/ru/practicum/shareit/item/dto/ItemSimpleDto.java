@@ -5,7 +5,6 @@ import lombok.AllArgsConstructor;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.Setter;
-import org.apache.commons.lang.SerializationUtils;
 
 import java.io.Serializable;
 
@@ -33,8 +32,12 @@ public class ItemSimpleDto implements Serializable {
     private Long requestId;
 
     public ItemSimpleDto withId(Long id) {
-        ItemSimpleDto itemDto = (ItemSimpleDto) SerializationUtils.clone(this);
+        ItemSimpleDto itemDto = copy();
         itemDto.setId(id);
         return itemDto;
     }
+
+    private ItemSimpleDto copy() {
+        return new ItemSimpleDto(id, name, description, available, requestId);
+    }
 }
@@ -3,7 +3,6 @@ package ru.practicum.shareit.item.model;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
-import org.apache.commons.lang.SerializationUtils;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.DynamicUpdate;
 import ru.practicum.shareit.config.BaseEntity;
@@ -59,20 +58,24 @@ public class Comment extends BaseEntity<Long> {
     private LocalDateTime created;
 
     public Comment withId(Long id) {
-        Comment comment = (Comment) SerializationUtils.clone(this);
+        Comment comment = copy();
         comment.setId(id);
         return comment;
     }
 
     public Comment withAuthor(User author) {
-        Comment comment = (Comment) SerializationUtils.clone(this);
+        Comment comment = copy();
         comment.setAuthor(author);
         return comment;
     }
 
     public Comment withItem(Item item) {
-        Comment comment = (Comment) SerializationUtils.clone(this);
+        Comment comment = copy();
         comment.setItem(item);
         return comment;
     }
+
+    private Comment copy() {
+        return new Comment(id, text, author, item, created);
+    }
 }
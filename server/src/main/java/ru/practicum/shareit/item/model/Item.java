@@ -3,7 +3,6 @@ package ru.practicum.shareit.item.model;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
-import org.apache.commons.lang.SerializationUtils;
 import org.hibernate.annotations.DynamicUpdate;
 import ru.practicum.shareit.booking.Booking;
 import ru.practicum.shareit.config.BaseEntity;
@@ -22,7 +21,7 @@ import java.util.List;
 @Table(
         name = "items",
         indexes = {
-                @Index(name = "items_owner_id_idx", columnList = "owner_id"),
+                @Index(name = "items_owner_id_id_idx", columnList = "owner_id, id"),
                 @Index(name = "items_request_id_idx", columnList = "request_id")
         }
 )
@@ -70,32 +69,36 @@ public class Item extends BaseEntity<Long> {
     private List<Comment> comments = new ArrayList<>();
 
     public Item withId(Long id) {
-        Item item = (Item) SerializationUtils.clone(this);
+        Item item = copy();
         item.setId(id);
         return item;
     }
 
     public Item withName(String name) {
-        Item item = (Item) SerializationUtils.clone(this);
+        Item item = copy();
         item.setName(name);
         return item;
     }
 
     public Item withDescription(String description) {
-        Item item = (Item) SerializationUtils.clone(this);
+        Item item = copy();
         item.setDescription(description);
         return item;
     }
 
     public Item withAvailable(Boolean available) {
-        Item item = (Item) SerializationUtils.clone(this);
+        Item item = copy();
         item.setAvailable(available);
         return item;
     }
 
     public Item withOwner(User owner) {
-        Item item = (Item) SerializationUtils.clone(this);
+        Item item = copy();
         item.setOwner(owner);
         return item;
     }
+
+    private Item copy() {
+        return new Item(id, name, description, available, owner, request);
+    }
 }
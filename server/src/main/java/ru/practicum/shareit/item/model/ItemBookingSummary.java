@@ -0,0 +1,54 @@
+package ru.practicum.shareit.item.model;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import ru.practicum.shareit.booking.Booking;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor
+@Table(
+        name = "item_booking_summaries",
+        indexes = {@Index(name = "item_booking_summaries_valid_until_idx", columnList = "valid_until")}
+)
+public class ItemBookingSummary {
+
+    public ItemBookingSummary(Long itemId) {
+        this.itemId = itemId;
+    }
+
+    public ItemBookingSummary(Long itemId, Booking nextBooking, Booking lastBooking) {
+        this.itemId = itemId;
+        update(nextBooking, lastBooking);
+    }
+
+    @Id
+    @Column(name = "item_id")
+    private Long itemId;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "next_booking_id")
+    private Booking nextBooking;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "last_booking_id")
+    private Booking lastBooking;
+
+    /**
+     * Start of the next booking: from then on it is no longer next and may become the last one.
+     * {@code null} when nothing is booked ahead, so only a status change can make the summary outdated.
+     */
+    @Column(name = "valid_until", columnDefinition = "timestamp")
+    private LocalDateTime validUntil;
+
+    public void update(Booking nextBooking, Booking lastBooking) {
+        this.nextBooking = nextBooking;
+        this.lastBooking = lastBooking;
+        this.validUntil = nextBooking != null ? nextBooking.getStart() : null;
+    }
+}
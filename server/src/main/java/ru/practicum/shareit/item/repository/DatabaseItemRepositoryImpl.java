@@ -1,35 +1,83 @@
 package ru.practicum.shareit.item.repository;
 
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
 import org.springframework.context.annotation.Lazy;
-import org.springframework.data.domain.Page;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import ru.practicum.shareit.booking.Booking;
 import ru.practicum.shareit.booking.BookingStatus;
 import ru.practicum.shareit.booking.repository.JpaBookingRepository;
+import ru.practicum.shareit.config.EntityStreams;
 import ru.practicum.shareit.item.model.Comment;
 import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.model.ItemBookingSummary;
 import ru.practicum.shareit.user.User;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Repository
 @Transactional(readOnly = true)
 public class DatabaseItemRepositoryImpl implements ItemRepository {
 
+    private static final int SEARCH_INDEX_BATCH_SIZE = 1000;
+    private static final int SEARCH_RESULT_CHUNK_SIZE = 1000;
+
     private final JpaItemRepository itemRepository;
     private final JpaBookingRepository bookingRepository;
     private final JpaCommentRepository commentRepository;
+    private final JpaItemBookingSummaryRepository bookingSummaryRepository;
+    private final ItemSearchIndex itemSearchIndex;
+    private final EntityStreams entityStreams;
+    private final boolean searchIndexEnabled;
 
     public DatabaseItemRepositoryImpl(
             @Lazy JpaItemRepository itemRepository,
             @Lazy JpaBookingRepository bookingRepository,
-            @Lazy JpaCommentRepository commentRepository) {
+            @Lazy JpaCommentRepository commentRepository,
+            @Lazy JpaItemBookingSummaryRepository bookingSummaryRepository,
+            ItemSearchIndex itemSearchIndex,
+            EntityStreams entityStreams,
+            @Value("${shareit.item.search.index.enabled:true}") boolean searchIndexEnabled) {
         this.itemRepository = itemRepository;
         this.bookingRepository = bookingRepository;
         this.commentRepository = commentRepository;
+        this.bookingSummaryRepository = bookingSummaryRepository;
+        this.itemSearchIndex = itemSearchIndex;
+        this.entityStreams = entityStreams;
+        this.searchIndexEnabled = searchIndexEnabled;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildSearchIndex() {
+        if (!searchIndexEnabled) {
+            return;
+        }
+        itemSearchIndex.beginBuild();
+        Pageable pageable = PageRequest.of(0, SEARCH_INDEX_BATCH_SIZE, Sort.by("id"));
+        Slice<ItemSearchIndex.Entry> entries;
+        do {
+            entries = itemRepository.findAllSearchIndexEntries(pageable);
+            itemSearchIndex.addAll(entries.getContent());
+            pageable = entries.nextPageable();
+        } while (entries.hasNext());
+        itemSearchIndex.completeBuild();
     }
 
     @Override
@@ -37,25 +85,43 @@ public class DatabaseItemRepositoryImpl implements ItemRepository {
         return itemRepository.findById(itemId).orElse(null);
     }
 
+    @Override
+    public Long findItemOwnerId(Long itemId) {
+        return itemRepository.findOwnerIdById(itemId).orElse(null);
+    }
+
+    @Transactional
+    @Override
+    public Item findItemByIdForUpdate(Long itemId) {
+        return itemRepository.findByIdForUpdate(itemId).orElse(null);
+    }
+
     @Transactional
     @Override
     public Item deleteItem(Long itemId) {
         Item deletedItem = itemRepository.findById(itemId).orElse(null);
         if (deletedItem != null) {
             itemRepository.deleteById(itemId);
+            afterCommit(() -> itemSearchIndex.evict(itemId));
         }
         return deletedItem;
     }
 
+    @Transactional
     @Override
     public Item saveItem(Item item) {
-        return itemRepository.save(item);
+        Item savedItem = itemRepository.save(item);
+        bookingSummaryRepository.save(new ItemBookingSummary(savedItem.getId()));
+        afterCommit(() -> itemSearchIndex.update(savedItem));
+        return savedItem;
     }
 
     @Transactional
     @Override
     public Item updateItem(Item item) {
-        return itemRepository.save(item);
+        Item updatedItem = itemRepository.save(item);
+        afterCommit(() -> itemSearchIndex.update(updatedItem));
+        return updatedItem;
     }
 
     @Override
@@ -66,20 +132,37 @@ public class DatabaseItemRepositoryImpl implements ItemRepository {
     }
 
     @Override
-    public Page<Item> findAllItems(Long userId, Pageable pageable) {
+    public Slice<Item> findAllItems(Long userId, Pageable pageable) {
         User owner = new User();
         owner.setId(userId);
         return itemRepository.findAllByOwner(owner, pageable);
     }
 
+    @Override
+    public Stream<Item> streamAllItems(Long userId) {
+        User owner = new User();
+        owner.setId(userId);
+        return entityStreams.detaching(itemRepository.streamAllByOwner(owner));
+    }
+
     @Override
     public Collection<Item> searchItem(String text) {
-        return itemRepository.searchItems(text);
+        List<Long> itemIds = itemSearchIndex.search(text);
+        if (itemIds == null) {
+            return itemRepository.searchAvailableItems(text);
+        }
+        return findAllItemsInOrder(itemIds);
     }
 
     @Override
-    public Page<Item> searchItem(String text, Pageable pageable) {
-        return itemRepository.searchItems(text, pageable);
+    public Slice<Item> searchItem(String text, Pageable pageable) {
+        List<Long> itemIds = itemSearchIndex.search(text);
+        if (itemIds == null) {
+            return itemRepository.searchAvailableItems(text, pageable);
+        }
+        int from = (int) Math.min(pageable.getOffset(), itemIds.size());
+        int to = Math.min(from + pageable.getPageSize(), itemIds.size());
+        return new SliceImpl<>(findAllItemsInOrder(itemIds.subList(from, to)), pageable, to < itemIds.size());
     }
 
     @Override
@@ -100,6 +183,74 @@ public class DatabaseItemRepositoryImpl implements ItemRepository {
         );
     }
 
+    @Override
+    public Collection<Booking> getNextBookingsByItemIds(Collection<Long> itemIds) {
+        return bookingRepository.findNextBookingsOfItems(
+                itemIds,
+                LocalDateTime.now(),
+                BookingStatus.APPROVED
+        );
+    }
+
+    @Override
+    public Collection<Booking> getLastBookingsByItemIds(Collection<Long> itemIds) {
+        return bookingRepository.findLastBookingsOfItems(
+                itemIds,
+                LocalDateTime.now(),
+                BookingStatus.APPROVED
+        );
+    }
+
+    @Override
+    public ItemBookingSummary getBookingSummaryByItemId(Long itemId) {
+        return getBookingSummariesByItemIds(List.of(itemId)).iterator().next();
+    }
+
+    /**
+     * Reads the stored summaries and computes the missing or outdated ones from the bookings
+     * without storing them: that is left to booking updates and the sweeper.
+     */
+    @Override
+    public Collection<ItemBookingSummary> getBookingSummariesByItemIds(Collection<Long> itemIds) {
+        LocalDateTime now = LocalDateTime.now();
+        List<ItemBookingSummary> summaries = new ArrayList<>(bookingSummaryRepository.findAllValidByItemIdIn(itemIds, now));
+        if (summaries.size() < itemIds.size()) {
+            Collection<Long> storedItemIds = summaries
+                    .stream()
+                    .map(ItemBookingSummary::getItemId)
+                    .collect(Collectors.toSet());
+            List<Long> missingItemIds = itemIds
+                    .stream()
+                    .filter(itemId -> !storedItemIds.contains(itemId))
+                    .collect(Collectors.toList());
+            summaries.addAll(computeBookingSummaries(missingItemIds, now));
+        }
+        return summaries;
+    }
+
+    @Transactional
+    @Override
+    public void refreshBookingSummary(Long itemId) {
+        bookingSummaryRepository
+                .findByItemIdForUpdate(itemId)
+                .ifPresent(summary -> refreshBookingSummaries(List.of(summary), LocalDateTime.now()));
+    }
+
+    @Transactional
+    @Override
+    public int refreshOutdatedBookingSummaries(int limit) {
+        LocalDateTime now = LocalDateTime.now();
+        List<ItemBookingSummary> summaries = new ArrayList<>(
+                bookingSummaryRepository.findAllOutdatedForUpdate(now, PageRequest.of(0, limit)));
+        if (summaries.size() < limit) {
+            bookingSummaryRepository
+                    .findItemIdsWithoutSummary(PageRequest.of(0, limit - summaries.size()))
+                    .forEach(itemId -> summaries.add(new ItemBookingSummary(itemId)));
+        }
+        refreshBookingSummaries(summaries, now);
+        return summaries.size();
+    }
+
     @Override
     public Boolean isUserRealBookerOfItem(Long itemId, Long userId) {
         return bookingRepository.countByItem_IdAndBooker_IdAndStatusAndEndIsBefore(
@@ -125,4 +276,85 @@ public class DatabaseItemRepositoryImpl implements ItemRepository {
     public Collection<Comment> findAllItemComments(Long itemId) {
         return commentRepository.findAllByItem_IdOrderByCreatedDesc(itemId);
     }
+
+    @Override
+    public Collection<Comment> findAllItemsComments(Collection<Long> itemIds) {
+        return commentRepository.findAllByItemIds(itemIds);
+    }
+
+    /**
+     * Loads the items in chunks, so that a search matching a large part of the catalog does not run into
+     * the driver's limit on bind parameters.
+     */
+    private List<Item> findAllItemsInOrder(List<Long> itemIds) {
+        return EntityStreams.chunked(itemIds.stream(), SEARCH_RESULT_CHUNK_SIZE)
+                .flatMap(chunk -> findChunkInOrder(chunk).stream())
+                .collect(Collectors.toList());
+    }
+
+    private List<Item> findChunkInOrder(List<Long> itemIds) {
+        Map<Long, Item> items = itemRepository
+                .findAllById(itemIds)
+                .stream()
+                .collect(Collectors.toMap(Item::getId, Function.identity()));
+        if (items.size() < itemIds.size()) {
+            // items removed together with their owner are dropped from the index lazily
+            itemIds.stream().filter(itemId -> !items.containsKey(itemId)).forEach(itemSearchIndex::evict);
+        }
+        return itemIds
+                .stream()
+                .map(items::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+    }
+
+    private List<ItemBookingSummary> computeBookingSummaries(Collection<Long> itemIds, LocalDateTime now) {
+        Map<Long, Booking> nextBookings = groupFirstBookingByItemId(
+                bookingRepository.findNextBookingsOfItems(itemIds, now, BookingStatus.APPROVED));
+        Map<Long, Booking> lastBookings = groupFirstBookingByItemId(
+                bookingRepository.findLastBookingsOfItems(itemIds, now, BookingStatus.APPROVED));
+        return itemIds
+                .stream()
+                .map(itemId -> new ItemBookingSummary(itemId, nextBookings.get(itemId), lastBookings.get(itemId)))
+                .collect(Collectors.toList());
+    }
+
+    private void refreshBookingSummaries(List<ItemBookingSummary> summaries, LocalDateTime now) {
+        if (summaries.isEmpty()) {
+            return;
+        }
+        List<Long> itemIds = summaries
+                .stream()
+                .map(ItemBookingSummary::getItemId)
+                .collect(Collectors.toList());
+        List<ItemBookingSummary> computedSummaries = computeBookingSummaries(itemIds, now);
+        for (int i = 0; i < summaries.size(); i++) {
+            ItemBookingSummary computedSummary = computedSummaries.get(i);
+            summaries.get(i).update(computedSummary.getNextBooking(), computedSummary.getLastBooking());
+        }
+        bookingSummaryRepository.saveAll(summaries);
+    }
+
+    private Map<Long, Booking> groupFirstBookingByItemId(Collection<Booking> bookings) {
+        return bookings
+                .stream()
+                .collect(Collectors.toMap(
+                        booking -> booking.getItem().getId(),
+                        Function.identity(),
+                        (first, second) -> first
+                ));
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
 }
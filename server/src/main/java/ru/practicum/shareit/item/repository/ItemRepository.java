@@ -1,17 +1,23 @@
 package ru.practicum.shareit.item.repository;
 
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import ru.practicum.shareit.booking.Booking;
 import ru.practicum.shareit.item.model.Comment;
 import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.model.ItemBookingSummary;
 
 import java.util.Collection;
+import java.util.stream.Stream;
 
 public interface ItemRepository {
 
     Item findItemById(Long itemId);
 
+    Item findItemByIdForUpdate(Long itemId);
+
+    Long findItemOwnerId(Long itemId);
+
     Item deleteItem(Long itemId);
 
     Item saveItem(Item item);
@@ -20,16 +26,30 @@ public interface ItemRepository {
 
     Collection<Item> findAllItems(Long userId);
 
-    Page<Item> findAllItems(Long userId, Pageable pageable);
+    Slice<Item> findAllItems(Long userId, Pageable pageable);
+
+    Stream<Item> streamAllItems(Long userId);
 
     Collection<Item> searchItem(String text);
 
-    Page<Item> searchItem(String text, Pageable pageable);
+    Slice<Item> searchItem(String text, Pageable pageable);
 
     Booking getNextBookingByItemId(Long itemId);
 
     Booking getLastBookingByItemId(Long itemId);
 
+    Collection<Booking> getNextBookingsByItemIds(Collection<Long> itemIds);
+
+    Collection<Booking> getLastBookingsByItemIds(Collection<Long> itemIds);
+
+    ItemBookingSummary getBookingSummaryByItemId(Long itemId);
+
+    Collection<ItemBookingSummary> getBookingSummariesByItemIds(Collection<Long> itemIds);
+
+    void refreshBookingSummary(Long itemId);
+
+    int refreshOutdatedBookingSummaries(int limit);
+
     Boolean isUserRealBookerOfItem(Long itemId, Long userId);
 
     Boolean isUserCommentatorOfItem(Long itemId, Long userId);
@@ -37,4 +57,6 @@ public interface ItemRepository {
     Comment createComment(Comment comment);
 
     Collection<Comment> findAllItemComments(Long itemId);
+
+    Collection<Comment> findAllItemsComments(Collection<Long> itemIds);
 }
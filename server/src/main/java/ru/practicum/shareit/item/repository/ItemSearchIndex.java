@@ -0,0 +1,227 @@
+package ru.practicum.shareit.item.repository;
+
+import org.springframework.stereotype.Component;
+import ru.practicum.shareit.item.model.Item;
+
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Collectors;
+
+@Component
+public class ItemSearchIndex {
+
+    private static final int GRAM_LENGTH = 3;
+    private static final int NAME_WEIGHT = 4;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Long, Document> documents = new HashMap<>();
+    private final Map<String, Set<Long>> postings = new HashMap<>();
+    private Set<Long> touchedWhileBuilding;
+    private boolean ready;
+
+    public interface Entry {
+
+        Long getId();
+
+        String getName();
+
+        String getDescription();
+    }
+
+    public boolean isReady() {
+        lock.readLock().lock();
+        try {
+            return ready;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public void beginBuild() {
+        lock.writeLock().lock();
+        try {
+            documents.clear();
+            postings.clear();
+            touchedWhileBuilding = new HashSet<>();
+            ready = false;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void addAll(Collection<? extends Entry> entries) {
+        lock.writeLock().lock();
+        try {
+            for (Entry entry : entries) {
+                if (touchedWhileBuilding == null || !touchedWhileBuilding.contains(entry.getId())) {
+                    put(entry.getId(), entry.getName(), entry.getDescription());
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void completeBuild() {
+        lock.writeLock().lock();
+        try {
+            touchedWhileBuilding = null;
+            ready = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void update(Item item) {
+        lock.writeLock().lock();
+        try {
+            touch(item.getId());
+            remove(item.getId());
+            if (Boolean.TRUE.equals(item.getAvailable())) {
+                put(item.getId(), item.getName(), item.getDescription());
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void evict(Long itemId) {
+        lock.writeLock().lock();
+        try {
+            touch(itemId);
+            remove(itemId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Returns ids of available items whose name or description contains the text, best matches first:
+     * name before description, word starts before matches inside a word. Returns {@code null} while the
+     * index is not built, so the answer has to come from the database. The same goes for text shorter than
+     * a trigram: it has no postings to narrow the candidates, and scanning every document would cost as much
+     * as the catalog is large, so the database query gets it instead.
+     */
+    public List<Long> search(String text) {
+        String query = text.toLowerCase(Locale.ROOT);
+        if (query.length() < GRAM_LENGTH) {
+            return null;
+        }
+        lock.readLock().lock();
+        try {
+            if (!ready) {
+                return null;
+            }
+            Collection<Long> candidates = findCandidates(query);
+            Map<Long, Integer> scores = new HashMap<>();
+            for (Long itemId : candidates) {
+                int score = documents.get(itemId).score(query);
+                if (score > 0) {
+                    scores.put(itemId, score);
+                }
+            }
+            return scores.keySet()
+                    .stream()
+                    .sorted(Comparator.<Long, Integer>comparing(scores::get).reversed()
+                            .thenComparing(Comparator.naturalOrder()))
+                    .collect(Collectors.toList());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private Collection<Long> findCandidates(String query) {
+        Set<Long> candidates = null;
+        for (String gram : grams(query)) {
+            Set<Long> itemIds = postings.get(gram);
+            if (itemIds == null) {
+                return Set.of();
+            }
+            if (candidates == null) {
+                candidates = new HashSet<>(itemIds);
+            } else {
+                candidates.retainAll(itemIds);
+            }
+        }
+        return candidates;
+    }
+
+    private void touch(Long itemId) {
+        if (touchedWhileBuilding != null) {
+            touchedWhileBuilding.add(itemId);
+        }
+    }
+
+    private void put(Long itemId, String name, String description) {
+        Document document = new Document(name.toLowerCase(Locale.ROOT), description.toLowerCase(Locale.ROOT));
+        documents.put(itemId, document);
+        for (String gram : document.grams()) {
+            postings.computeIfAbsent(gram, key -> new HashSet<>()).add(itemId);
+        }
+    }
+
+    private void remove(Long itemId) {
+        Document document = documents.remove(itemId);
+        if (document == null) {
+            return;
+        }
+        for (String gram : document.grams()) {
+            Set<Long> itemIds = postings.get(gram);
+            itemIds.remove(itemId);
+            if (itemIds.isEmpty()) {
+                postings.remove(gram);
+            }
+        }
+    }
+
+    private static Set<String> grams(String value) {
+        Set<String> grams = new HashSet<>();
+        for (int i = 0; i + GRAM_LENGTH <= value.length(); i++) {
+            grams.add(value.substring(i, i + GRAM_LENGTH));
+        }
+        return grams;
+    }
+
+    private static final class Document {
+
+        private final String name;
+        private final String description;
+
+        private Document(String name, String description) {
+            this.name = name;
+            this.description = description;
+        }
+
+        private Set<String> grams() {
+            Set<String> grams = ItemSearchIndex.grams(name);
+            grams.addAll(ItemSearchIndex.grams(description));
+            return grams;
+        }
+
+        private int score(String query) {
+            return NAME_WEIGHT * fieldScore(name, query) + fieldScore(description, query);
+        }
+
+        private static int fieldScore(String field, String query) {
+            int index = field.indexOf(query);
+            if (index < 0) {
+                return 0;
+            }
+            while (index >= 0) {
+                if (index == 0 || !Character.isLetterOrDigit(field.charAt(index - 1))) {
+                    return 2;
+                }
+                index = field.indexOf(query, index + 1);
+            }
+            return 1;
+        }
+    }
+}
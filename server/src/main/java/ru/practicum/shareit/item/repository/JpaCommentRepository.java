@@ -1,6 +1,7 @@
 package ru.practicum.shareit.item.repository;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import ru.practicum.shareit.item.model.Comment;
 
 import java.util.Collection;
@@ -9,5 +10,9 @@ public interface JpaCommentRepository extends JpaRepository<Comment, Long> {
 
     Collection<Comment> findAllByItem_IdOrderByCreatedDesc(Long itemId);
 
+    @Query("SELECT c FROM Comment c JOIN FETCH c.item JOIN FETCH c.author " +
+            "WHERE c.item.id IN :itemIds ORDER BY c.created DESC")
+    Collection<Comment> findAllByItemIds(Collection<Long> itemIds);
+
     Integer countAllByItem_IdAndAuthor_Id(Long itemId, Long authorId);
 }
@@ -0,0 +1,35 @@
+package ru.practicum.shareit.item.repository;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import ru.practicum.shareit.item.model.ItemBookingSummary;
+
+import javax.persistence.LockModeType;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface JpaItemBookingSummaryRepository extends JpaRepository<ItemBookingSummary, Long> {
+
+    @Query("SELECT s FROM ItemBookingSummary s " +
+            "LEFT JOIN FETCH s.nextBooking nb LEFT JOIN FETCH nb.booker LEFT JOIN FETCH nb.item ni LEFT JOIN FETCH ni.owner " +
+            "LEFT JOIN FETCH s.lastBooking lb LEFT JOIN FETCH lb.booker LEFT JOIN FETCH lb.item li LEFT JOIN FETCH li.owner " +
+            "WHERE s.itemId IN :itemIds AND (s.validUntil IS NULL OR s.validUntil > :curTime)")
+    List<ItemBookingSummary> findAllValidByItemIdIn(Collection<Long> itemIds, LocalDateTime curTime);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM ItemBookingSummary s WHERE s.itemId = :itemId")
+    Optional<ItemBookingSummary> findByItemIdForUpdate(Long itemId);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM ItemBookingSummary s WHERE s.validUntil <= :curTime ORDER BY s.validUntil")
+    List<ItemBookingSummary> findAllOutdatedForUpdate(LocalDateTime curTime, Pageable pageable);
+
+    @Query("SELECT i.id FROM Item i " +
+            "WHERE NOT EXISTS (SELECT s.itemId FROM ItemBookingSummary s WHERE s.itemId = i.id) " +
+            "ORDER BY i.id")
+    List<Long> findItemIdsWithoutSummary(Pageable pageable);
+}
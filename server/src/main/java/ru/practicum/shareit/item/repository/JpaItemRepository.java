@@ -1,28 +1,57 @@
 package ru.practicum.shareit.item.repository;
 
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
+import ru.practicum.shareit.config.EntityStreams;
 import ru.practicum.shareit.item.model.Item;
 import ru.practicum.shareit.user.User;
 
+import javax.persistence.LockModeType;
+import javax.persistence.QueryHint;
 import java.util.Collection;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface JpaItemRepository extends JpaRepository<Item, Long> {
 
+    // On PostgreSQL the LOWER(...) LIKE predicates are served by the pg_trgm indexes from schema-postgres.sql
     @Query("SELECT i FROM Item i " +
-            "WHERE LOWER(i.name) LIKE LOWER(concat('%', :pattern, '%')) " +
-            "OR LOWER(i.description) LIKE LOWER(concat('%', :pattern, '%'))")
-    Collection<Item> searchItems(@Param("pattern") String text);
+            "WHERE i.available = true " +
+            "AND (LOWER(i.name) LIKE LOWER(concat('%', :pattern, '%')) " +
+            "OR LOWER(i.description) LIKE LOWER(concat('%', :pattern, '%')))")
+    Collection<Item> searchAvailableItems(@Param("pattern") String text);
 
     @Query("SELECT i FROM Item i " +
-            "WHERE LOWER(i.name) LIKE LOWER(concat('%', :pattern, '%')) " +
-            "OR LOWER(i.description) LIKE LOWER(concat('%', :pattern, '%'))")
-    Page<Item> searchItems(@Param("pattern") String text, Pageable pageable);
+            "WHERE i.available = true " +
+            "AND (LOWER(i.name) LIKE LOWER(concat('%', :pattern, '%')) " +
+            "OR LOWER(i.description) LIKE LOWER(concat('%', :pattern, '%')))")
+    Slice<Item> searchAvailableItems(@Param("pattern") String text, Pageable pageable);
 
     Collection<Item> findAllByOwner(User owner);
 
-    Page<Item> findAllByOwner(User owner, Pageable pageable);
+    Slice<Item> findAllByOwner(User owner, Pageable pageable);
+
+    @Query("SELECT i FROM Item i " +
+            "JOIN FETCH i.owner " +
+            "LEFT JOIN FETCH i.request r " +
+            "LEFT JOIN FETCH r.requestor " +
+            "WHERE i.owner = :owner " +
+            "ORDER BY i.id")
+    @QueryHints(@QueryHint(name = EntityStreams.FETCH_SIZE_HINT, value = EntityStreams.FETCH_SIZE))
+    Stream<Item> streamAllByOwner(User owner);
+
+    @Query("SELECT i.id AS id, i.name AS name, i.description AS description FROM Item i WHERE i.available = true")
+    Slice<ItemSearchIndex.Entry> findAllSearchIndexEntries(Pageable pageable);
+
+    @Query("SELECT i.owner.id FROM Item i WHERE i.id = :itemId")
+    Optional<Long> findOwnerIdById(Long itemId);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT i FROM Item i WHERE i.id = :itemId")
+    Optional<Item> findByIdForUpdate(Long itemId);
 }
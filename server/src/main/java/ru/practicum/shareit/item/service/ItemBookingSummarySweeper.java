@@ -0,0 +1,48 @@
+package ru.practicum.shareit.item.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import ru.practicum.shareit.item.repository.ItemRepository;
+
+@Slf4j
+@Component
+public class ItemBookingSummarySweeper {
+
+    private final ItemRepository itemRepository;
+    private final boolean enabled;
+    private final int batchSize;
+
+    public ItemBookingSummarySweeper(
+            ItemRepository itemRepository,
+            @Value("${shareit.item.booking-summary.sweeper.enabled:true}") boolean enabled,
+            @Value("${shareit.item.booking-summary.sweeper.batch-size:500}") int batchSize) {
+        this.itemRepository = itemRepository;
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Moves summaries whose next booking has started forward and fills in the ones of items created
+     * before the summaries existed. Every batch is refreshed in its own transaction.
+     */
+    @Scheduled(
+            initialDelayString = "${shareit.item.booking-summary.sweeper.delay:PT1M}",
+            fixedDelayString = "${shareit.item.booking-summary.sweeper.delay:PT1M}"
+    )
+    public void sweep() {
+        if (!enabled) {
+            return;
+        }
+        int refreshed = 0;
+        int batchRefreshed;
+        do {
+            batchRefreshed = itemRepository.refreshOutdatedBookingSummaries(batchSize);
+            refreshed += batchRefreshed;
+        } while (batchRefreshed == batchSize);
+        if (refreshed > 0) {
+            log.debug("Refreshed {} item booking summaries", refreshed);
+        }
+    }
+}
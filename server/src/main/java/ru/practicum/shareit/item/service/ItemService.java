@@ -4,6 +4,7 @@ import ru.practicum.shareit.item.dto.CommentDto;
 import ru.practicum.shareit.item.dto.ItemDto;
 
 import java.util.Collection;
+import java.util.function.Consumer;
 
 public interface ItemService {
 
@@ -17,6 +18,8 @@ public interface ItemService {
 
     Collection<ItemDto> getAllItems(Long userId, Integer from, Integer size);
 
+    void forEachItem(Long userId, Consumer<? super ItemDto> action);
+
     Collection<ItemDto> searchItem(String text, Integer from, Integer size);
 
     CommentDto createComment(Long userId, Long itemId, CommentDto commentDto);
@@ -8,6 +8,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import ru.practicum.shareit.booking.Booking;
 import ru.practicum.shareit.booking.dto.BookingLinkedDto;
+import ru.practicum.shareit.config.EntityStreams;
 import ru.practicum.shareit.config.PageBuilder;
 import ru.practicum.shareit.item.dto.CommentDto;
 import ru.practicum.shareit.item.dto.ItemDto;
@@ -16,6 +17,7 @@ import ru.practicum.shareit.item.exceptions.ItemNotFoundException;
 import ru.practicum.shareit.item.exceptions.WrongItemOwnerException;
 import ru.practicum.shareit.item.model.Comment;
 import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.model.ItemBookingSummary;
 import ru.practicum.shareit.item.repository.ItemRepository;
 import ru.practicum.shareit.user.User;
 import ru.practicum.shareit.user.exception.UserNotFoundException;
@@ -23,13 +25,20 @@ import ru.practicum.shareit.user.repository.UserRepository;
 
 import java.util.Collection;
 import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class ItemServiceImpl implements ItemService {
 
+    private static final int STREAM_CHUNK_SIZE = 100;
+
     private final UserRepository userRepository;
     private final ItemRepository itemRepository;
     private final Converter<Item, ItemDto> itemMapper;
@@ -47,11 +56,10 @@ public class ItemServiceImpl implements ItemService {
         }
         ItemDto itemDto = itemMapper.convert(item);
         if (userId != null) {
-            User user = userRepository.findUserById(userId);
-            if (user == null) {
+            if (!userRepository.existsUserById(userId)) {
                 throw new UserNotFoundException(userId);
             }
-            if (item.getOwner() != null && item.getOwner().equals(user)) {
+            if (item.getOwner() != null && item.getOwner().getId().equals(userId)) {
                 itemDto = addNextAndLastBooking(addComments(itemDto));
             }
             if (Boolean.TRUE.equals(itemRepository.isUserCommentatorOfItem(itemId, userId))) {
@@ -77,16 +85,15 @@ public class ItemServiceImpl implements ItemService {
     @Transactional
     @Override
     public ItemDto updateItem(Long userId, Long itemId, ItemDto itemDto) {
-        User owner = userRepository.findUserById(userId);
-        if (owner == null) {
+        if (!userRepository.existsUserById(userId)) {
             throw new UserNotFoundException(userId);
         }
         Item item = itemRepository.findItemById(itemId);
         if (item == null) {
             throw new ItemNotFoundException(itemDto.getId());
         }
-        if (!owner.getId().equals(item.getOwner().getId())) {
-            throw new WrongItemOwnerException(owner.getId(), item.getId());
+        if (!userId.equals(item.getOwner().getId())) {
+            throw new WrongItemOwnerException(userId, item.getId());
         }
         if (itemDto.getAvailable() != null) {
             item.setAvailable(itemDto.getAvailable());
@@ -105,16 +112,15 @@ public class ItemServiceImpl implements ItemService {
     @Transactional
     @Override
     public ItemDto deleteItem(Long userId, Long itemId) {
-        User owner = userRepository.findUserById(userId);
-        if (owner == null) {
+        if (!userRepository.existsUserById(userId)) {
             throw new UserNotFoundException(userId);
         }
-        Item item = itemRepository.findItemById(itemId);
-        if (item == null) {
+        Long ownerId = itemRepository.findItemOwnerId(itemId);
+        if (ownerId == null) {
             throw new ItemNotFoundException(itemId);
         }
-        if (!owner.getId().equals(item.getOwner().getId())) {
-            throw new WrongItemOwnerException(owner.getId(), item.getId());
+        if (!userId.equals(ownerId)) {
+            throw new WrongItemOwnerException(userId, itemId);
         }
         Item deletedItem = itemRepository.deleteItem(itemId);
         log.info("Item with id {} deleted.", itemId);
@@ -124,24 +130,22 @@ public class ItemServiceImpl implements ItemService {
     @Override
     public Collection<ItemDto> getAllItems(Long userId, Integer from, Integer size) {
         if (from == null || size == null) {
-            return itemRepository
-                    .findAllItems(userId)
-                    .stream()
-                    .filter(Item::getAvailable)
-                    .map(itemMapper::convert)
-                    .map(this::addNextAndLastBooking)
-                    .map(this::addComments)
-                    .collect(Collectors.toList());
+            return addNextAndLastBookingsAndComments(itemRepository.findAllItems(userId));
         }
         Pageable pageable = pageBuilder.build(from, size, null);
-        return itemRepository
-                .findAllItems(userId, pageable)
-                .stream()
+        return addNextAndLastBookingsAndComments(itemRepository.findAllItems(userId, pageable).getContent());
+    }
+
+    @Transactional(readOnly = true)
+    @Override
+    public void forEachItem(Long userId, Consumer<? super ItemDto> action) {
+        Stream<ItemDto> itemDtos = itemRepository
+                .streamAllItems(userId)
                 .filter(Item::getAvailable)
-                .map(itemMapper::convert)
-                .map(this::addNextAndLastBooking)
-                .map(this::addComments)
-                .collect(Collectors.toList());
+                .map(itemMapper::convert);
+        try (Stream<List<ItemDto>> chunks = EntityStreams.chunked(itemDtos, STREAM_CHUNK_SIZE)) {
+            chunks.map(this::addNextAndLastBookingsAndComments).forEach(chunk -> chunk.forEach(action));
+        }
     }
 
     @Override
@@ -153,7 +157,6 @@ public class ItemServiceImpl implements ItemService {
             return itemRepository
                     .searchItem(text)
                     .stream()
-                    .filter(Item::getAvailable)
                     .map(itemMapper::convert)
                     .collect(Collectors.toList());
         }
@@ -161,7 +164,6 @@ public class ItemServiceImpl implements ItemService {
         return itemRepository
                 .searchItem(text, pageable)
                 .stream()
-                .filter(Item::getAvailable)
                 .map(itemMapper::convert)
                 .collect(Collectors.toList());
     }
@@ -186,13 +188,16 @@ public class ItemServiceImpl implements ItemService {
 
     private ItemDto addNextAndLastBooking(ItemDto itemDto) {
         if (itemDto == null) return null;
-        Booking nextBooking = itemRepository.getNextBookingByItemId(itemDto.getId());
-        if (nextBooking != null) {
-            itemDto.setNextBooking(bookingMapper.convert(nextBooking));
+        return addNextAndLastBooking(itemDto, itemRepository.getBookingSummaryByItemId(itemDto.getId()));
+    }
+
+    private ItemDto addNextAndLastBooking(ItemDto itemDto, ItemBookingSummary bookingSummary) {
+        if (bookingSummary == null) return itemDto;
+        if (bookingSummary.getNextBooking() != null) {
+            itemDto.setNextBooking(bookingMapper.convert(bookingSummary.getNextBooking()));
         }
-        Booking lastBooking = itemRepository.getLastBookingByItemId(itemDto.getId());
-        if (lastBooking != null) {
-            itemDto.setLastBooking(bookingMapper.convert(lastBooking));
+        if (bookingSummary.getLastBooking() != null) {
+            itemDto.setLastBooking(bookingMapper.convert(bookingSummary.getLastBooking()));
         }
         return itemDto;
     }
@@ -207,4 +212,38 @@ public class ItemServiceImpl implements ItemService {
         itemDto.getComments().addAll(comments);
         return itemDto;
     }
+
+    private Collection<ItemDto> addNextAndLastBookingsAndComments(Collection<Item> items) {
+        return addNextAndLastBookingsAndComments(items
+                .stream()
+                .filter(Item::getAvailable)
+                .map(itemMapper::convert)
+                .collect(Collectors.toList()));
+    }
+
+    private List<ItemDto> addNextAndLastBookingsAndComments(List<ItemDto> itemDtos) {
+        if (itemDtos.isEmpty()) {
+            return itemDtos;
+        }
+        List<Long> itemIds = itemDtos
+                .stream()
+                .map(ItemDto::getId)
+                .collect(Collectors.toList());
+        Map<Long, ItemBookingSummary> bookingSummaries = itemRepository
+                .getBookingSummariesByItemIds(itemIds)
+                .stream()
+                .collect(Collectors.toMap(ItemBookingSummary::getItemId, Function.identity()));
+        Map<Long, List<CommentDto>> comments = itemRepository
+                .findAllItemsComments(itemIds)
+                .stream()
+                .collect(Collectors.groupingBy(
+                        comment -> comment.getItem().getId(),
+                        Collectors.mapping(commentMapper::convert, Collectors.toList())
+                ));
+        for (ItemDto itemDto : itemDtos) {
+            addNextAndLastBooking(itemDto, bookingSummaries.get(itemDto.getId()));
+            itemDto.getComments().addAll(comments.getOrDefault(itemDto.getId(), Collections.emptyList()));
+        }
+        return itemDtos;
+    }
 }
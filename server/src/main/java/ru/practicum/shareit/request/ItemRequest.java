@@ -3,7 +3,6 @@ package ru.practicum.shareit.request;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
-import org.apache.commons.lang.SerializationUtils;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.DynamicUpdate;
 import ru.practicum.shareit.config.BaseEntity;
@@ -55,24 +54,28 @@ public class ItemRequest extends BaseEntity<Long> {
     @CreationTimestamp
     private LocalDateTime created;
 
-    @OneToMany(mappedBy = "request", fetch = FetchType.EAGER)
+    @OneToMany(mappedBy = "request", fetch = FetchType.LAZY)
     private List<Item> items = new ArrayList<>();
 
     public ItemRequest withId(Long id) {
-        ItemRequest itemRequest = (ItemRequest) SerializationUtils.clone(this);
+        ItemRequest itemRequest = copy();
         itemRequest.setId(id);
         return itemRequest;
     }
 
     public ItemRequest withRequestor(User requestor) {
-        ItemRequest itemRequest = (ItemRequest) SerializationUtils.clone(this);
+        ItemRequest itemRequest = copy();
         itemRequest.setRequestor(requestor);
         return itemRequest;
     }
 
     public ItemRequest withCreated(LocalDateTime created) {
-        ItemRequest itemRequest = (ItemRequest) SerializationUtils.clone(this);
+        ItemRequest itemRequest = copy();
         itemRequest.setCreated(created);
         return itemRequest;
     }
+
+    private ItemRequest copy() {
+        return new ItemRequest(id, description, requestor, created);
+    }
 }
@@ -2,9 +2,12 @@ package ru.practicum.shareit.request;
 
 import lombok.RequiredArgsConstructor;
 import org.springframework.web.bind.annotation.*;
+import ru.practicum.shareit.config.JsonArrayWriter;
 import ru.practicum.shareit.request.dto.ItemRequestDto;
 import ru.practicum.shareit.request.service.ItemRequestService;
 
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
 import java.util.Collection;
 
 @RestController
@@ -13,6 +16,7 @@ import java.util.Collection;
 public class ItemRequestController {
 
     private final ItemRequestService itemRequestService;
+    private final JsonArrayWriter jsonArrayWriter;
 
     @GetMapping("/{requestId}")
     public ItemRequestDto getItemRequest(
@@ -34,10 +38,15 @@ public class ItemRequestController {
     }
 
     @GetMapping("/all")
-    public Collection<ItemRequestDto> getAllItemRequests(
+    public void getAllItemRequests(
             @RequestHeader(value = "X-Sharer-User-Id") Long userId,
             @RequestParam(required = false) Integer from,
-            @RequestParam(required = false) Integer size) {
-        return itemRequestService.getAllItemRequests(userId, from, size);
+            @RequestParam(required = false) Integer size,
+            HttpServletResponse response) throws IOException {
+        if (from == null || size == null) {
+            jsonArrayWriter.write(response, action -> itemRequestService.forEachItemRequest(userId, action));
+        } else {
+            jsonArrayWriter.write(response, itemRequestService.getAllItemRequests(userId, from, size)::forEach);
+        }
     }
 }
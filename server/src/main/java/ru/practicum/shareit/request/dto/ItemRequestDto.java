@@ -5,11 +5,11 @@ import lombok.AllArgsConstructor;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.Setter;
-import org.apache.commons.lang.SerializationUtils;
 import ru.practicum.shareit.item.dto.ItemSimpleDto;
 
 import java.io.Serializable;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Collection;
 
 @Getter
@@ -33,14 +33,18 @@ public class ItemRequestDto implements Serializable {
     private Collection<ItemSimpleDto> items;
 
     public ItemRequestDto withId(Long id) {
-        ItemRequestDto requestDto = (ItemRequestDto) SerializationUtils.clone(this);
+        ItemRequestDto requestDto = copy();
         requestDto.setId(id);
         return requestDto;
     }
 
     public ItemRequestDto withCreated(LocalDateTime created) {
-        ItemRequestDto requestDto = (ItemRequestDto) SerializationUtils.clone(this);
+        ItemRequestDto requestDto = copy();
         requestDto.setCreated(created);
         return requestDto;
     }
+
+    private ItemRequestDto copy() {
+        return new ItemRequestDto(id, description, created, items != null ? new ArrayList<>(items) : null);
+    }
 }
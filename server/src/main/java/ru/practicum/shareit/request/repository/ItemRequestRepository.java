@@ -1,12 +1,13 @@
 package ru.practicum.shareit.request.repository;
 
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import ru.practicum.shareit.request.ItemRequest;
 import ru.practicum.shareit.user.User;
 
 import java.util.Collection;
+import java.util.stream.Stream;
 
 public interface ItemRequestRepository {
 
@@ -16,7 +17,9 @@ public interface ItemRequestRepository {
 
     Collection<ItemRequest> getItemRequestsByOwner(User owner, Sort sort);
 
-    Page<ItemRequest> getAllItemRequests(User requestor, Pageable pageable);
+    Slice<ItemRequest> getAllItemRequests(User requestor, Pageable pageable);
 
     Collection<ItemRequest> getAllItemRequests(User requestor);
+
+    Stream<ItemRequest> streamAllItemRequests(User requestor);
 }
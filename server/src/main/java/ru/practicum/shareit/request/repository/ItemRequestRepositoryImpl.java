@@ -1,22 +1,33 @@
 package ru.practicum.shareit.request.repository;
 
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
+import ru.practicum.shareit.config.EntityStreams;
 import ru.practicum.shareit.request.ItemRequest;
 import ru.practicum.shareit.user.User;
 
 import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Repository
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class ItemRequestRepositoryImpl implements ItemRequestRepository {
 
+    private static final int STREAM_CHUNK_SIZE = 100;
+
     private final JpaItemRequestRepository itemRequestRepository;
+    private final EntityStreams entityStreams;
 
     @Override
     public ItemRequest createItemRequest(ItemRequest itemRequest) {
@@ -25,7 +36,7 @@ public class ItemRequestRepositoryImpl implements ItemRequestRepository {
 
     @Override
     public ItemRequest getItemRequest(Long requestId) {
-        return itemRequestRepository.findById(requestId).orElse(null);
+        return itemRequestRepository.findWithItemsById(requestId).orElse(null);
     }
 
     @Override
@@ -34,12 +45,35 @@ public class ItemRequestRepositoryImpl implements ItemRequestRepository {
     }
 
     @Override
-    public Page<ItemRequest> getAllItemRequests(User requestor, Pageable pageable) {
-        return itemRequestRepository.findAllByRequestorIsNot(requestor, pageable);
+    public Slice<ItemRequest> getAllItemRequests(User requestor, Pageable pageable) {
+        Slice<Long> requestIds = itemRequestRepository.findIdsByRequestorIsNot(requestor, pageable);
+        if (!requestIds.hasContent()) {
+            return new SliceImpl<>(Collections.emptyList(), pageable, false);
+        }
+        Map<Long, ItemRequest> itemRequests = findAllWithItemsById(requestIds.getContent());
+        return requestIds.map(itemRequests::get);
     }
 
     @Override
     public Collection<ItemRequest> getAllItemRequests(User requestor) {
         return itemRequestRepository.findAllByRequestorIsNot(requestor);
     }
+
+    @Override
+    public Stream<ItemRequest> streamAllItemRequests(User requestor) {
+        Stream<ItemRequest> itemRequests = EntityStreams
+                .chunked(itemRequestRepository.streamIdsByRequestorIsNot(requestor), STREAM_CHUNK_SIZE)
+                .flatMap(requestIds -> {
+                    Map<Long, ItemRequest> chunk = findAllWithItemsById(requestIds);
+                    return requestIds.stream().map(chunk::get);
+                });
+        return entityStreams.detaching(itemRequests);
+    }
+
+    private Map<Long, ItemRequest> findAllWithItemsById(List<Long> requestIds) {
+        return itemRequestRepository
+                .findAllWithItemsByIdIn(requestIds)
+                .stream()
+                .collect(Collectors.toMap(ItemRequest::getId, Function.identity()));
+    }
 }
@@ -1,19 +1,49 @@
 package ru.practicum.shareit.request.repository;
 
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import ru.practicum.shareit.config.EntityStreams;
 import ru.practicum.shareit.request.ItemRequest;
 import ru.practicum.shareit.user.User;
 
+import javax.persistence.QueryHint;
 import java.util.Collection;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface JpaItemRequestRepository extends JpaRepository<ItemRequest, Long> {
 
+    String FETCH_ITEMS = "SELECT DISTINCT r FROM ItemRequest r " +
+            "JOIN FETCH r.requestor " +
+            "LEFT JOIN FETCH r.items i " +
+            "LEFT JOIN FETCH i.owner ";
+
+    String NO_DISTINCT_IN_SQL = "hibernate.query.passDistinctThrough";
+
+    @Query(FETCH_ITEMS + "WHERE r.id = :requestId")
+    @QueryHints(@QueryHint(name = NO_DISTINCT_IN_SQL, value = "false"))
+    Optional<ItemRequest> findWithItemsById(Long requestId);
+
+    @Query(FETCH_ITEMS + "WHERE r.requestor = :requestor")
+    @QueryHints(@QueryHint(name = NO_DISTINCT_IN_SQL, value = "false"))
     Collection<ItemRequest> findAllByRequestor(User requestor, Sort sort);
 
-    Page<ItemRequest> findAllByRequestorIsNot(User user, Pageable pageable);
+    @Query("SELECT r.id FROM ItemRequest r WHERE r.requestor <> :user")
+    Slice<Long> findIdsByRequestorIsNot(User user, Pageable pageable);
+
+    @Query("SELECT r.id FROM ItemRequest r WHERE r.requestor <> :user ORDER BY r.created DESC, r.id DESC")
+    @QueryHints(@QueryHint(name = EntityStreams.FETCH_SIZE_HINT, value = EntityStreams.FETCH_SIZE))
+    Stream<Long> streamIdsByRequestorIsNot(User user);
+
+    @Query(FETCH_ITEMS + "WHERE r.id IN :requestIds")
+    @QueryHints(@QueryHint(name = NO_DISTINCT_IN_SQL, value = "false"))
+    Collection<ItemRequest> findAllWithItemsByIdIn(Collection<Long> requestIds);
 
+    @Query(FETCH_ITEMS + "WHERE r.requestor <> :user")
+    @QueryHints(@QueryHint(name = NO_DISTINCT_IN_SQL, value = "false"))
     Collection<ItemRequest> findAllByRequestorIsNot(User user);
-}
\ No newline at end of file
+}
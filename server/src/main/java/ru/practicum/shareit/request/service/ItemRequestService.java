@@ -3,6 +3,7 @@ package ru.practicum.shareit.request.service;
 import ru.practicum.shareit.request.dto.ItemRequestDto;
 
 import java.util.Collection;
+import java.util.function.Consumer;
 
 public interface ItemRequestService {
 
@@ -13,4 +14,6 @@ public interface ItemRequestService {
     Collection<ItemRequestDto> getOwnItemRequests(Long userId);
 
     Collection<ItemRequestDto> getAllItemRequests(Long userId, Integer from, Integer size);
+
+    void forEachItemRequest(Long userId, Consumer<? super ItemRequestDto> action);
 }
@@ -16,7 +16,9 @@ import ru.practicum.shareit.user.exception.UserNotFoundException;
 import ru.practicum.shareit.user.repository.UserRepository;
 
 import java.util.Collection;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
@@ -31,8 +33,7 @@ public class ItemRequestServiceImpl implements ItemRequestService {
 
     @Override
     public ItemRequestDto getItemRequest(Long userId, Long requestId) {
-        User user = userRepository.findUserById(userId);
-        if (user == null) {
+        if (!userRepository.existsUserById(userId)) {
             throw new UserNotFoundException(userId);
         }
         ItemRequest itemRequest = itemRequestRepository.getItemRequest(requestId);
@@ -86,4 +87,16 @@ public class ItemRequestServiceImpl implements ItemRequestService {
                 .map(itemRequestMapper::convert)
                 .collect(Collectors.toList());
     }
+
+    @Transactional(readOnly = true)
+    @Override
+    public void forEachItemRequest(Long userId, Consumer<? super ItemRequestDto> action) {
+        User requestor = userRepository.findUserById(userId);
+        if (requestor == null) {
+            throw new UserNotFoundException(userId);
+        }
+        try (Stream<ItemRequest> itemRequests = itemRequestRepository.streamAllItemRequests(requestor)) {
+            itemRequests.map(itemRequestMapper::convert).forEach(action);
+        }
+    }
 }
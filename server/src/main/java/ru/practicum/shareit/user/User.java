@@ -3,7 +3,6 @@ package ru.practicum.shareit.user;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
-import org.apache.commons.lang.SerializationUtils;
 import org.hibernate.annotations.DynamicUpdate;
 import ru.practicum.shareit.booking.Booking;
 import ru.practicum.shareit.config.BaseEntity;
@@ -53,14 +52,18 @@ public class User extends BaseEntity<Long> {
     private List<Comment> comments = new ArrayList<>();
 
     public User withId(Long id) {
-        User user = (User) SerializationUtils.clone(this);
+        User user = copy();
         user.setId(id);
         return user;
     }
 
     public User withName(String name) {
-        User user = (User) SerializationUtils.clone(this);
+        User user = copy();
         user.setName(name);
         return user;
     }
+
+    private User copy() {
+        return new User(id, name, email);
+    }
 }
@@ -2,10 +2,12 @@ package ru.practicum.shareit.user;
 
 import lombok.RequiredArgsConstructor;
 import org.springframework.web.bind.annotation.*;
+import ru.practicum.shareit.config.JsonArrayWriter;
 import ru.practicum.shareit.user.dto.UserDto;
 import ru.practicum.shareit.user.service.UserService;
 
-import java.util.Collection;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
 
 @RestController
 @RequiredArgsConstructor
@@ -13,6 +15,7 @@ import java.util.Collection;
 public class UserController {
 
     private final UserService userService;
+    private final JsonArrayWriter jsonArrayWriter;
 
     @GetMapping("/{userId}")
     public UserDto getUser(@PathVariable Long userId) {
@@ -37,7 +40,7 @@ public class UserController {
     }
 
     @GetMapping
-    public Collection<UserDto> getAllUsers() {
-        return userService.getAllUsers();
+    public void getAllUsers(HttpServletResponse response) throws IOException {
+        jsonArrayWriter.write(response, userService::forEachUser);
     }
 }
@@ -5,7 +5,6 @@ import lombok.AllArgsConstructor;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.Setter;
-import org.apache.commons.lang.SerializationUtils;
 
 import java.io.Serializable;
 
@@ -27,14 +26,18 @@ public class UserDto implements Serializable {
     private String email;
 
     public UserDto withId(Long id) {
-        UserDto userDto = (UserDto) SerializationUtils.clone(this);
+        UserDto userDto = copy();
         userDto.setId(id);
         return userDto;
     }
 
     public UserDto withName(String name) {
-        UserDto userDto = (UserDto) SerializationUtils.clone(this);
+        UserDto userDto = copy();
         userDto.setName(name);
         return userDto;
     }
+
+    private UserDto copy() {
+        return new UserDto(id, name, email);
+    }
 }
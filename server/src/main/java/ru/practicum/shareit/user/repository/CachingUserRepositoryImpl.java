@@ -0,0 +1,177 @@
+package ru.practicum.shareit.user.repository;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import ru.practicum.shareit.user.User;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+@Primary
+@Repository
+public class CachingUserRepositoryImpl implements UserRepository, MeterBinder {
+
+    private final DatabaseUserRepositoryImpl userRepository;
+    private final Duration ttl;
+    private final Clock clock;
+    private final Map<Long, CachedUser> users;
+    private final AtomicLong hitCount = new AtomicLong();
+    private final AtomicLong missCount = new AtomicLong();
+
+    @Autowired
+    public CachingUserRepositoryImpl(
+            DatabaseUserRepositoryImpl userRepository,
+            @Value("${shareit.user.cache.max-size:10000}") int maxSize,
+            @Value("${shareit.user.cache.ttl:PT1M}") Duration ttl) {
+        this(userRepository, maxSize, ttl, Clock.systemUTC());
+    }
+
+    public CachingUserRepositoryImpl(DatabaseUserRepositoryImpl userRepository, int maxSize, Duration ttl, Clock clock) {
+        this.userRepository = userRepository;
+        this.ttl = ttl;
+        this.clock = clock;
+        this.users = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, CachedUser> eldest) {
+                return size() > maxSize;
+            }
+        });
+    }
+
+    @Override
+    public User findUserById(Long id) {
+        Instant now = clock.instant();
+        CachedUser cachedUser = users.get(id);
+        if (cachedUser != null && now.isBefore(cachedUser.expiresAt)) {
+            hitCount.incrementAndGet();
+            return cachedUser.toUser();
+        }
+        missCount.incrementAndGet();
+        User user = userRepository.findUserById(id);
+        if (user != null) {
+            users.put(id, new CachedUser(user, now.plus(ttl)));
+        } else if (cachedUser != null) {
+            users.remove(id, cachedUser);
+        }
+        return user;
+    }
+
+    /**
+     * Answered by loading the user, so that the users the booking, item and request paths only validate end up
+     * cached as well.
+     */
+    @Override
+    public boolean existsUserById(Long id) {
+        return findUserById(id) != null;
+    }
+
+    @Override
+    public User deleteUser(Long userId) {
+        try {
+            return userRepository.deleteUser(userId);
+        } finally {
+            evict(userId);
+        }
+    }
+
+    @Override
+    public User saveUser(User user) {
+        return userRepository.saveUser(user);
+    }
+
+    @Override
+    public User updateUser(User user) {
+        try {
+            return userRepository.updateUser(user);
+        } finally {
+            evict(user.getId());
+        }
+    }
+
+    @Override
+    public Collection<User> findAllUsers() {
+        return userRepository.findAllUsers();
+    }
+
+    @Override
+    public Stream<User> streamAllUsers() {
+        return userRepository.streamAllUsers();
+    }
+
+    public long getHitCount() {
+        return hitCount.get();
+    }
+
+    public long getMissCount() {
+        return missCount.get();
+    }
+
+    public int size() {
+        return users.size();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("cache.gets", this, CachingUserRepositoryImpl::getHitCount)
+                .tag("cache", "users")
+                .tag("result", "hit")
+                .register(registry);
+        FunctionCounter.builder("cache.gets", this, CachingUserRepositoryImpl::getMissCount)
+                .tag("cache", "users")
+                .tag("result", "miss")
+                .register(registry);
+        Gauge.builder("cache.size", this, CachingUserRepositoryImpl::size)
+                .tag("cache", "users")
+                .register(registry);
+    }
+
+    /**
+     * Evicts right away and once more when the surrounding transaction completes, so a concurrent read
+     * between the write and the commit can not keep the old row cached.
+     */
+    private void evict(Long userId) {
+        users.remove(userId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    users.remove(userId);
+                }
+            });
+        }
+    }
+
+    private static final class CachedUser {
+
+        private final Long id;
+        private final String name;
+        private final String email;
+        private final Instant expiresAt;
+
+        private CachedUser(User user, Instant expiresAt) {
+            this.id = user.getId();
+            this.name = user.getName();
+            this.email = user.getEmail();
+            this.expiresAt = expiresAt;
+        }
+
+        private User toUser() {
+            return new User(id, name, email);
+        }
+    }
+}
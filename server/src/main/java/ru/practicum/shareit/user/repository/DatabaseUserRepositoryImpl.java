@@ -3,19 +3,23 @@ package ru.practicum.shareit.user.repository;
 import org.springframework.context.annotation.Lazy;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
+import ru.practicum.shareit.config.EntityStreams;
 import ru.practicum.shareit.user.User;
 import ru.practicum.shareit.user.exception.EmailUniqueViolationException;
 
 import java.util.Collection;
+import java.util.stream.Stream;
 
 @Repository
 @Transactional(readOnly = true)
 public class DatabaseUserRepositoryImpl implements UserRepository {
 
     private final JpaUserRepository userRepository;
+    private final EntityStreams entityStreams;
 
-    public DatabaseUserRepositoryImpl(@Lazy JpaUserRepository userRepository) {
+    public DatabaseUserRepositoryImpl(@Lazy JpaUserRepository userRepository, EntityStreams entityStreams) {
         this.userRepository = userRepository;
+        this.entityStreams = entityStreams;
     }
 
     @Override
@@ -23,6 +27,11 @@ public class DatabaseUserRepositoryImpl implements UserRepository {
         return userRepository.findById(id).orElse(null);
     }
 
+    @Override
+    public boolean existsUserById(Long id) {
+        return userRepository.existsById(id);
+    }
+
     @Transactional
     @Override
     public User deleteUser(Long userId) {
@@ -57,4 +66,9 @@ public class DatabaseUserRepositoryImpl implements UserRepository {
     public Collection<User> findAllUsers() {
         return userRepository.findAll();
     }
+
+    @Override
+    public Stream<User> streamAllUsers() {
+        return entityStreams.detaching(userRepository.streamAll());
+    }
 }
@@ -1,8 +1,17 @@
 package ru.practicum.shareit.user.repository;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import ru.practicum.shareit.config.EntityStreams;
 import ru.practicum.shareit.user.User;
 
+import javax.persistence.QueryHint;
+import java.util.stream.Stream;
+
 public interface JpaUserRepository extends JpaRepository<User, Long> {
 
+    @Query("SELECT u FROM User u ORDER BY u.id")
+    @QueryHints(@QueryHint(name = EntityStreams.FETCH_SIZE_HINT, value = EntityStreams.FETCH_SIZE))
+    Stream<User> streamAll();
 }
@@ -3,11 +3,14 @@ package ru.practicum.shareit.user.repository;
 import ru.practicum.shareit.user.User;
 
 import java.util.Collection;
+import java.util.stream.Stream;
 
 public interface UserRepository {
 
     User findUserById(Long id);
 
+    boolean existsUserById(Long id);
+
     User deleteUser(Long userId);
 
     User saveUser(User user);
@@ -15,4 +18,6 @@ public interface UserRepository {
     User updateUser(User user);
 
     Collection<User> findAllUsers();
+
+    Stream<User> streamAllUsers();
 }
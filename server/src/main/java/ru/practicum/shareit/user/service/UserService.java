@@ -3,6 +3,7 @@ package ru.practicum.shareit.user.service;
 import ru.practicum.shareit.user.dto.UserDto;
 
 import java.util.Collection;
+import java.util.function.Consumer;
 
 public interface UserService {
 
@@ -15,4 +16,6 @@ public interface UserService {
     UserDto deleteUser(Long userId);
 
     Collection<UserDto> getAllUsers();
+
+    void forEachUser(Consumer<? super UserDto> action);
 }
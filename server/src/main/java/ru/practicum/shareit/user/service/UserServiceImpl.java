@@ -12,7 +12,9 @@ import ru.practicum.shareit.user.repository.UserRepository;
 
 import javax.validation.constraints.NotNull;
 import java.util.Collection;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Slf4j
 @Service
@@ -71,4 +73,12 @@ public class UserServiceImpl implements UserService {
                 .map(userMapper::convert)
                 .collect(Collectors.toList());
     }
+
+    @Transactional(readOnly = true)
+    @Override
+    public void forEachUser(Consumer<? super UserDto> action) {
+        try (Stream<User> users = userRepository.streamAllUsers()) {
+            users.map(userMapper::convert).forEach(action);
+        }
+    }
 }
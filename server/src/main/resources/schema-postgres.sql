@@ -0,0 +1,8 @@
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+DROP INDEX IF EXISTS items_name_trgm_idx;
+DROP INDEX IF EXISTS items_description_trgm_idx;
+CREATE INDEX IF NOT EXISTS items_available_name_trgm_idx ON items USING GIN (LOWER(name) gin_trgm_ops)
+    WHERE is_available;
+CREATE INDEX IF NOT EXISTS items_available_description_trgm_idx ON items USING GIN (LOWER(description) gin_trgm_ops)
+    WHERE is_available;
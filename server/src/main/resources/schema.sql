@@ -35,8 +35,10 @@ CREATE TABLE IF NOT EXISTS items
         REFERENCES requests (id)
 );
 
-CREATE INDEX IF NOT EXISTS items_owner_id_idx ON items (owner_id);
+DROP INDEX IF EXISTS items_owner_id_idx;
+CREATE INDEX IF NOT EXISTS items_owner_id_id_idx ON items (owner_id, id);
 CREATE INDEX IF NOT EXISTS items_request_id_idx ON items (request_id);
+DROP INDEX IF EXISTS items_is_available_id_idx;
 
 CREATE TABLE IF NOT EXISTS bookings
 (
@@ -53,8 +55,29 @@ CREATE TABLE IF NOT EXISTS bookings
         REFERENCES items (id)
 );
 
-CREATE INDEX IF NOT EXISTS booking_item_id_idx ON bookings (item_id);
-CREATE INDEX IF NOT EXISTS booking_booker_id_idx ON bookings (booker_id);
+DROP INDEX IF EXISTS booking_item_id_idx;
+DROP INDEX IF EXISTS booking_booker_id_idx;
+CREATE INDEX IF NOT EXISTS booking_booker_id_start_date_idx ON bookings (booker_id, start_date DESC, id DESC);
+CREATE INDEX IF NOT EXISTS booking_booker_id_status_start_date_idx ON bookings (booker_id, status, start_date DESC);
+CREATE INDEX IF NOT EXISTS booking_item_id_status_start_date_idx ON bookings (item_id, status, start_date);
+CREATE INDEX IF NOT EXISTS booking_item_id_end_date_idx ON bookings (item_id, end_date);
+
+CREATE TABLE IF NOT EXISTS item_booking_summaries
+(
+    item_id         BIGINT NOT NULL,
+    next_booking_id BIGINT,
+    last_booking_id BIGINT,
+    valid_until     TIMESTAMP WITHOUT TIME ZONE,
+    CONSTRAINT pk_item_booking_summaries PRIMARY KEY (item_id),
+    CONSTRAINT item_booking_summaries_items_fkey FOREIGN KEY (item_id)
+        REFERENCES items (id) ON DELETE CASCADE,
+    CONSTRAINT item_booking_summaries_next_bookings_fkey FOREIGN KEY (next_booking_id)
+        REFERENCES bookings (id) ON DELETE CASCADE,
+    CONSTRAINT item_booking_summaries_last_bookings_fkey FOREIGN KEY (last_booking_id)
+        REFERENCES bookings (id) ON DELETE CASCADE
+);
+
+CREATE INDEX IF NOT EXISTS item_booking_summaries_valid_until_idx ON item_booking_summaries (valid_until);
 
 CREATE TABLE IF NOT EXISTS comments
 (
@@ -7,17 +7,23 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.util.LinkedMultiValueMap;
 import org.springframework.util.MultiValueMap;
 import ru.practicum.shareit.booking.BookingController;
+import ru.practicum.shareit.booking.BookingCursor;
 import ru.practicum.shareit.booking.BookingStatus;
 import ru.practicum.shareit.booking.dto.BookingRequestDto;
 import ru.practicum.shareit.booking.dto.BookingResponseDto;
+import ru.practicum.shareit.booking.exceptions.BookingCursorException;
 import ru.practicum.shareit.booking.exceptions.BookingOverlapsException;
 import ru.practicum.shareit.booking.exceptions.BookingStateException;
 import ru.practicum.shareit.booking.exceptions.BookingUpdateException;
 import ru.practicum.shareit.booking.service.BookingService;
+import ru.practicum.shareit.config.JsonArrayWriter;
 import ru.practicum.shareit.item.dto.ItemDto;
 import ru.practicum.shareit.item.exceptions.ItemNotFoundException;
 import ru.practicum.shareit.item.exceptions.ItemUnavailableException;
@@ -27,15 +33,18 @@ import ru.practicum.shareit.user.exception.UserNotFoundException;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.Collections;
+import java.util.function.Consumer;
 
 import static org.hamcrest.Matchers.is;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @WebMvcTest(controllers = BookingController.class)
+@Import(JsonArrayWriter.class)
 class BookingControllerTest extends AbstractControllerTest {
 
     @Autowired
@@ -215,6 +224,34 @@ class BookingControllerTest extends AbstractControllerTest {
         verify(bookingService, times(1)).getAllBookingsOfUser(anyLong(), anyString(), anyInt(), anyInt());
     }
 
+    @Test
+    @DisplayName("Get all bookings of user without page params test")
+    void getAllBookingsOfUserWithoutPageParamsTest() throws Exception {
+        doAnswer(invocation -> {
+            Consumer<BookingResponseDto> action = invocation.getArgument(2);
+            action.accept(bookingResponseDto);
+            return null;
+        }).when(bookingService).forEachBookingOfUser(anyLong(), anyString(), any());
+        performGetRequests("/bookings", new LinkedMultiValueMap<>())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.size()").value(1))
+                .andExpect(jsonPath("$[0].id", is(expectedBookingId), Long.class))
+                .andExpect(jsonPath("$[0].start", is(bookingResponseDto.getStart().format(formatter))));
+        verify(bookingService, times(1)).forEachBookingOfUser(anyLong(), anyString(), any());
+        verify(bookingService, never()).getAllBookingsOfUser(anyLong(), anyString(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Get all bookings of not existing user without page params test")
+    void getAllBookingsOfNotExistingUserWithoutPageParamsTest() throws Exception {
+        doThrow(new UserNotFoundException(getXSharerUserId()))
+                .when(bookingService).forEachBookingOfUser(anyLong(), anyString(), any());
+        performGetRequests("/bookings", new LinkedMultiValueMap<>())
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.error").exists());
+        verify(bookingService, times(1)).forEachBookingOfUser(anyLong(), anyString(), any());
+    }
+
     @Test
     @DisplayName("Get all item owner bookings test")
     void getAllItemOwnerBookingsTest() throws Exception {
@@ -248,4 +285,47 @@ class BookingControllerTest extends AbstractControllerTest {
                 .andExpect(jsonPath("$.error").exists());
         verify(bookingService, times(1)).getAllBookingsForOwnerItems(anyLong(), anyString(), anyInt(), anyInt());
     }
+
+    @Test
+    @DisplayName("Get bookings of user by cursor test")
+    void getAllBookingsOfUserByCursorTest() throws Exception {
+        when(bookingService.getAllBookingsOfUserByCursor(anyLong(), anyString(), anyString(), anyInt()))
+                .thenReturn(new SliceImpl<>(Lists.list(bookingResponseDto), PageRequest.of(0, 1), true));
+        MultiValueMap<String, String> params = new LinkedMultiValueMap<>();
+        params.put("cursor", Lists.list(""));
+        params.put("size", Lists.list("1"));
+        performGetRequests("/bookings", params)
+                .andExpect(status().isOk())
+                .andExpect(header().string("X-Next-Cursor", new BookingCursor(
+                        bookingResponseDto.getStart(), bookingResponseDto.getId()).encode()))
+                .andExpect(jsonPath("$.size()").value(1))
+                .andExpect(jsonPath("$[0].id", is(expectedBookingId), Long.class));
+        verify(bookingService, times(1)).getAllBookingsOfUserByCursor(anyLong(), anyString(), anyString(), anyInt());
+    }
+
+    @Test
+    @DisplayName("Get last slice of item owner bookings by cursor test")
+    void getAllItemOwnerBookingsByCursorLastSliceTest() throws Exception {
+        when(bookingService.getAllBookingsForOwnerItemsByCursor(anyLong(), anyString(), anyString(), anyInt()))
+                .thenReturn(new SliceImpl<>(Lists.list(bookingResponseDto), PageRequest.of(0, 1), false));
+        MultiValueMap<String, String> params = new LinkedMultiValueMap<>();
+        params.put("cursor", Lists.list("token"));
+        performGetRequests("/bookings/owner", params)
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist("X-Next-Cursor"))
+                .andExpect(jsonPath("$.size()").value(1));
+        verify(bookingService, times(1)).getAllBookingsForOwnerItemsByCursor(anyLong(), anyString(), eq("token"), eq(10));
+    }
+
+    @Test
+    @DisplayName("Get bookings of user by invalid cursor test")
+    void getAllBookingsOfUserByInvalidCursorTest() throws Exception {
+        when(bookingService.getAllBookingsOfUserByCursor(anyLong(), anyString(), anyString(), anyInt()))
+                .thenThrow(new BookingCursorException("token"));
+        MultiValueMap<String, String> params = new LinkedMultiValueMap<>();
+        params.put("cursor", Lists.list("token"));
+        performGetRequests("/bookings", params)
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").exists());
+    }
 }
@@ -7,9 +7,11 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.util.LinkedMultiValueMap;
 import org.springframework.util.MultiValueMap;
+import ru.practicum.shareit.config.JsonArrayWriter;
 import ru.practicum.shareit.item.ItemController;
 import ru.practicum.shareit.item.dto.CommentDto;
 import ru.practicum.shareit.item.dto.ItemDto;
@@ -22,6 +24,7 @@ import ru.practicum.shareit.user.exception.UserNotFoundException;
 
 import java.time.LocalDateTime;
 import java.util.Collections;
+import java.util.function.Consumer;
 
 import static org.hamcrest.Matchers.is;
 import static org.mockito.ArgumentMatchers.any;
@@ -30,6 +33,7 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @WebMvcTest(controllers = ItemController.class)
+@Import(JsonArrayWriter.class)
 class ItemControllerTest extends AbstractControllerTest {
 
     @Autowired
@@ -225,8 +229,11 @@ class ItemControllerTest extends AbstractControllerTest {
     @Test
     @DisplayName("Get all items test")
     void getAllItemsTest() throws Exception {
-        when(itemService.getAllItems(anyLong(), any(), any()))
-                .thenReturn(Lists.list(itemDto));
+        doAnswer(invocation -> {
+            Consumer<ItemDto> action = invocation.getArgument(1);
+            action.accept(itemDto);
+            return null;
+        }).when(itemService).forEachItem(anyLong(), any());
         performGetRequests("/items", new LinkedMultiValueMap<>())
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.size()").value(1))
@@ -238,7 +245,24 @@ class ItemControllerTest extends AbstractControllerTest {
                 .andExpect(jsonPath("$[0].lastBooking", is(itemDto.getLastBooking())))
                 .andExpect(jsonPath("$[0].nextBooking", is(itemDto.getNextBooking())))
                 .andExpect(jsonPath("$[0].comments", is(itemDto.getComments())));
-        verify(itemService, times(1)).getAllItems(anyLong(), any(), any());
+        verify(itemService, times(1)).forEachItem(anyLong(), any());
+        verify(itemService, never()).getAllItems(anyLong(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Get all items with page params test")
+    void getAllItemsWithPageParamsTest() throws Exception {
+        when(itemService.getAllItems(anyLong(), anyInt(), anyInt()))
+                .thenReturn(Lists.list(itemDto));
+        MultiValueMap<String, String> params = new LinkedMultiValueMap<>();
+        params.put("from", Lists.list("0"));
+        params.put("size", Lists.list("1"));
+        performGetRequests("/items", params)
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.size()").value(1))
+                .andExpect(jsonPath("$[0].id", is(expectedItemId), Long.class));
+        verify(itemService, times(1)).getAllItems(anyLong(), anyInt(), anyInt());
+        verify(itemService, never()).forEachItem(anyLong(), any());
     }
 
     @Test
@@ -7,9 +7,11 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.util.LinkedMultiValueMap;
 import org.springframework.util.MultiValueMap;
+import ru.practicum.shareit.config.JsonArrayWriter;
 import ru.practicum.shareit.request.ItemRequestController;
 import ru.practicum.shareit.request.dto.ItemRequestDto;
 import ru.practicum.shareit.request.exceptions.ItemRequestNotFoundException;
@@ -19,6 +21,7 @@ import ru.practicum.shareit.user.exception.UserNotFoundException;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.Collections;
+import java.util.function.Consumer;
 
 import static org.hamcrest.Matchers.is;
 import static org.mockito.ArgumentMatchers.any;
@@ -28,6 +31,7 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @WebMvcTest(controllers = ItemRequestController.class)
+@Import(JsonArrayWriter.class)
 class ItemRequestControllerTest extends AbstractControllerTest {
 
     @Autowired
@@ -134,4 +138,21 @@ class ItemRequestControllerTest extends AbstractControllerTest {
                 .andExpect(jsonPath("$[0].items", is(itemRequestDto.getItems())));
         verify(requestService, times(1)).getAllItemRequests(anyLong(), anyInt(), anyInt());
     }
+
+    @Test
+    @DisplayName("Get all item requests without page params test")
+    void getAllItemRequestsWithoutPageParamsTest() throws Exception {
+        doAnswer(invocation -> {
+            Consumer<ItemRequestDto> action = invocation.getArgument(1);
+            action.accept(itemRequestDto);
+            return null;
+        }).when(requestService).forEachItemRequest(anyLong(), any());
+        performGetRequests("/requests/all", new LinkedMultiValueMap<>())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.size()").value(1))
+                .andExpect(jsonPath("$[0].id", is(expectedRequestId), Long.class))
+                .andExpect(jsonPath("$[0].created", is(itemRequestDto.getCreated().format(formatter))));
+        verify(requestService, times(1)).forEachItemRequest(anyLong(), any());
+        verify(requestService, never()).getAllItemRequests(anyLong(), any(), any());
+    }
 }
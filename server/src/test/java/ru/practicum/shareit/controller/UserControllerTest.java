@@ -6,15 +6,17 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.util.LinkedMultiValueMap;
+import ru.practicum.shareit.config.JsonArrayWriter;
 import ru.practicum.shareit.user.UserController;
 import ru.practicum.shareit.user.dto.UserDto;
 import ru.practicum.shareit.user.exception.EmailUniqueViolationException;
 import ru.practicum.shareit.user.exception.UserNotFoundException;
 import ru.practicum.shareit.user.service.UserService;
 
-import java.util.Collections;
+import java.util.function.Consumer;
 
 import static org.hamcrest.Matchers.is;
 import static org.mockito.ArgumentMatchers.any;
@@ -23,6 +25,7 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @WebMvcTest(controllers = UserController.class)
+@Import(JsonArrayWriter.class)
 class UserControllerTest extends AbstractControllerTest {
 
     @Autowired
@@ -154,11 +157,17 @@ class UserControllerTest extends AbstractControllerTest {
     @Test
     @DisplayName("Get all users test")
     void getAllUsersTest() throws Exception {
-        when(userService.getAllUsers())
-                .thenReturn(Collections.emptyList());
+        doAnswer(invocation -> {
+            Consumer<UserDto> action = invocation.getArgument(0);
+            action.accept(userDto);
+            return null;
+        }).when(userService).forEachUser(any());
         performGetRequests("/users", new LinkedMultiValueMap<>())
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$").isEmpty());
-        verify(userService, times(1)).getAllUsers();
+                .andExpect(jsonPath("$.size()").value(1))
+                .andExpect(jsonPath("$[0].id", is(expectedUserId), Long.class))
+                .andExpect(jsonPath("$[0].name", is(userDto.getName())))
+                .andExpect(jsonPath("$[0].email", is(userDto.getEmail())));
+        verify(userService, times(1)).forEachUser(any());
     }
 }
@@ -0,0 +1,108 @@
+package ru.practicum.shareit.repository;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import ru.practicum.shareit.booking.Booking;
+import ru.practicum.shareit.booking.BookingStatus;
+import ru.practicum.shareit.booking.repository.BookingIntervalIndex;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.user.User;
+
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+
+class BookingIntervalIndexTest {
+
+    private final Long itemId = 1L;
+
+    private final LocalDateTime horizon = LocalDateTime.of(2043, 1, 1, 0, 0, 0);
+
+    private final BookingIntervalIndex bookingIntervalIndex = new BookingIntervalIndex(2);
+
+    private Booking booking(Long id, int startHour, int endHour, BookingStatus status) {
+        return new Booking(
+                id,
+                horizon.plusHours(startHour),
+                horizon.plusHours(endHour),
+                new Item(itemId, "name", "description", true, null, null),
+                new User(2L, "name", "email@test.com"),
+                status
+        );
+    }
+
+    private void warmUp(List<Booking> bookings) {
+        long generation = bookingIntervalIndex.beginWarmUp(itemId);
+        bookingIntervalIndex.completeWarmUp(itemId, generation, horizon, bookings);
+    }
+
+    @Test
+    @DisplayName("Cold item is answered by database test")
+    void coldItemTest() throws Exception {
+        assertThat(bookingIntervalIndex.isOverlaps(itemId, horizon.plusHours(1), horizon.plusHours(2))).isNull();
+        bookingIntervalIndex.beginWarmUp(itemId);
+        assertThat(bookingIntervalIndex.isOverlaps(itemId, horizon.plusHours(1), horizon.plusHours(2))).isNull();
+    }
+
+    @Test
+    @DisplayName("Booking before index horizon is answered by database test")
+    void bookingBeforeHorizonTest() throws Exception {
+        warmUp(Collections.emptyList());
+        assertThat(bookingIntervalIndex.isOverlaps(itemId, horizon.minusHours(1), horizon.plusHours(2))).isNull();
+    }
+
+    @Test
+    @DisplayName("Overlaps check matches database predicate test")
+    void overlapsTest() throws Exception {
+        warmUp(List.of(booking(1L, 10, 12, BookingStatus.APPROVED), booking(2L, 14, 16, BookingStatus.WAITING)));
+        assertThat(bookingIntervalIndex.isOverlaps(itemId, horizon.plusHours(12), horizon.plusHours(13))).isFalse();
+        assertThat(bookingIntervalIndex.isOverlaps(itemId, horizon.plusHours(12), horizon.plusHours(14))).isTrue();
+        assertThat(bookingIntervalIndex.isOverlaps(itemId, horizon.plusHours(11), horizon.plusHours(13))).isTrue();
+        assertThat(bookingIntervalIndex.isOverlaps(itemId, horizon.plusHours(8), horizon.plusHours(20))).isTrue();
+        assertThat(bookingIntervalIndex.isOverlaps(itemId, horizon.plusHours(17), horizon.plusHours(18))).isFalse();
+        assertThat(bookingIntervalIndex.isOverlaps(itemId, horizon.plusHours(1), horizon.plusHours(2))).isFalse();
+    }
+
+    @Test
+    @DisplayName("Saved and rejected bookings update index test")
+    void updateTest() throws Exception {
+        warmUp(Collections.emptyList());
+        bookingIntervalIndex.update(booking(1L, 10, 12, BookingStatus.WAITING));
+        assertThat(bookingIntervalIndex.isOverlaps(itemId, horizon.plusHours(11), horizon.plusHours(13))).isTrue();
+        bookingIntervalIndex.update(booking(1L, 10, 12, BookingStatus.REJECTED));
+        assertThat(bookingIntervalIndex.isOverlaps(itemId, horizon.plusHours(11), horizon.plusHours(13))).isFalse();
+    }
+
+    @Test
+    @DisplayName("Updates received while loading win over loaded state test")
+    void updateWhileLoadingTest() throws Exception {
+        long generation = bookingIntervalIndex.beginWarmUp(itemId);
+        bookingIntervalIndex.update(booking(1L, 10, 12, BookingStatus.REJECTED));
+        bookingIntervalIndex.update(booking(2L, 14, 16, BookingStatus.WAITING));
+        bookingIntervalIndex.completeWarmUp(itemId, generation, horizon, List.of(booking(1L, 10, 12, BookingStatus.WAITING)));
+        assertThat(bookingIntervalIndex.isOverlaps(itemId, horizon.plusHours(11), horizon.plusHours(13))).isFalse();
+        assertThat(bookingIntervalIndex.isOverlaps(itemId, horizon.plusHours(15), horizon.plusHours(17))).isTrue();
+    }
+
+    @Test
+    @DisplayName("Overlapping bookings make item cold test")
+    void overlappingBookingsEvictItemTest() throws Exception {
+        warmUp(List.of(booking(1L, 10, 12, BookingStatus.APPROVED), booking(2L, 11, 13, BookingStatus.APPROVED)));
+        assertThat(bookingIntervalIndex.contains(itemId)).isFalse();
+        warmUp(List.of(booking(1L, 10, 12, BookingStatus.APPROVED)));
+        bookingIntervalIndex.update(booking(2L, 11, 13, BookingStatus.APPROVED));
+        assertThat(bookingIntervalIndex.contains(itemId)).isFalse();
+    }
+
+    @Test
+    @DisplayName("Least recently used item is evicted test")
+    void evictionTest() throws Exception {
+        bookingIntervalIndex.beginWarmUp(1L);
+        bookingIntervalIndex.beginWarmUp(2L);
+        bookingIntervalIndex.beginWarmUp(3L);
+        assertThat(bookingIntervalIndex.contains(1L)).isFalse();
+        assertThat(bookingIntervalIndex.contains(3L)).isTrue();
+    }
+}
@@ -0,0 +1,159 @@
+package ru.practicum.shareit.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+import ru.practicum.shareit.booking.BookingStatus;
+import ru.practicum.shareit.booking.repository.JpaBookingRepository;
+import ru.practicum.shareit.config.SqlStatistics;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Transactional
+@SpringBootTest(properties = {
+        "spring.datasource.driverClassName=org.postgresql.Driver",
+        "spring.datasource.url=${SPRING_DATASOURCE_URL}",
+        "spring.datasource.username=${POSTGRES_USER}",
+        "spring.datasource.password=${POSTGRES_PASSWORD}",
+        "spring.sql.init.schema-locations=classpath:schema.sql,classpath:schema-postgres.sql"
+})
+@EnabledIfEnvironmentVariable(named = "SPRING_DATASOURCE_URL", matches = "jdbc:postgresql:.*")
+@RequiredArgsConstructor(onConstructor_ = @Autowired)
+class BookingQueryPlanTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2023, 1, 1, 12, 0);
+
+    private static final Pageable PAGE = PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "start"));
+
+    private static final Pageable KEYSET_PAGE = PageRequest.of(0, 10,
+            Sort.by(Sort.Direction.DESC, "start").and(Sort.by(Sort.Direction.DESC, "id")));
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final JpaBookingRepository bookingRepository;
+
+    static Stream<Arguments> hotBookingQueries() {
+        return Stream.of(
+                query("all bookings of booker", repository -> repository.findAllBookingsOfUser(1L, PAGE),
+                        "booking_booker_id_start_date_idx"),
+                query("all bookings of booker after cursor", repository ->
+                                repository.findAllBookingsOfUserAfterCursor(1L, NOW, 5L, KEYSET_PAGE),
+                        "booking_booker_id_start_date_idx"),
+                query("future bookings of booker", repository ->
+                                repository.findAllFutureBookingsOfUser(1L, NOW, PAGE),
+                        "booking_booker_id_start_date_idx"),
+                query("past bookings of booker", repository ->
+                                repository.findAllPreviousBookingsOfUser(1L, NOW, PAGE),
+                        "booking_booker_id_start_date_idx"),
+                query("current bookings of booker", repository ->
+                                repository.findAllCurrentBookingsOfUser(1L, NOW, PAGE),
+                        "booking_booker_id_start_date_idx"),
+                query("bookings of booker by status", repository ->
+                                repository.findAllBookingsOfUserByStatus(1L, BookingStatus.WAITING, PAGE),
+                        "booking_booker_id_status_start_date_idx"),
+                query("all bookings of owner", repository -> repository.findAllBookingsOfOwner(1L, PAGE),
+                        "booking_item_id_end_date_idx"),
+                query("bookings of owner by status", repository ->
+                                repository.findAllBookingsOfOwnerByStatus(1L, BookingStatus.WAITING, PAGE),
+                        "booking_item_id_status_start_date_idx"),
+                query("past bookings of owner", repository ->
+                                repository.findAllPreviousBookingsOfOwner(1L, NOW, PAGE),
+                        "booking_item_id_end_date_idx"),
+                query("next bookings of items", repository ->
+                                repository.findNextBookingsOfItems(List.of(1L, 2L), NOW, BookingStatus.APPROVED),
+                        "booking_item_id_status_start_date_idx"),
+                query("last bookings of items", repository ->
+                                repository.findLastBookingsOfItems(List.of(1L, 2L), NOW, BookingStatus.APPROVED),
+                        "booking_item_id_status_start_date_idx"),
+                query("last booking of item", repository ->
+                                repository.findFirstByItem_IdAndStartIsBeforeAndStatusOrderByEndDesc(
+                                        1L, NOW, BookingStatus.APPROVED),
+                        "booking_item_id_status_start_date_idx"),
+                query("overlapping bookings of item", repository ->
+                                repository.getOverlapsBookingsCount(1L, NOW, NOW.plusDays(1)),
+                        "booking_item_id_end_date_idx"),
+                query("finished bookings of item by booker", repository ->
+                                repository.countByItem_IdAndBooker_IdAndStatusAndEndIsBefore(
+                                        1L, 2L, BookingStatus.APPROVED, NOW),
+                        "booking_item_id_status_start_date_idx")
+        );
+    }
+
+    private static Arguments query(String name, Consumer<JpaBookingRepository> call, String expectedIndex) {
+        return Arguments.of(name, call, expectedIndex);
+    }
+
+    @BeforeEach
+    public void setUp() {
+        // enough rows per booker, owner and item for the planner statistics to favour the same index on every run
+        jdbcTemplate.execute("INSERT INTO users (name, email) " +
+                "SELECT 'user', 'plan' || g || '@test.com' FROM generate_series(1, 200) g");
+        jdbcTemplate.execute("INSERT INTO items (name, description, is_available, owner_id) " +
+                "SELECT 'item', 'description', true, u.id FROM users u, generate_series(1, 10) g");
+        jdbcTemplate.execute("INSERT INTO bookings (start_date, end_date, status, booker_id, item_id) " +
+                "SELECT TIMESTAMP '2022-01-01' + g * INTERVAL '1 hour', " +
+                "TIMESTAMP '2022-01-01' + (g + 2) * INTERVAL '1 hour', " +
+                "(ARRAY['WAITING', 'APPROVED', 'REJECTED', 'CANCELED'])[g % 4 + 1], " +
+                "(SELECT MIN(id) FROM users) + g % 200, i.id " +
+                "FROM items i, generate_series(1, 10) g");
+        jdbcTemplate.execute("ANALYZE users, items, bookings");
+        // with sequential scans priced out the planner only falls back to one when no index fits the query
+        jdbcTemplate.execute("SET LOCAL enable_seqscan = off");
+        // a generic plan does not depend on the bound values, so it is the plan every call of the query gets
+        jdbcTemplate.execute("SET LOCAL plan_cache_mode = force_generic_plan");
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("hotBookingQueries")
+    @DisplayName("Hot booking query is served by an index test")
+    void hotBookingQueryUsesIndexTest(String name, Consumer<JpaBookingRepository> call, String expectedIndex)
+            throws Exception {
+        String sql;
+        try (SqlStatistics statistics = SqlStatistics.recording()) {
+            call.accept(bookingRepository);
+            // the query itself comes first, the bookers and items it references are loaded after it
+            sql = statistics.getStatements().get(0);
+        }
+        String plan = explain(sql);
+        assertThat(plan).doesNotContain("Seq Scan on bookings").doesNotContain("Seq Scan on items");
+        assertThat(plan).contains(expectedIndex);
+    }
+
+    private String explain(String sql) {
+        StringBuilder statement = new StringBuilder();
+        int parameter = 0;
+        for (char c : sql.toCharArray()) {
+            if (c == '?') {
+                statement.append('$').append(++parameter);
+            } else {
+                statement.append(c);
+            }
+        }
+        jdbcTemplate.execute("PREPARE hot_booking_query AS " + statement);
+        try {
+            String arguments = IntStream.range(0, parameter).mapToObj(i -> "NULL").collect(Collectors.joining(", "));
+            return String.join("\n", jdbcTemplate.queryForList(
+                    "EXPLAIN EXECUTE hot_booking_query" + (parameter == 0 ? "" : "(" + arguments + ")"), String.class));
+        } finally {
+            jdbcTemplate.execute("DEALLOCATE hot_booking_query");
+        }
+    }
+}
@@ -7,13 +7,20 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 import org.springframework.test.annotation.Rollback;
 import org.springframework.test.context.jdbc.Sql;
 import org.springframework.transaction.annotation.Transactional;
 import ru.practicum.shareit.booking.Booking;
+import ru.practicum.shareit.booking.BookingCursor;
 import ru.practicum.shareit.booking.BookingStatus;
+import ru.practicum.shareit.booking.repository.BookingIntervalIndex;
 import ru.practicum.shareit.booking.repository.BookingRepository;
 import ru.practicum.shareit.booking.repository.DatabaseBookingRepositoryImpl;
+import ru.practicum.shareit.config.EntityStreams;
 import ru.practicum.shareit.item.model.Item;
 import ru.practicum.shareit.user.User;
 import ru.practicum.shareit.utils.IdReducer;
@@ -21,6 +28,8 @@ import ru.practicum.shareit.utils.IdReducer;
 import java.sql.SQLException;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
 
@@ -28,18 +37,22 @@ import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
 @DataJpaTest
 @Transactional(readOnly = true)
 @Sql(scripts = "classpath:booking_init.sql")
-@Import(value = {DatabaseBookingRepositoryImpl.class, IdReducer.class})
+@Import(value = {DatabaseBookingRepositoryImpl.class, BookingIntervalIndex.class, EntityStreams.class, IdReducer.class})
 @RequiredArgsConstructor(onConstructor_ = @Autowired)
 class BookingRepositoryTest {
 
     private final BookingRepository bookingRepository;
 
+    private final BookingIntervalIndex bookingIntervalIndex;
+
     private final IdReducer idReducer;
 
     private final Long expectedBookerId = 2L;
 
     private final Long expectedItemId = 1L;
 
+    private final Long expectedOwnerId = 1L;
+
     private final Booking booking = new Booking(
             null,
             LocalDateTime.of(2043, 1, 1, 16, 0, 0),
@@ -54,6 +67,7 @@ class BookingRepositoryTest {
         idReducer.resetAutoIncrementColumns("items");
         idReducer.resetAutoIncrementColumns("users");
         idReducer.resetAutoIncrementColumns("bookings");
+        bookingIntervalIndex.evict(expectedItemId);
     }
 
     @Test
@@ -95,40 +109,40 @@ class BookingRepositoryTest {
     }
 
     @Test
-    @DisplayName("Find all past bookings of item test")
-    void findAllPastBookingsOfItemTest() throws Exception {
-        assertThat(bookingRepository.findAllPastBookingsOfItems(List.of(expectedItemId))).asList().hasSize(1);
+    @DisplayName("Find all past bookings of owner items test")
+    void findAllPastBookingsOfOwnerItemsTest() throws Exception {
+        assertThat(bookingRepository.findAllPastBookingsOfOwner(expectedOwnerId)).asList().hasSize(1);
     }
 
     @Test
-    @DisplayName("Find all current bookings of item test")
-    void findAllCurrentBookingsOfItemTest() throws Exception {
-        assertThat(bookingRepository.findAllCurrentBookingsOfItems(List.of(expectedItemId))).asList().hasSize(1);
+    @DisplayName("Find all current bookings of owner items test")
+    void findAllCurrentBookingsOfOwnerItemsTest() throws Exception {
+        assertThat(bookingRepository.findAllCurrentBookingsOfOwner(expectedOwnerId)).asList().hasSize(1);
     }
 
     @Test
-    @DisplayName("Find all future bookings of item test")
-    void findAllFutureBookingsOfItemTest() throws Exception {
-        assertThat(bookingRepository.findAllFutureBookingsOfItems(List.of(expectedItemId))).asList().hasSize(3);
+    @DisplayName("Find all future bookings of owner items test")
+    void findAllFutureBookingsOfOwnerItemsTest() throws Exception {
+        assertThat(bookingRepository.findAllFutureBookingsOfOwner(expectedOwnerId)).asList().hasSize(3);
     }
 
     @Test
-    @DisplayName("Find all bookings of item test")
-    void findAllBookingsOfItemTest() throws Exception {
-        assertThat(bookingRepository.findAllBookingOfItems(List.of(expectedItemId))).asList().hasSize(5);
+    @DisplayName("Find all bookings of owner items test")
+    void findAllBookingsOfOwnerItemsTest() throws Exception {
+        assertThat(bookingRepository.findAllBookingOfOwner(expectedOwnerId)).asList().hasSize(5);
     }
 
     @Test
-    @DisplayName("Find all rejected bookings of item test")
-    void findAllRejectedBookingsOfItemTest() throws Exception {
-        assertThat(bookingRepository.findAllBookingsOfItemsWithStatus(List.of(expectedItemId), BookingStatus.REJECTED))
+    @DisplayName("Find all rejected bookings of owner items test")
+    void findAllRejectedBookingsOfOwnerItemsTest() throws Exception {
+        assertThat(bookingRepository.findAllBookingsOfOwnerWithStatus(expectedOwnerId, BookingStatus.REJECTED))
                 .asList().hasSize(1);
     }
 
     @Test
-    @DisplayName("Find all waiting bookings of item test")
-    void findAllWaitingBookingsOfItemTest() throws Exception {
-        assertThat(bookingRepository.findAllBookingsOfItemsWithStatus(List.of(expectedItemId), BookingStatus.WAITING))
+    @DisplayName("Find all waiting bookings of owner items test")
+    void findAllWaitingBookingsOfOwnerItemsTest() throws Exception {
+        assertThat(bookingRepository.findAllBookingsOfOwnerWithStatus(expectedOwnerId, BookingStatus.WAITING))
                 .asList().hasSize(1);
     }
 
@@ -144,4 +158,81 @@ class BookingRepositoryTest {
         Booking overlapsBooking = booking.withStart(LocalDateTime.of(2043, 1, 1, 10, 0, 0));
         assertThat(bookingRepository.isBookingOverlapsOthers(overlapsBooking)).isTrue();
     }
+
+    @Test
+    @DisplayName("Is booking overlaps others warms up interval index test")
+    void isBookingOverlapsOthersWarmsUpIndexTest() throws Exception {
+        assertThat(bookingIntervalIndex.contains(expectedItemId)).isFalse();
+        assertThat(bookingRepository.isBookingOverlapsOthers(booking)).isFalse();
+        assertThat(bookingIntervalIndex.contains(expectedItemId)).isTrue();
+        assertThat(bookingIntervalIndex.isOverlaps(expectedItemId, booking.getStart(), booking.getEnd())).isFalse();
+        assertThat(bookingIntervalIndex.isOverlaps(
+                expectedItemId,
+                LocalDateTime.of(2043, 1, 1, 10, 30, 0),
+                LocalDateTime.of(2043, 1, 1, 10, 45, 0)
+        )).isTrue();
+    }
+
+    @Test
+    @DisplayName("Find all bookings of user after cursor test")
+    void findAllBookingsOfUserAfterCursorTest() throws Exception {
+        Pageable pageable = PageRequest.of(0, 2, Sort.by(Sort.Direction.DESC, "start").and(Sort.by(Sort.Direction.DESC, "id")));
+        Slice<Booking> firstSlice = bookingRepository.findAllBookingOfUser(
+                expectedBookerId, BookingCursor.decode(null), pageable);
+        assertThat(firstSlice.getContent()).asList().hasSize(2);
+        assertThat(firstSlice.hasNext()).isTrue();
+        assertThat(firstSlice.getContent().get(0).getId()).isEqualTo(5L);
+
+        Booking last = firstSlice.getContent().get(1);
+        Slice<Booking> secondSlice = bookingRepository.findAllBookingOfUser(
+                expectedBookerId, BookingCursor.decode(BookingCursor.of(last).encode()), pageable);
+        assertThat(secondSlice.getContent()).asList().hasSize(2);
+        assertThat(secondSlice.getContent().get(0).getId()).isEqualTo(3L);
+
+        Slice<Booking> lastSlice = bookingRepository.findAllBookingOfUser(
+                expectedBookerId, BookingCursor.of(secondSlice.getContent().get(1)), pageable);
+        assertThat(lastSlice.getContent()).asList().hasSize(1);
+        assertThat(lastSlice.hasNext()).isFalse();
+        assertThat(lastSlice.getContent().get(0).getId()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("Find all bookings of owner without items test")
+    void findAllBookingsOfOwnerWithoutItemsTest() throws Exception {
+        assertThat(bookingRepository.findAllBookingOfOwner(expectedBookerId)).asList().isEmpty();
+    }
+
+    @Test
+    @DisplayName("Find all future bookings of owner after cursor test")
+    void findAllFutureBookingsOfOwnerAfterCursorTest() throws Exception {
+        Pageable pageable = PageRequest.of(0, 2, Sort.by(Sort.Direction.DESC, "start").and(Sort.by(Sort.Direction.DESC, "id")));
+        Slice<Booking> firstSlice = bookingRepository.findAllFutureBookingsOfOwner(
+                expectedOwnerId, BookingCursor.decode(""), pageable);
+        assertThat(firstSlice.hasNext()).isTrue();
+
+        Slice<Booking> secondSlice = bookingRepository.findAllFutureBookingsOfOwner(
+                expectedOwnerId, BookingCursor.of(firstSlice.getContent().get(1)), pageable);
+        assertThat(secondSlice.getContent()).asList().hasSize(1);
+        assertThat(secondSlice.hasNext()).isFalse();
+    }
+
+    @Test
+    @DisplayName("Stream all bookings of user test")
+    void streamAllBookingsOfUserTest() throws Exception {
+        try (Stream<Booking> bookings = bookingRepository.streamAllBookingOfUser(expectedBookerId)) {
+            List<Booking> result = bookings.collect(Collectors.toList());
+            assertThat(result).asList().hasSize(5);
+            assertThat(result.get(0).getId()).isEqualTo(5L);
+            assertThat(result.get(0).getItem().getOwner()).isNotNull();
+        }
+    }
+
+    @Test
+    @DisplayName("Stream all rejected bookings of user test")
+    void streamAllRejectedBookingsOfUserTest() throws Exception {
+        try (Stream<Booking> bookings = bookingRepository
+                .streamAllBookingsOfUserWithStatus(expectedBookerId, BookingStatus.REJECTED)) {
+            assertThat(bookings.count()).isEqualTo(1L);
+        }
+    }
 }
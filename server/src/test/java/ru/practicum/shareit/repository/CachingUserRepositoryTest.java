@@ -0,0 +1,154 @@
+package ru.practicum.shareit.repository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import ru.practicum.shareit.user.User;
+import ru.practicum.shareit.user.repository.CachingUserRepositoryImpl;
+import ru.practicum.shareit.user.repository.DatabaseUserRepositoryImpl;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class CachingUserRepositoryTest {
+
+    private final DatabaseUserRepositoryImpl databaseUserRepository = Mockito.mock(DatabaseUserRepositoryImpl.class);
+
+    private final MutableClock clock = new MutableClock();
+
+    private final CachingUserRepositoryImpl userRepository = new CachingUserRepositoryImpl(
+            databaseUserRepository,
+            2,
+            Duration.ofMinutes(1),
+            clock
+    );
+
+    private final User user = new User(1L, "test_name", "email@test.com");
+
+    @Test
+    @DisplayName("Repeated find user is served from cache test")
+    void findUserByIdHitTest() throws Exception {
+        when(databaseUserRepository.findUserById(1L)).thenReturn(user);
+        assertThat(userRepository.findUserById(1L)).isEqualTo(user);
+        User cachedUser = userRepository.findUserById(1L);
+        assertThat(cachedUser).isEqualTo(user);
+        assertThat(cachedUser.getEmail()).isEqualTo(user.getEmail());
+        verify(databaseUserRepository, times(1)).findUserById(1L);
+        assertThat(userRepository.getHitCount()).isEqualTo(1L);
+        assertThat(userRepository.getMissCount()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("Cache hits and misses are exposed as meters test")
+    void cacheMetersTest() throws Exception {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        userRepository.bindTo(meterRegistry);
+        when(databaseUserRepository.findUserById(1L)).thenReturn(user);
+        userRepository.findUserById(1L);
+        userRepository.findUserById(1L);
+        userRepository.findUserById(1L);
+        assertThat(meterRegistry.get("cache.gets").tags("cache", "users", "result", "hit").functionCounter().count())
+                .isEqualTo(2.0);
+        assertThat(meterRegistry.get("cache.gets").tags("cache", "users", "result", "miss").functionCounter().count())
+                .isEqualTo(1.0);
+        assertThat(meterRegistry.get("cache.size").tags("cache", "users").gauge().value()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Missing user is not cached test")
+    void findMissingUserTest() throws Exception {
+        assertThat(userRepository.findUserById(1L)).isNull();
+        assertThat(userRepository.findUserById(1L)).isNull();
+        verify(databaseUserRepository, times(2)).findUserById(1L);
+    }
+
+    @Test
+    @DisplayName("Expired user is reloaded test")
+    void findUserByIdExpiredTest() throws Exception {
+        when(databaseUserRepository.findUserById(1L)).thenReturn(user);
+        userRepository.findUserById(1L);
+        clock.advance(Duration.ofMinutes(2));
+        userRepository.findUserById(1L);
+        verify(databaseUserRepository, times(2)).findUserById(1L);
+    }
+
+    @Test
+    @DisplayName("Cache size is bounded test")
+    void cacheSizeIsBoundedTest() throws Exception {
+        when(databaseUserRepository.findUserById(anyLong())).thenAnswer(invocation ->
+                new User(invocation.getArgument(0), "name", "email@test.com"));
+        userRepository.findUserById(1L);
+        userRepository.findUserById(2L);
+        userRepository.findUserById(3L);
+        assertThat(userRepository.size()).isEqualTo(2);
+        userRepository.findUserById(1L);
+        verify(databaseUserRepository, times(2)).findUserById(1L);
+    }
+
+    @Test
+    @DisplayName("Update and delete evict user test")
+    void updateAndDeleteEvictTest() throws Exception {
+        when(databaseUserRepository.findUserById(1L)).thenReturn(user);
+        userRepository.findUserById(1L);
+        userRepository.updateUser(user.withName("new_name"));
+        userRepository.findUserById(1L);
+        userRepository.deleteUser(1L);
+        userRepository.findUserById(1L);
+        verify(databaseUserRepository, times(3)).findUserById(1L);
+    }
+
+    @Test
+    @DisplayName("Exists user is served from cache test")
+    void existsUserByIdTest() throws Exception {
+        when(databaseUserRepository.findUserById(1L)).thenReturn(user);
+        assertThat(userRepository.existsUserById(1L)).isTrue();
+        assertThat(userRepository.existsUserById(1L)).isTrue();
+        assertThat(userRepository.findUserById(1L)).isEqualTo(user);
+        verify(databaseUserRepository, times(1)).findUserById(1L);
+        verify(databaseUserRepository, never()).existsUserById(anyLong());
+    }
+
+    @Test
+    @DisplayName("Missing user does not exist and is not cached test")
+    void existsMissingUserTest() throws Exception {
+        assertThat(userRepository.existsUserById(1L)).isFalse();
+        assertThat(userRepository.existsUserById(1L)).isFalse();
+        verify(databaseUserRepository, times(2)).findUserById(1L);
+    }
+
+    private static class MutableClock extends Clock {
+
+        private Instant instant = Instant.parse("2043-01-01T00:00:00Z");
+
+        private void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+
+}
@@ -1,6 +1,8 @@
 package ru.practicum.shareit.repository;
 
 import lombok.RequiredArgsConstructor;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -8,17 +10,32 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
 import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
 import org.springframework.test.annotation.Rollback;
 import org.springframework.test.context.jdbc.Sql;
 import org.springframework.transaction.annotation.Transactional;
+import ru.practicum.shareit.booking.Booking;
+import ru.practicum.shareit.booking.BookingStatus;
+import ru.practicum.shareit.config.EntityStreams;
+import ru.practicum.shareit.config.SqlStatistics;
 import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.model.ItemBookingSummary;
 import ru.practicum.shareit.item.repository.DatabaseItemRepositoryImpl;
 import ru.practicum.shareit.item.repository.ItemRepository;
+import ru.practicum.shareit.item.repository.ItemSearchIndex;
 import ru.practicum.shareit.user.User;
 import ru.practicum.shareit.utils.IdReducer;
 
+import javax.persistence.EntityManagerFactory;
 import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
 
@@ -26,14 +43,22 @@ import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
 @DataJpaTest
 @Transactional(readOnly = true)
 @Sql(scripts = "classpath:item_init.sql")
-@Import(value = {DatabaseItemRepositoryImpl.class, IdReducer.class})
+@Import(value = {DatabaseItemRepositoryImpl.class, ItemSearchIndex.class, EntityStreams.class, IdReducer.class})
 @RequiredArgsConstructor(onConstructor_ = @Autowired)
 class ItemRepositoryTest {
 
     private final ItemRepository itemRepository;
 
+    private final DatabaseItemRepositoryImpl databaseItemRepository;
+
+    private final ItemSearchIndex itemSearchIndex;
+
     private final IdReducer idReducer;
 
+    private final EntityManagerFactory entityManagerFactory;
+
+    private final TestEntityManager entityManager;
+
     private final Long expectedOwnerId = 1L;
 
     private final Long expectedItemId = 1L;
@@ -59,6 +84,7 @@ class ItemRepositoryTest {
         idReducer.resetAutoIncrementColumns("users");
         idReducer.resetAutoIncrementColumns("bookings");
         idReducer.resetAutoIncrementColumns("comments");
+        itemSearchIndex.beginBuild();
     }
 
     @Test
@@ -83,6 +109,111 @@ class ItemRepositoryTest {
                 .isEqualTo(expectedNextBookingId);
     }
 
+    @Test
+    @DisplayName("Get last bookings of items test")
+    void getLastBookingsOfItemsTest() throws Exception {
+        Long expectedLastBookingId = 2L;
+        assertThat(itemRepository.getLastBookingsByItemIds(List.of(expectedItemId, 2L)))
+                .asList()
+                .hasSize(1)
+                .extracting("id")
+                .containsExactly(expectedLastBookingId);
+    }
+
+    @Test
+    @DisplayName("Get next bookings of items test")
+    void getNextBookingsOfItemsTest() throws Exception {
+        Long expectedNextBookingId = 3L;
+        assertThat(itemRepository.getNextBookingsByItemIds(List.of(expectedItemId, 2L)))
+                .asList()
+                .hasSize(1)
+                .extracting("id")
+                .containsExactly(expectedNextBookingId);
+    }
+
+    @Test
+    @DisplayName("Get booking summary computed from bookings test")
+    void getBookingSummaryWithoutStoredSummaryTest() throws Exception {
+        ItemBookingSummary summary = itemRepository.getBookingSummaryByItemId(expectedItemId);
+        assertThat(summary.getItemId()).isEqualTo(expectedItemId);
+        assertThat(summary.getNextBooking().getId()).isEqualTo(3L);
+        assertThat(summary.getLastBooking().getId()).isEqualTo(2L);
+        assertThat(entityManager.find(ItemBookingSummary.class, expectedItemId)).isNull();
+    }
+
+    @Test
+    @Transactional
+    @DisplayName("Stored booking summary is read with one statement test")
+    void getStoredBookingSummaryTest() throws Exception {
+        assertThat(itemRepository.refreshOutdatedBookingSummaries(10)).isEqualTo(3);
+        assertThat(itemRepository.refreshOutdatedBookingSummaries(10)).isEqualTo(0);
+        entityManager.flush();
+        entityManager.clear();
+        List<ItemBookingSummary> summaries;
+        try (SqlStatistics statistics = SqlStatistics.start()) {
+            summaries = List.copyOf(itemRepository.getBookingSummariesByItemIds(List.of(1L, 2L)));
+            assertThat(statistics.getStatementCount()).isEqualTo(1);
+        }
+        assertThat(summaries).asList().hasSize(2);
+        ItemBookingSummary summary = summaries.get(0).getItemId().equals(expectedItemId) ? summaries.get(0) : summaries.get(1);
+        assertThat(summary.getNextBooking().getId()).isEqualTo(3L);
+        assertThat(summary.getLastBooking().getId()).isEqualTo(2L);
+        assertThat(summary.getValidUntil()).isEqualTo(LocalDateTime.of(2043, 1, 1, 10, 0, 0));
+    }
+
+    @Test
+    @Transactional
+    @DisplayName("Outdated booking summary is refreshed test")
+    void refreshOutdatedBookingSummaryTest() throws Exception {
+        itemRepository.refreshOutdatedBookingSummaries(10);
+        ItemBookingSummary storedSummary = entityManager.find(ItemBookingSummary.class, expectedItemId);
+        storedSummary.update(null, null);
+        storedSummary.setValidUntil(LocalDateTime.of(2023, 1, 1, 0, 0, 0));
+        entityManager.flush();
+        assertThat(itemRepository.getBookingSummaryByItemId(expectedItemId).getNextBooking().getId()).isEqualTo(3L);
+        assertThat(itemRepository.refreshOutdatedBookingSummaries(10)).isEqualTo(1);
+        assertThat(storedSummary.getNextBooking().getId()).isEqualTo(3L);
+        assertThat(storedSummary.getLastBooking().getId()).isEqualTo(2L);
+    }
+
+    @Test
+    @Transactional
+    @DisplayName("Refresh booking summary test")
+    void refreshBookingSummaryTest() throws Exception {
+        itemRepository.refreshOutdatedBookingSummaries(10);
+        ItemBookingSummary storedSummary = entityManager.find(ItemBookingSummary.class, expectedItemId);
+        entityManager.find(Booking.class, 3L).setStatus(BookingStatus.REJECTED);
+        itemRepository.refreshBookingSummary(expectedItemId);
+        assertThat(storedSummary.getNextBooking()).isNull();
+        assertThat(storedSummary.getLastBooking().getId()).isEqualTo(2L);
+        assertThat(storedSummary.getValidUntil()).isNull();
+    }
+
+    @Test
+    @Transactional
+    @DisplayName("Booking summary is recomputed after its booker is deleted test")
+    void deleteBookerOfSummaryBookingsTest() throws Exception {
+        Booking otherBooking = entityManager.find(Booking.class, 4L);
+        otherBooking.setBooker(entityManager.find(User.class, expectedOwnerId));
+        otherBooking.setStatus(BookingStatus.APPROVED);
+        itemRepository.refreshOutdatedBookingSummaries(10);
+        entityManager.flush();
+        entityManager.clear();
+        entityManager.remove(entityManager.find(User.class, 2L));
+        entityManager.flush();
+        entityManager.clear();
+        assertThat(entityManager.find(ItemBookingSummary.class, expectedItemId)).isNull();
+        ItemBookingSummary summary = itemRepository.getBookingSummaryByItemId(expectedItemId);
+        assertThat(summary.getNextBooking().getId()).isEqualTo(4L);
+        assertThat(summary.getLastBooking()).isNull();
+    }
+
+    @Test
+    @DisplayName("Find all comments of items test")
+    void findAllItemsCommentsTest() throws Exception {
+        assertThat(itemRepository.findAllItemsComments(List.of(expectedItemId, 2L))).asList().hasSize(1);
+    }
+
     @Test
     @DisplayName("Is user real booker of item valid test")
     void isUserRealBookerOfItemValidTest() throws Exception {
@@ -117,4 +248,84 @@ class ItemRepositoryTest {
     void searchItemTest(String text) throws Exception {
         assertThat(itemRepository.searchItem(text)).asList().contains(item);
     }
+
+    @Test
+    @DisplayName("Search item skips unavailable items in query test")
+    void searchItemSkipsUnavailableTest() throws Exception {
+        assertThat(itemRepository.searchItem("test_item_name")).asList().hasSize(2);
+        Slice<Item> items = itemRepository.searchItem("test_item_name", PageRequest.of(1, 1));
+        assertThat(items.getContent()).asList().hasSize(1);
+        assertThat(items.hasNext()).isFalse();
+    }
+
+    @Test
+    @DisplayName("Paged search item issues no count query test")
+    void searchItemPagedWithoutCountQueryTest() throws Exception {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+        Slice<Item> items = itemRepository.searchItem("descr", PageRequest.of(0, 1));
+        assertThat(items.getContent()).asList().containsExactly(item);
+        assertThat(items.hasNext()).isTrue();
+        assertThat(statistics.getQueryExecutionCount()).isEqualTo(1L);
+        statistics.setStatisticsEnabled(false);
+    }
+
+    @ParameterizedTest
+    @DisplayName("Search item with built index test")
+    @ValueSource(strings = {"descr", "Descri", "eScr", "st"})
+    void searchItemWithIndexTest(String text) throws Exception {
+        databaseItemRepository.buildSearchIndex();
+        assertThat(itemSearchIndex.isReady()).isTrue();
+        assertThat(itemRepository.searchItem(text)).asList().startsWith(item);
+    }
+
+    @Test
+    @DisplayName("Paged search item with built index test")
+    void searchItemPagedWithIndexTest() throws Exception {
+        databaseItemRepository.buildSearchIndex();
+        Slice<Item> firstSlice = itemRepository.searchItem("test_item_name", PageRequest.of(0, 1));
+        assertThat(firstSlice.getContent()).asList().containsExactly(item);
+        assertThat(firstSlice.hasNext()).isTrue();
+        Slice<Item> secondSlice = itemRepository.searchItem("test_item_name", PageRequest.of(1, 1));
+        assertThat(secondSlice.getContent().get(0).getId()).isEqualTo(2L);
+        assertThat(secondSlice.hasNext()).isFalse();
+        assertThat(itemRepository.searchItem("name_2")).asList().hasSize(1);
+    }
+
+    @Test
+    @Transactional
+    @DisplayName("Search item with built index loads many matches in chunks test")
+    void searchItemWithIndexManyMatchesTest() throws Exception {
+        entityManager.getEntityManager()
+                .createNativeQuery("INSERT INTO items(id, name, description, is_available, owner_id) " +
+                        "SELECT X + 1000, 'bulk_item_' || X, 'bulk_description', true, 1 FROM SYSTEM_RANGE(1, 1500)")
+                .executeUpdate();
+        databaseItemRepository.buildSearchIndex();
+        List<Long> itemIds;
+        try (SqlStatistics statistics = SqlStatistics.start()) {
+            itemIds = itemRepository.searchItem("bulk")
+                    .stream()
+                    .map(Item::getId)
+                    .collect(Collectors.toList());
+            // two chunks of items and the owner they share
+            assertThat(statistics.getStatementCount()).isEqualTo(3);
+        }
+        assertThat(itemIds).isEqualTo(LongStream.rangeClosed(1001, 2500).boxed().collect(Collectors.toList()));
+    }
+
+    @Test
+    @DisplayName("Find item owner id test")
+    void findItemOwnerIdTest() throws Exception {
+        assertThat(itemRepository.findItemOwnerId(expectedItemId)).isEqualTo(expectedOwnerId);
+        assertThat(itemRepository.findItemOwnerId(999L)).isNull();
+    }
+
+    @Test
+    @DisplayName("Stream all items of owner test")
+    void streamAllItemsTest() throws Exception {
+        try (Stream<Item> items = itemRepository.streamAllItems(1L)) {
+            assertThat(items.map(Item::getId).collect(Collectors.toList())).asList().containsExactly(1L, 2L);
+        }
+    }
 }
@@ -1,22 +1,34 @@
 package ru.practicum.shareit.repository;
 
 import lombok.RequiredArgsConstructor;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.test.annotation.Rollback;
 import org.springframework.test.context.jdbc.Sql;
 import org.springframework.transaction.annotation.Transactional;
+import ru.practicum.shareit.config.EntityStreams;
+import ru.practicum.shareit.request.ItemRequest;
 import ru.practicum.shareit.request.repository.ItemRequestRepository;
 import ru.practicum.shareit.request.repository.ItemRequestRepositoryImpl;
 import ru.practicum.shareit.user.User;
 import ru.practicum.shareit.utils.IdReducer;
 
+import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
 import java.sql.SQLException;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
 
@@ -24,7 +36,7 @@ import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
 @DataJpaTest
 @Transactional(readOnly = true)
 @Sql(scripts = "classpath:request_init.sql")
-@Import(value = {ItemRequestRepositoryImpl.class, IdReducer.class})
+@Import(value = {ItemRequestRepositoryImpl.class, EntityStreams.class, IdReducer.class})
 @RequiredArgsConstructor(onConstructor_ = @Autowired)
 class ItemRequestRepositoryTest {
 
@@ -32,6 +44,10 @@ class ItemRequestRepositoryTest {
 
     private final IdReducer idReducer;
 
+    private final EntityManagerFactory entityManagerFactory;
+
+    private final EntityManager entityManager;
+
     private final Long expectedRequestorId = 2L;
 
     @BeforeEach
@@ -62,4 +78,60 @@ class ItemRequestRepositoryTest {
         User requestor = new User().withId(expectedRequestorId);
         assertThat(requestRepository.getAllItemRequests(requestor)).asList().isEmpty();
     }
+
+    @Test
+    @DisplayName("Find item requests page loads items in constant statements test")
+    @Sql(scripts = {"classpath:request_init.sql", "classpath:request_page_init.sql"})
+    void findAllItemRequestPageStatementsTest() throws Exception {
+        User requestor = new User().withId(expectedRequestorId);
+        Sort requestsSort = Sort.by(Sort.Direction.DESC, "created");
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+
+        statistics.clear();
+        Slice<ItemRequest> singleRequest = requestRepository.getAllItemRequests(requestor, PageRequest.of(0, 1, requestsSort));
+        long singleRequestStatements = statistics.getPrepareStatementCount();
+        entityManager.clear();
+
+        statistics.clear();
+        Slice<ItemRequest> allRequests = requestRepository.getAllItemRequests(requestor, PageRequest.of(0, 3, requestsSort));
+        long allRequestsStatements = statistics.getPrepareStatementCount();
+        statistics.setStatisticsEnabled(false);
+
+        assertThat(singleRequest.getContent().get(0).getItems()).asList().hasSize(1);
+        assertThat(allRequests.getContent()).asList().hasSize(3);
+        assertThat(allRequests.getContent().get(0).getId()).isEqualTo(4L);
+        assertThat(allRequests.getContent().get(2).getItems()).asList().hasSize(2);
+        assertThat(singleRequestStatements).isEqualTo(2L);
+        assertThat(allRequestsStatements).isEqualTo(singleRequestStatements);
+    }
+
+    @Test
+    @DisplayName("Find all item requests loads items in one statement test")
+    @Sql(scripts = {"classpath:request_init.sql", "classpath:request_page_init.sql"})
+    void findAllItemRequestStatementsTest() throws Exception {
+        User requestor = new User().withId(expectedRequestorId);
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+        Collection<ItemRequest> requests = requestRepository.getAllItemRequests(requestor);
+        long statements = statistics.getPrepareStatementCount();
+        statistics.setStatisticsEnabled(false);
+        assertThat(requests).asList().hasSize(3);
+        assertThat(requests.stream().mapToInt(request -> request.getItems().size()).sum()).isEqualTo(4);
+        assertThat(statements).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("Stream all item requests with items test")
+    @Sql(scripts = {"classpath:request_init.sql", "classpath:request_page_init.sql"})
+    void streamAllItemRequestsTest() throws Exception {
+        User requestor = new User().withId(expectedRequestorId);
+        try (Stream<ItemRequest> requests = requestRepository.streamAllItemRequests(requestor)) {
+            List<ItemRequest> result = requests.collect(Collectors.toList());
+            assertThat(result.stream().map(ItemRequest::getId).collect(Collectors.toList()))
+                    .asList().containsExactly(4L, 3L, 2L);
+            assertThat(result.get(2).getItems()).asList().hasSize(2);
+        }
+    }
 }
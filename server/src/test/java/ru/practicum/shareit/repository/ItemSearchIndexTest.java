@@ -0,0 +1,107 @@
+package ru.practicum.shareit.repository;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.repository.ItemSearchIndex;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ItemSearchIndexTest {
+
+    private final ItemSearchIndex itemSearchIndex = new ItemSearchIndex();
+
+    private Item item(Long id, String name, String description, Boolean available) {
+        return new Item(id, name, description, available, null, null);
+    }
+
+    private ItemSearchIndex.Entry entry(Long id, String name, String description) {
+        return new ItemSearchIndex.Entry() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public String getName() {
+                return name;
+            }
+
+            @Override
+            public String getDescription() {
+                return description;
+            }
+        };
+    }
+
+    @BeforeEach
+    void setUp() {
+        itemSearchIndex.beginBuild();
+        itemSearchIndex.completeBuild();
+    }
+
+    @Test
+    @DisplayName("Index that is not built is answered by database test")
+    void notBuiltIndexTest() throws Exception {
+        itemSearchIndex.beginBuild();
+        assertThat(itemSearchIndex.isReady()).isFalse();
+        assertThat(itemSearchIndex.search("drill")).isNull();
+    }
+
+    @Test
+    @DisplayName("Search matches substrings ignoring case test")
+    void searchSubstringTest() throws Exception {
+        itemSearchIndex.update(item(1L, "Cordless Drill", "Makes holes", true));
+        itemSearchIndex.update(item(2L, "Hammer", "Heavy one", true));
+        assertThat(itemSearchIndex.search("DRI")).containsExactly(1L);
+        assertThat(itemSearchIndex.search("rdless dr")).containsExactly(1L);
+        assertThat(itemSearchIndex.search("saw")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Text shorter than a trigram is answered by database test")
+    void shortTextTest() throws Exception {
+        itemSearchIndex.update(item(1L, "Cordless Drill", "Makes holes", true));
+        assertThat(itemSearchIndex.search("e")).isNull();
+        assertThat(itemSearchIndex.search("Dr")).isNull();
+        assertThat(itemSearchIndex.search("dri")).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("Search ranks name and word start matches first test")
+    void searchRankingTest() throws Exception {
+        itemSearchIndex.update(item(1L, "Bag", "Fits a drill", true));
+        itemSearchIndex.update(item(2L, "Hydrill", "Garden tool", true));
+        itemSearchIndex.update(item(3L, "Drill", "Power tool", true));
+        itemSearchIndex.update(item(4L, "Box", "Hydrill case", true));
+        assertThat(itemSearchIndex.search("drill")).isEqualTo(List.of(3L, 2L, 1L, 4L));
+    }
+
+    @Test
+    @DisplayName("Unavailable and deleted items are not found test")
+    void unavailableAndDeletedItemsTest() throws Exception {
+        itemSearchIndex.update(item(1L, "Drill", "Power tool", true));
+        itemSearchIndex.update(item(2L, "Drill", "Power tool", true));
+        itemSearchIndex.update(item(1L, "Drill", "Power tool", false));
+        itemSearchIndex.evict(2L);
+        assertThat(itemSearchIndex.search("drill")).isEmpty();
+        itemSearchIndex.update(item(1L, "Saw", "Power tool", true));
+        assertThat(itemSearchIndex.search("drill")).isEmpty();
+        assertThat(itemSearchIndex.search("saw")).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("Updates received while building win over loaded state test")
+    void updateWhileBuildingTest() throws Exception {
+        itemSearchIndex.beginBuild();
+        itemSearchIndex.update(item(1L, "Saw", "Power tool", true));
+        itemSearchIndex.evict(2L);
+        itemSearchIndex.addAll(List.of(entry(1L, "Drill", "Power tool"), entry(2L, "Drill", "Power tool")));
+        itemSearchIndex.completeBuild();
+        assertThat(itemSearchIndex.search("drill")).isEmpty();
+        assertThat(itemSearchIndex.search("saw")).containsExactly(1L);
+    }
+}
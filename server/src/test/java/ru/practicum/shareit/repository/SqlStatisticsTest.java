@@ -0,0 +1,107 @@
+package ru.practicum.shareit.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.annotation.Rollback;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.transaction.annotation.Transactional;
+import ru.practicum.shareit.config.EntityStreams;
+import ru.practicum.shareit.config.SqlStatistics;
+import ru.practicum.shareit.item.repository.DatabaseItemRepositoryImpl;
+import ru.practicum.shareit.item.repository.ItemRepository;
+import ru.practicum.shareit.item.repository.ItemSearchIndex;
+import ru.practicum.shareit.utils.IdReducer;
+
+import java.sql.SQLException;
+import java.time.Duration;
+
+import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
+import static org.assertj.core.api.AssertionsForInterfaceTypes.assertThat;
+
+@Rollback
+@DataJpaTest
+@Transactional(readOnly = true)
+@Sql(scripts = "classpath:item_init.sql")
+@Import(value = {DatabaseItemRepositoryImpl.class, ItemSearchIndex.class, EntityStreams.class, IdReducer.class})
+@RequiredArgsConstructor(onConstructor_ = @Autowired)
+class SqlStatisticsTest {
+
+    private final ItemRepository itemRepository;
+
+    private final IdReducer idReducer;
+
+    @BeforeEach
+    public void setUp() throws SQLException {
+        idReducer.resetAutoIncrementColumns("items");
+        idReducer.resetAutoIncrementColumns("users");
+        idReducer.resetAutoIncrementColumns("bookings");
+        idReducer.resetAutoIncrementColumns("comments");
+    }
+
+    @Test
+    @DisplayName("Statements are counted and timed in the open scope test")
+    void statementsAreCountedTest() throws Exception {
+        try (SqlStatistics statistics = SqlStatistics.start()) {
+            itemRepository.findItemOwnerId(1L);
+            itemRepository.findItemOwnerId(3L);
+            assertThat(statistics.getStatementCount()).isEqualTo(2);
+            assertThat(statistics.getTotalTime()).isPositive();
+            assertThat(statistics.getSlowStatements()).isEmpty();
+        }
+    }
+
+    @Test
+    @DisplayName("Statements over the threshold are kept with their SQL test")
+    void slowStatementsAreKeptTest() throws Exception {
+        try (SqlStatistics statistics = SqlStatistics.start(Duration.ZERO)) {
+            itemRepository.findItemOwnerId(1L);
+            assertThat(statistics.getSlowStatements()).hasSize(1);
+            assertThat(statistics.getSlowStatements().get(0).getSql()).containsIgnoringCase("owner_id");
+        }
+    }
+
+    @Test
+    @DisplayName("Recording scope keeps the SQL of every statement in order test")
+    void recordingScopeTest() throws Exception {
+        try (SqlStatistics statistics = SqlStatistics.recording()) {
+            itemRepository.findItemOwnerId(1L);
+            itemRepository.findItemById(2L);
+            assertThat(statistics.getStatements()).hasSize(2);
+            assertThat(statistics.getStatements().get(0)).containsIgnoringCase("owner_id");
+            assertThat(statistics.getStatements().get(1)).containsIgnoringCase("from items");
+            assertThat(statistics.getSlowStatements()).isEmpty();
+        }
+        try (SqlStatistics statistics = SqlStatistics.start()) {
+            assertThatThrownBy(statistics::getStatements).isInstanceOf(IllegalStateException.class);
+        }
+    }
+
+    @Test
+    @DisplayName("Nested scopes count their own statements test")
+    void nestedScopesTest() throws Exception {
+        try (SqlStatistics outer = SqlStatistics.start()) {
+            itemRepository.findItemOwnerId(1L);
+            try (SqlStatistics inner = SqlStatistics.start()) {
+                itemRepository.findItemOwnerId(2L);
+                assertThat(inner.getStatementCount()).isEqualTo(1);
+            }
+            itemRepository.findItemOwnerId(3L);
+            assertThat(outer.getStatementCount()).isEqualTo(3);
+        }
+    }
+
+    @Test
+    @DisplayName("Statements outside a scope are not recorded test")
+    void closedScopeTest() throws Exception {
+        SqlStatistics statistics = SqlStatistics.start();
+        statistics.close();
+        itemRepository.findItemOwnerId(1L);
+        assertThat(statistics.getStatementCount()).isEqualTo(0);
+    }
+}
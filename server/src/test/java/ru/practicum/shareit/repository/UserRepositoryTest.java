@@ -10,12 +10,15 @@ import org.springframework.context.annotation.Import;
 import org.springframework.test.annotation.Rollback;
 import org.springframework.test.context.jdbc.Sql;
 import org.springframework.transaction.annotation.Transactional;
+import ru.practicum.shareit.config.EntityStreams;
 import ru.practicum.shareit.user.User;
 import ru.practicum.shareit.user.repository.DatabaseUserRepositoryImpl;
 import ru.practicum.shareit.user.repository.UserRepository;
 import ru.practicum.shareit.utils.IdReducer;
 
 import java.sql.SQLException;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
 
@@ -23,7 +26,7 @@ import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
 @DataJpaTest
 @Transactional(readOnly = true)
 @Sql(scripts = "classpath:user_init.sql")
-@Import(value = {DatabaseUserRepositoryImpl.class, IdReducer.class})
+@Import(value = {DatabaseUserRepositoryImpl.class, EntityStreams.class, IdReducer.class})
 @RequiredArgsConstructor(onConstructor_ = @Autowired)
 class UserRepositoryTest {
 
@@ -62,4 +65,19 @@ class UserRepositoryTest {
     void findAllUsersTest() throws Exception {
         assertThat(userRepository.findAllUsers()).asList().isNotEmpty().contains(user);
     }
+
+    @Test
+    @DisplayName("Exists user by id test")
+    void existsUserByIdTest() throws Exception {
+        assertThat(userRepository.existsUserById(expectedUserId)).isTrue();
+        assertThat(userRepository.existsUserById(999L)).isFalse();
+    }
+
+    @Test
+    @DisplayName("Stream all users test")
+    void streamAllUsersTest() throws Exception {
+        try (Stream<User> users = userRepository.streamAllUsers()) {
+            assertThat(users.collect(Collectors.toList())).asList().containsExactly(user);
+        }
+    }
 }
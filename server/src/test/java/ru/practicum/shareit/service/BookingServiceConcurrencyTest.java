@@ -0,0 +1,106 @@
+package ru.practicum.shareit.service;
+
+import lombok.RequiredArgsConstructor;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import ru.practicum.shareit.booking.dto.BookingRequestDto;
+import ru.practicum.shareit.booking.dto.BookingResponseDto;
+import ru.practicum.shareit.booking.exceptions.BookingOverlapsException;
+import ru.practicum.shareit.booking.service.BookingService;
+import ru.practicum.shareit.item.dto.ItemDto;
+import ru.practicum.shareit.item.service.ItemService;
+import ru.practicum.shareit.user.dto.UserDto;
+import ru.practicum.shareit.user.service.UserService;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:shareit_concurrency;LOCK_TIMEOUT=30000")
+@RequiredArgsConstructor(onConstructor_ = @Autowired)
+class BookingServiceConcurrencyTest {
+
+    private final UserService userService;
+
+    private final ItemService itemService;
+
+    private final BookingService bookingService;
+
+    private final int threads = 16;
+
+    private final int attemptsPerThread = 25;
+
+    @Test
+    @DisplayName("Concurrent bookings of one item never overlap test")
+    void concurrentBookingsOfOneItemNeverOverlapTest() throws Exception {
+        UserDto owner = userService.createUser(new UserDto(null, "owner", "owner@concurrency.test"));
+        UserDto booker = userService.createUser(new UserDto(null, "booker", "booker@concurrency.test"));
+        ItemDto item = itemService.createItem(owner.getId(), new ItemDto(
+                null,
+                "item",
+                "description",
+                Boolean.TRUE,
+                null,
+                null,
+                null,
+                new ArrayList<>()
+        ));
+        LocalDateTime base = LocalDateTime.now().plusDays(1).truncatedTo(ChronoUnit.HOURS);
+        AtomicInteger createdCount = new AtomicInteger();
+        CountDownLatch startGate = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < threads; i++) {
+            Random random = new Random(i);
+            futures.add(executor.submit(() -> {
+                startGate.await();
+                for (int j = 0; j < attemptsPerThread; j++) {
+                    int startHour = random.nextInt(48);
+                    BookingRequestDto request = new BookingRequestDto(
+                            item.getId(),
+                            base.plusHours(startHour),
+                            base.plusHours(startHour + 1 + random.nextInt(3))
+                    );
+                    try {
+                        bookingService.createBooking(booker.getId(), request);
+                        createdCount.incrementAndGet();
+                    } catch (BookingOverlapsException ignored) {
+                        // expected for most attempts
+                    }
+                }
+                return null;
+            }));
+        }
+        startGate.countDown();
+        for (Future<?> future : futures) {
+            future.get(2, TimeUnit.MINUTES);
+        }
+        executor.shutdown();
+
+        List<BookingResponseDto> bookings = new ArrayList<>(
+                bookingService.getAllBookingsForOwnerItems(owner.getId(), "ALL", null, null));
+        assertThat(createdCount.get()).isPositive();
+        assertThat(bookings).hasSize(createdCount.get());
+        for (int i = 0; i < bookings.size(); i++) {
+            for (int j = i + 1; j < bookings.size(); j++) {
+                BookingResponseDto first = bookings.get(i);
+                BookingResponseDto second = bookings.get(j);
+                assertThat(first.getStart().isBefore(second.getEnd()) && second.getStart().isBefore(first.getEnd()))
+                        .as("booking %s overlaps booking %s", first.getId(), second.getId())
+                        .isFalse();
+            }
+        }
+    }
+}
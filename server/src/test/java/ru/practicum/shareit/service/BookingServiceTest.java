@@ -9,7 +9,7 @@ import org.junit.jupiter.params.provider.ValueSource;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
-import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.SliceImpl;
 import ru.practicum.shareit.booking.Booking;
 import ru.practicum.shareit.booking.BookingStatus;
 import ru.practicum.shareit.booking.dto.BookingRequestDto;
@@ -45,7 +45,6 @@ import ru.practicum.shareit.user.repository.UserRepository;
 import java.time.LocalDateTime;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.List;
 
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThatExceptionOfType;
@@ -148,13 +147,13 @@ class BookingServiceTest {
     @DisplayName("Create valid booking test")
     void createValidBookingTest() throws Exception {
         when(userRepository.findUserById(anyLong())).thenReturn(user);
-        when(itemRepository.findItemById(anyLong())).thenReturn(item);
+        when(itemRepository.findItemByIdForUpdate(anyLong())).thenReturn(item);
         when(bookingRepository.isBookingOverlapsOthers(any())).thenReturn(Boolean.FALSE);
         when(bookingRepository.saveBooking(any())).thenReturn(booking.withBooker(user).withItem(item));
         BookingResponseDto result = bookingService.createBooking(expectedUserId, bookingRequestDto);
         assertThat(result).isEqualTo(bookingResponseDto);
         verify(userRepository, times(1)).findUserById(anyLong());
-        verify(itemRepository, times(1)).findItemById(anyLong());
+        verify(itemRepository, times(1)).findItemByIdForUpdate(anyLong());
         verify(bookingRepository, times(1)).isBookingOverlapsOthers(any());
         verify(bookingRepository, times(1)).saveBooking(any());
     }
@@ -166,7 +165,7 @@ class BookingServiceTest {
         assertThatExceptionOfType(UserNotFoundException.class)
                 .isThrownBy(() -> bookingService.createBooking(expectedUserId, bookingRequestDto));
         verify(userRepository, times(1)).findUserById(anyLong());
-        verify(itemRepository, never()).findItemById(anyLong());
+        verify(itemRepository, never()).findItemByIdForUpdate(anyLong());
         verify(bookingRepository, never()).isBookingOverlapsOthers(any());
         verify(bookingRepository, never()).saveBooking(any());
     }
@@ -175,11 +174,11 @@ class BookingServiceTest {
     @DisplayName("Create booking of not existing item test")
     void createBookingOfNotExistingItemTest() throws Exception {
         when(userRepository.findUserById(anyLong())).thenReturn(user);
-        when(itemRepository.findItemById(anyLong())).thenReturn(null);
+        when(itemRepository.findItemByIdForUpdate(anyLong())).thenReturn(null);
         assertThatExceptionOfType(ItemNotFoundException.class)
                 .isThrownBy(() -> bookingService.createBooking(expectedUserId, bookingRequestDto));
         verify(userRepository, times(1)).findUserById(anyLong());
-        verify(itemRepository, times(1)).findItemById(anyLong());
+        verify(itemRepository, times(1)).findItemByIdForUpdate(anyLong());
         verify(bookingRepository, never()).isBookingOverlapsOthers(any());
         verify(bookingRepository, never()).saveBooking(any());
     }
@@ -188,11 +187,11 @@ class BookingServiceTest {
     @DisplayName("Create booking of not available item test")
     void createBookingOfNotAvailableItemTest() throws Exception {
         when(userRepository.findUserById(anyLong())).thenReturn(user);
-        when(itemRepository.findItemById(anyLong())).thenReturn(item.withAvailable(Boolean.FALSE));
+        when(itemRepository.findItemByIdForUpdate(anyLong())).thenReturn(item.withAvailable(Boolean.FALSE));
         assertThatExceptionOfType(ItemUnavailableException.class)
                 .isThrownBy(() -> bookingService.createBooking(expectedUserId, bookingRequestDto));
         verify(userRepository, times(1)).findUserById(anyLong());
-        verify(itemRepository, times(1)).findItemById(anyLong());
+        verify(itemRepository, times(1)).findItemByIdForUpdate(anyLong());
         verify(bookingRepository, never()).isBookingOverlapsOthers(any());
         verify(bookingRepository, never()).saveBooking(any());
     }
@@ -201,11 +200,11 @@ class BookingServiceTest {
     @DisplayName("Create booking for own item test")
     void createBookingForOwnItemTest() throws Exception {
         when(userRepository.findUserById(anyLong())).thenReturn(user);
-        when(itemRepository.findItemById(anyLong())).thenReturn(item.withOwner(user));
+        when(itemRepository.findItemByIdForUpdate(anyLong())).thenReturn(item.withOwner(user));
         assertThatExceptionOfType(ItemNotFoundException.class)
                 .isThrownBy(() -> bookingService.createBooking(expectedUserId, bookingRequestDto));
         verify(userRepository, times(1)).findUserById(anyLong());
-        verify(itemRepository, times(1)).findItemById(anyLong());
+        verify(itemRepository, times(1)).findItemByIdForUpdate(anyLong());
         verify(bookingRepository, never()).isBookingOverlapsOthers(any());
         verify(bookingRepository, never()).saveBooking(any());
     }
@@ -214,12 +213,12 @@ class BookingServiceTest {
     @DisplayName("Create booking which overlaps others test")
     void createBookingWhichOverlapsOthersTest() throws Exception {
         when(userRepository.findUserById(anyLong())).thenReturn(user);
-        when(itemRepository.findItemById(anyLong())).thenReturn(item);
+        when(itemRepository.findItemByIdForUpdate(anyLong())).thenReturn(item);
         when(bookingRepository.isBookingOverlapsOthers(any())).thenReturn(Boolean.TRUE);
         assertThatExceptionOfType(BookingOverlapsException.class)
                 .isThrownBy(() -> bookingService.createBooking(expectedUserId, bookingRequestDto));
         verify(userRepository, times(1)).findUserById(anyLong());
-        verify(itemRepository, times(1)).findItemById(anyLong());
+        verify(itemRepository, times(1)).findItemByIdForUpdate(anyLong());
         verify(bookingRepository, times(1)).isBookingOverlapsOthers(any());
         verify(bookingRepository, never()).saveBooking(any());
     }
@@ -227,41 +226,43 @@ class BookingServiceTest {
     @Test
     @DisplayName("Update existing booking by item owner with approving test")
     void updateExistingBookingByItemOwnerWithApprovingTest() throws Exception {
-        when(userRepository.findUserById(anyLong())).thenReturn(user);
+        when(userRepository.existsUserById(anyLong())).thenReturn(true);
         when(bookingRepository.findBookingById(anyLong())).thenReturn(booking.withItem(item.withOwner(user)));
         when(bookingRepository.isBookingOverlapsOthers(any())).thenReturn(Boolean.FALSE);
         when(bookingRepository.saveBooking(any())).thenReturn(booking.withBooker(user).withItem(item));
         BookingResponseDto result = bookingService.updateBooking(expectedUserId, expectedBookingId, Boolean.TRUE);
         assertThat(result).isEqualTo(bookingResponseDto);
-        verify(userRepository, times(1)).findUserById(anyLong());
+        verify(userRepository, times(1)).existsUserById(anyLong());
         verify(bookingRepository, times(1)).findBookingById(anyLong());
         verify(bookingRepository, never()).isBookingOverlapsOthers(any());
         verify(bookingRepository, times(1)).saveBooking(any());
+        verify(itemRepository, times(1)).refreshBookingSummary(anyLong());
     }
 
     @Test
     @DisplayName("Update existing booking by item owner with rejecting test")
     void updateExistingBookingByItemOwnerWithRejectingTest() throws Exception {
-        when(userRepository.findUserById(anyLong())).thenReturn(user);
+        when(userRepository.existsUserById(anyLong())).thenReturn(true);
         when(bookingRepository.findBookingById(anyLong())).thenReturn(booking.withItem(item.withOwner(user)));
         when(bookingRepository.isBookingOverlapsOthers(any())).thenReturn(Boolean.FALSE);
         when(bookingRepository.saveBooking(any()))
                 .thenReturn(booking.withBooker(user).withItem(item).withStatus(BookingStatus.REJECTED));
         BookingResponseDto result = bookingService.updateBooking(expectedUserId, expectedBookingId, Boolean.FALSE);
         assertThat(result).isEqualTo(bookingResponseDto.withStatus(BookingStatus.REJECTED));
-        verify(userRepository, times(1)).findUserById(anyLong());
+        verify(userRepository, times(1)).existsUserById(anyLong());
         verify(bookingRepository, times(1)).findBookingById(anyLong());
         verify(bookingRepository, never()).isBookingOverlapsOthers(any());
         verify(bookingRepository, times(1)).saveBooking(any());
+        verify(itemRepository, times(1)).refreshBookingSummary(anyLong());
     }
 
     @Test
     @DisplayName("Update booking by not existing owner test")
     void updateBookingByNotExistingOwnerTest() throws Exception {
-        when(userRepository.findUserById(anyLong())).thenReturn(null);
+        when(userRepository.existsUserById(anyLong())).thenReturn(false);
         assertThatExceptionOfType(UserNotFoundException.class)
                 .isThrownBy(() -> bookingService.updateBooking(expectedUserId, expectedBookingId, Boolean.TRUE));
-        verify(userRepository, times(1)).findUserById(anyLong());
+        verify(userRepository, times(1)).existsUserById(anyLong());
         verify(bookingRepository, never()).findBookingById(anyLong());
         verify(bookingRepository, never()).isBookingOverlapsOthers(any());
         verify(bookingRepository, never()).saveBooking(any());
@@ -270,11 +271,11 @@ class BookingServiceTest {
     @Test
     @DisplayName("Update not existing booking test")
     void updateNotExistingBookingTest() throws Exception {
-        when(userRepository.findUserById(anyLong())).thenReturn(user);
+        when(userRepository.existsUserById(anyLong())).thenReturn(true);
         when(bookingRepository.findBookingById(anyLong())).thenReturn(null);
         assertThatExceptionOfType(BookingNotFoundException.class)
                 .isThrownBy(() -> bookingService.updateBooking(expectedUserId, expectedBookingId, Boolean.TRUE));
-        verify(userRepository, times(1)).findUserById(anyLong());
+        verify(userRepository, times(1)).existsUserById(anyLong());
         verify(bookingRepository, times(1)).findBookingById(anyLong());
         verify(bookingRepository, never()).isBookingOverlapsOthers(any());
         verify(bookingRepository, never()).saveBooking(any());
@@ -284,25 +285,26 @@ class BookingServiceTest {
     @DisplayName("Update booking by wrong owner test")
     void updateBookingByWrongOwnerTest() throws Exception {
         Long wrongOwnerId = 99L;
-        when(userRepository.findUserById(anyLong())).thenReturn(user.withId(wrongOwnerId));
+        when(userRepository.existsUserById(anyLong())).thenReturn(true);
         when(bookingRepository.findBookingById(anyLong())).thenReturn(booking.withItem(item.withOwner(user)));
         assertThatExceptionOfType(BookingNotFoundException.class)
-                .isThrownBy(() -> bookingService.updateBooking(expectedUserId, expectedBookingId, Boolean.TRUE));
-        verify(userRepository, times(1)).findUserById(anyLong());
+                .isThrownBy(() -> bookingService.updateBooking(wrongOwnerId, expectedBookingId, Boolean.TRUE));
+        verify(userRepository, times(1)).existsUserById(anyLong());
         verify(bookingRepository, times(1)).findBookingById(anyLong());
         verify(bookingRepository, never()).isBookingOverlapsOthers(any());
         verify(bookingRepository, never()).saveBooking(any());
+        verify(itemRepository, never()).refreshBookingSummary(anyLong());
     }
 
     @Test
     @DisplayName("Update already approved booking test")
     void updateAlreadyApprovedBookingTest() throws Exception {
-        when(userRepository.findUserById(anyLong())).thenReturn(user);
+        when(userRepository.existsUserById(anyLong())).thenReturn(true);
         when(bookingRepository.findBookingById(anyLong()))
                 .thenReturn(booking.withItem(item.withOwner(user)).withStatus(BookingStatus.APPROVED));
         assertThatExceptionOfType(BookingUpdateException.class)
                 .isThrownBy(() -> bookingService.updateBooking(expectedUserId, expectedBookingId, Boolean.TRUE));
-        verify(userRepository, times(1)).findUserById(anyLong());
+        verify(userRepository, times(1)).existsUserById(anyLong());
         verify(bookingRepository, times(1)).findBookingById(anyLong());
         verify(bookingRepository, never()).isBookingOverlapsOthers(any());
         verify(bookingRepository, never()).saveBooking(any());
@@ -312,12 +314,12 @@ class BookingServiceTest {
     @DisplayName("Get existing booking by item owner test")
     void getExistingBookingByItemOwnerTest() throws Exception {
         Long expectedBookerId = 99L;
-        when(userRepository.findUserById(anyLong())).thenReturn(user);
+        when(userRepository.existsUserById(anyLong())).thenReturn(true);
         when(bookingRepository.findBookingById(anyLong()))
                 .thenReturn(booking.withBooker(user.withId(expectedBookerId)).withItem(item.withOwner(user)));
         BookingResponseDto result = bookingService.getBooking(expectedUserId, expectedBookingId);
         assertThat(result).isEqualTo(bookingResponseDto.withBookerDto(userDto.withId(expectedBookerId)));
-        verify(userRepository, times(1)).findUserById(anyLong());
+        verify(userRepository, times(1)).existsUserById(anyLong());
         verify(bookingRepository, times(1)).findBookingById(anyLong());
     }
 
@@ -325,33 +327,33 @@ class BookingServiceTest {
     @DisplayName("Get existing booking by booker test")
     void getExistingBookingByBookerTest() throws Exception {
         Long expectedOwnerId = 99L;
-        when(userRepository.findUserById(anyLong())).thenReturn(user.withId(expectedOwnerId));
+        when(userRepository.existsUserById(anyLong())).thenReturn(true);
         when(bookingRepository.findBookingById(anyLong()))
                 .thenReturn(booking.withItem(item.withOwner(user.withId(expectedOwnerId))).withBooker(user));
         BookingResponseDto result = bookingService.getBooking(expectedOwnerId, expectedBookingId);
         assertThat(result).isEqualTo(bookingResponseDto);
-        verify(userRepository, times(1)).findUserById(anyLong());
+        verify(userRepository, times(1)).existsUserById(anyLong());
         verify(bookingRepository, times(1)).findBookingById(anyLong());
     }
 
     @Test
     @DisplayName("Get booking by not existing user test")
     void getBookingByNotExistingUserTest() throws Exception {
-        when(userRepository.findUserById(anyLong())).thenReturn(null);
+        when(userRepository.existsUserById(anyLong())).thenReturn(false);
         assertThatExceptionOfType(UserNotFoundException.class)
                 .isThrownBy(() -> bookingService.getBooking(expectedUserId, expectedBookingId));
-        verify(userRepository, times(1)).findUserById(anyLong());
+        verify(userRepository, times(1)).existsUserById(anyLong());
         verify(bookingRepository, never()).findBookingById(anyLong());
     }
 
     @Test
     @DisplayName("Get not existing booking test")
     void getNotExistingBookingTest() throws Exception {
-        when(userRepository.findUserById(anyLong())).thenReturn(user);
+        when(userRepository.existsUserById(anyLong())).thenReturn(true);
         when(bookingRepository.findBookingById(anyLong())).thenReturn(null);
         assertThatExceptionOfType(BookingNotFoundException.class)
                 .isThrownBy(() -> bookingService.getBooking(expectedUserId, expectedBookingId));
-        verify(userRepository, times(1)).findUserById(anyLong());
+        verify(userRepository, times(1)).existsUserById(anyLong());
         verify(bookingRepository, times(1)).findBookingById(anyLong());
     }
 
@@ -360,12 +362,12 @@ class BookingServiceTest {
     void getBookingByOtherUserTest() throws Exception {
         Long wrongUserId = 99L;
         Long bookerId = 100L;
-        when(userRepository.findUserById(anyLong())).thenReturn(user.withId(wrongUserId));
+        when(userRepository.existsUserById(anyLong())).thenReturn(true);
         when(bookingRepository.findBookingById(anyLong()))
                 .thenReturn(booking.withItem(item.withOwner(user)).withBooker(user.withId(bookerId)));
         assertThatExceptionOfType(BookingNotFoundException.class)
-                .isThrownBy(() -> bookingService.getBooking(expectedUserId, expectedBookingId));
-        verify(userRepository, times(1)).findUserById(anyLong());
+                .isThrownBy(() -> bookingService.getBooking(wrongUserId, expectedBookingId));
+        verify(userRepository, times(1)).existsUserById(anyLong());
         verify(bookingRepository, times(1)).findBookingById(anyLong());
     }
 
@@ -385,11 +387,11 @@ class BookingServiceTest {
                 .thenReturn(Lists.list(booking.withBooker(user).withItem(item)));
         when(bookingRepository.findAllBookingsOfUserWithStatus(expectedUserId, BookingStatus.REJECTED))
                 .thenReturn(Lists.list(booking.withBooker(user).withItem(item)));
-        when(userRepository.findUserById(anyLong())).thenReturn(user);
+        when(userRepository.existsUserById(anyLong())).thenReturn(true);
         Collection<BookingResponseDto> result = bookingService
                 .getAllBookingsOfUser(expectedUserId, state, null, null);
         assertThat(result).asList().isNotEmpty().contains(bookingResponseDto);
-        verify(userRepository, times(1)).findUserById(anyLong());
+        verify(userRepository, times(1)).existsUserById(anyLong());
         if (state.equals("ALL")) {
             verify(bookingRepository, times(1)).findAllBookingOfUser(anyLong());
         }
@@ -417,22 +419,22 @@ class BookingServiceTest {
         Integer from = 0;
         Integer size = 1;
         when(bookingRepository.findAllBookingOfUser(anyLong(), any()))
-                .thenReturn(new PageImpl<>(Lists.list(booking.withBooker(user).withItem(item))));
+                .thenReturn(new SliceImpl<>(Lists.list(booking.withBooker(user).withItem(item))));
         when(bookingRepository.findAllBookingsOfUserWithStatus(anyLong(), any(), any()))
-                .thenReturn(new PageImpl<>(Lists.list(booking.withBooker(user).withItem(item))));
+                .thenReturn(new SliceImpl<>(Lists.list(booking.withBooker(user).withItem(item))));
         when(bookingRepository.findAllFutureBookingsOfUser(anyLong(), any()))
-                .thenReturn(new PageImpl<>(Lists.list(booking.withBooker(user).withItem(item))));
+                .thenReturn(new SliceImpl<>(Lists.list(booking.withBooker(user).withItem(item))));
         when(bookingRepository.findAllCurrentBookingsOfUser(anyLong(), any()))
-                .thenReturn(new PageImpl<>(Lists.list(booking.withBooker(user).withItem(item))));
+                .thenReturn(new SliceImpl<>(Lists.list(booking.withBooker(user).withItem(item))));
         when(bookingRepository.findAllPastBookingsOfUser(anyLong(), any()))
-                .thenReturn(new PageImpl<>(Lists.list(booking.withBooker(user).withItem(item))));
+                .thenReturn(new SliceImpl<>(Lists.list(booking.withBooker(user).withItem(item))));
         when(bookingRepository.findAllBookingsOfUserWithStatus(anyLong(), any(), any()))
-                .thenReturn(new PageImpl<>(Lists.list(booking.withBooker(user).withItem(item))));
-        when(userRepository.findUserById(anyLong())).thenReturn(user);
+                .thenReturn(new SliceImpl<>(Lists.list(booking.withBooker(user).withItem(item))));
+        when(userRepository.existsUserById(anyLong())).thenReturn(true);
         Collection<BookingResponseDto> result = bookingService
                 .getAllBookingsOfUser(expectedUserId, state, from, size);
         assertThat(result).asList().isNotEmpty().contains(bookingResponseDto);
-        verify(userRepository, times(1)).findUserById(anyLong());
+        verify(userRepository, times(1)).existsUserById(anyLong());
         if (state.equals("ALL")) {
             verify(bookingRepository, times(1))
                     .findAllBookingOfUser(anyLong(), any());
@@ -462,10 +464,10 @@ class BookingServiceTest {
     @Test
     @DisplayName("Get all bookings of not existing user test")
     void getAllBookingsOfNotExistingUserTest() throws Exception {
-        when(userRepository.findUserById(anyLong())).thenReturn(null);
+        when(userRepository.existsUserById(anyLong())).thenReturn(false);
         assertThatExceptionOfType(UserNotFoundException.class)
                 .isThrownBy(() -> bookingService.getAllBookingsOfUser(expectedUserId, "", null, null));
-        verify(userRepository, times(1)).findUserById(anyLong());
+        verify(userRepository, times(1)).existsUserById(anyLong());
         verify(bookingRepository, never()).findAllBookingOfUser(anyLong());
         verify(bookingRepository, never()).findAllCurrentBookingsOfUser(anyLong());
         verify(bookingRepository, never()).findAllPastBookingsOfUser(anyLong());
@@ -479,10 +481,10 @@ class BookingServiceTest {
     void getAllBookingsOfUserWithWrongPageTest() throws Exception {
         Integer from = -1;
         Integer size = 0;
-        when(userRepository.findUserById(anyLong())).thenReturn(user);
+        when(userRepository.existsUserById(anyLong())).thenReturn(true);
         assertThatExceptionOfType(InvalidPaginationParamsException.class)
                 .isThrownBy(() -> bookingService.getAllBookingsOfUser(expectedUserId, "ALL", from, size));
-        verify(userRepository, times(1)).findUserById(anyLong());
+        verify(userRepository, times(1)).existsUserById(anyLong());
         verify(bookingRepository, never()).findAllBookingOfUser(anyLong(), any());
         verify(bookingRepository, never()).findAllCurrentBookingsOfUser(anyLong(), any());
         verify(bookingRepository, never()).findAllPastBookingsOfUser(anyLong(), any());
@@ -495,10 +497,10 @@ class BookingServiceTest {
     @DisplayName("Get all bookings of user with wrong state test")
     void getAllBookingsOfUserWithWrongStateTest() throws Exception {
         String wrongState = "XXX";
-        when(userRepository.findUserById(anyLong())).thenReturn(user);
+        when(userRepository.existsUserById(anyLong())).thenReturn(true);
         assertThatExceptionOfType(BookingStateException.class)
                 .isThrownBy(() -> bookingService.getAllBookingsOfUser(expectedUserId, wrongState, null, null));
-        verify(userRepository, times(1)).findUserById(anyLong());
+        verify(userRepository, times(1)).existsUserById(anyLong());
         verify(bookingRepository, never()).findAllBookingOfUser(anyLong(), any());
         verify(bookingRepository, never()).findAllCurrentBookingsOfUser(anyLong(), any());
         verify(bookingRepository, never()).findAllPastBookingsOfUser(anyLong(), any());
@@ -511,42 +513,41 @@ class BookingServiceTest {
     @DisplayName("Get all bookings of item owner without page test")
     @ValueSource(strings = {"ALL", "CURRENT", "PAST", "FUTURE", "WAITING", "REJECTED"})
     void getAllBookingsOfItemOwnerWithoutPageTest(String state) throws Exception {
-        when(bookingRepository.findAllBookingOfItems(any()))
+        when(bookingRepository.findAllBookingOfOwner(any()))
                 .thenReturn(Lists.list(booking.withBooker(user).withItem(item)));
-        when(bookingRepository.findAllBookingsOfItemsWithStatus(any(), any()))
+        when(bookingRepository.findAllBookingsOfOwnerWithStatus(any(), any()))
                 .thenReturn(Lists.list(booking.withBooker(user).withItem(item)));
-        when(bookingRepository.findAllFutureBookingsOfItems(any()))
+        when(bookingRepository.findAllFutureBookingsOfOwner(any()))
                 .thenReturn(Lists.list(booking.withBooker(user).withItem(item)));
-        when(bookingRepository.findAllCurrentBookingsOfItems(any()))
+        when(bookingRepository.findAllCurrentBookingsOfOwner(any()))
                 .thenReturn(Lists.list(booking.withBooker(user).withItem(item)));
-        when(bookingRepository.findAllPastBookingsOfItems(any()))
+        when(bookingRepository.findAllPastBookingsOfOwner(any()))
                 .thenReturn(Lists.list(booking.withBooker(user).withItem(item)));
-        when(bookingRepository.findAllBookingsOfItemsWithStatus(any(), any()))
+        when(bookingRepository.findAllBookingsOfOwnerWithStatus(any(), any()))
                 .thenReturn(Lists.list(booking.withBooker(user).withItem(item)));
-        when(userRepository.findUserById(anyLong())).thenReturn(user);
-        when(itemRepository.findAllItems(anyLong())).thenReturn(List.of(item));
+        when(userRepository.existsUserById(anyLong())).thenReturn(true);
         Collection<BookingResponseDto> result = bookingService
                 .getAllBookingsForOwnerItems(expectedUserId, state, null, null);
         assertThat(result).asList().isNotEmpty().contains(bookingResponseDto);
-        verify(itemRepository, times(1)).findAllItems(anyLong());
-        verify(userRepository, times(1)).findUserById(anyLong());
+        verify(itemRepository, never()).findAllItems(anyLong());
+        verify(userRepository, times(1)).existsUserById(anyLong());
         if (state.equals("ALL")) {
-            verify(bookingRepository, times(1)).findAllBookingOfItems(any());
+            verify(bookingRepository, times(1)).findAllBookingOfOwner(any());
         }
         if (state.equals("CURRENT")) {
-            verify(bookingRepository, times(1)).findAllCurrentBookingsOfItems(any());
+            verify(bookingRepository, times(1)).findAllCurrentBookingsOfOwner(any());
         }
         if (state.equals("PAST")) {
-            verify(bookingRepository, times(1)).findAllPastBookingsOfItems(any());
+            verify(bookingRepository, times(1)).findAllPastBookingsOfOwner(any());
         }
         if (state.equals("FUTURE")) {
-            verify(bookingRepository, times(1)).findAllFutureBookingsOfItems(any());
+            verify(bookingRepository, times(1)).findAllFutureBookingsOfOwner(any());
         }
         if (state.equals("WAITING")) {
-            verify(bookingRepository, times(1)).findAllBookingsOfItemsWithStatus(any(), any());
+            verify(bookingRepository, times(1)).findAllBookingsOfOwnerWithStatus(any(), any());
         }
         if (state.equals("REJECTED")) {
-            verify(bookingRepository, times(1)).findAllBookingsOfItemsWithStatus(any(), any());
+            verify(bookingRepository, times(1)).findAllBookingsOfOwnerWithStatus(any(), any());
         }
     }
 
@@ -556,65 +557,64 @@ class BookingServiceTest {
     void getAllBookingsOfItemOwnerWithPageTest(String state) throws Exception {
         Integer from = 0;
         Integer size = 1;
-        when(bookingRepository.findAllBookingOfItems(any(), any()))
-                .thenReturn(new PageImpl<>(Lists.list(booking.withBooker(user).withItem(item))));
-        when(bookingRepository.findAllBookingsOfItemsWithStatus(any(), any(), any()))
-                .thenReturn(new PageImpl<>(Lists.list(booking.withBooker(user).withItem(item))));
-        when(bookingRepository.findAllFutureBookingsOfItems(any(), any()))
-                .thenReturn(new PageImpl<>(Lists.list(booking.withBooker(user).withItem(item))));
-        when(bookingRepository.findAllCurrentBookingsOfItems(any(), any()))
-                .thenReturn(new PageImpl<>(Lists.list(booking.withBooker(user).withItem(item))));
-        when(bookingRepository.findAllPastBookingsOfItems(any(), any()))
-                .thenReturn(new PageImpl<>(Lists.list(booking.withBooker(user).withItem(item))));
-        when(bookingRepository.findAllBookingsOfItemsWithStatus(any(), any(), any()))
-                .thenReturn(new PageImpl<>(Lists.list(booking.withBooker(user).withItem(item))));
-        when(userRepository.findUserById(anyLong())).thenReturn(user);
-        when(itemRepository.findAllItems(anyLong())).thenReturn(List.of(item));
+        when(bookingRepository.findAllBookingOfOwner(any(), any()))
+                .thenReturn(new SliceImpl<>(Lists.list(booking.withBooker(user).withItem(item))));
+        when(bookingRepository.findAllBookingsOfOwnerWithStatus(any(), any(), any()))
+                .thenReturn(new SliceImpl<>(Lists.list(booking.withBooker(user).withItem(item))));
+        when(bookingRepository.findAllFutureBookingsOfOwner(any(), any()))
+                .thenReturn(new SliceImpl<>(Lists.list(booking.withBooker(user).withItem(item))));
+        when(bookingRepository.findAllCurrentBookingsOfOwner(any(), any()))
+                .thenReturn(new SliceImpl<>(Lists.list(booking.withBooker(user).withItem(item))));
+        when(bookingRepository.findAllPastBookingsOfOwner(any(), any()))
+                .thenReturn(new SliceImpl<>(Lists.list(booking.withBooker(user).withItem(item))));
+        when(bookingRepository.findAllBookingsOfOwnerWithStatus(any(), any(), any()))
+                .thenReturn(new SliceImpl<>(Lists.list(booking.withBooker(user).withItem(item))));
+        when(userRepository.existsUserById(anyLong())).thenReturn(true);
         Collection<BookingResponseDto> result = bookingService
                 .getAllBookingsForOwnerItems(expectedUserId, state, from, size);
         assertThat(result).asList().isNotEmpty().contains(bookingResponseDto);
-        verify(userRepository, times(1)).findUserById(anyLong());
-        verify(itemRepository, times(1)).findAllItems(anyLong());
+        verify(userRepository, times(1)).existsUserById(anyLong());
+        verify(itemRepository, never()).findAllItems(anyLong());
         if (state.equals("ALL")) {
             verify(bookingRepository, times(1))
-                    .findAllBookingOfItems(any(), any());
+                    .findAllBookingOfOwner(any(), any());
         }
         if (state.equals("CURRENT")) {
             verify(bookingRepository, times(1))
-                    .findAllCurrentBookingsOfItems(any(), any());
+                    .findAllCurrentBookingsOfOwner(any(), any());
         }
         if (state.equals("PAST")) {
             verify(bookingRepository, times(1))
-                    .findAllPastBookingsOfItems(any(), any());
+                    .findAllPastBookingsOfOwner(any(), any());
         }
         if (state.equals("FUTURE")) {
             verify(bookingRepository, times(1))
-                    .findAllFutureBookingsOfItems(any(), any());
+                    .findAllFutureBookingsOfOwner(any(), any());
         }
         if (state.equals("WAITING")) {
             verify(bookingRepository, times(1))
-                    .findAllBookingsOfItemsWithStatus(any(), any(), any());
+                    .findAllBookingsOfOwnerWithStatus(any(), any(), any());
         }
         if (state.equals("REJECTED")) {
             verify(bookingRepository, times(1))
-                    .findAllBookingsOfItemsWithStatus(any(), any(), any());
+                    .findAllBookingsOfOwnerWithStatus(any(), any(), any());
         }
     }
 
     @Test
     @DisplayName("Get all bookings of not existing item owner test")
     void getAllBookingsOfNotExistingItemOwnerTest() throws Exception {
-        when(userRepository.findUserById(anyLong())).thenReturn(null);
+        when(userRepository.existsUserById(anyLong())).thenReturn(false);
         assertThatExceptionOfType(UserNotFoundException.class)
                 .isThrownBy(() -> bookingService.getAllBookingsForOwnerItems(expectedUserId, "", null, null));
-        verify(userRepository, times(1)).findUserById(anyLong());
+        verify(userRepository, times(1)).existsUserById(anyLong());
         verify(itemRepository, never()).findAllItems(anyLong());
-        verify(bookingRepository, never()).findAllBookingOfItems(any());
-        verify(bookingRepository, never()).findAllCurrentBookingsOfItems(any());
-        verify(bookingRepository, never()).findAllPastBookingsOfItems(any());
-        verify(bookingRepository, never()).findAllFutureBookingsOfItems(any());
-        verify(bookingRepository, never()).findAllBookingsOfItemsWithStatus(any(), any());
-        verify(bookingRepository, never()).findAllBookingsOfItemsWithStatus(any(), any());
+        verify(bookingRepository, never()).findAllBookingOfOwner(any());
+        verify(bookingRepository, never()).findAllCurrentBookingsOfOwner(any());
+        verify(bookingRepository, never()).findAllPastBookingsOfOwner(any());
+        verify(bookingRepository, never()).findAllFutureBookingsOfOwner(any());
+        verify(bookingRepository, never()).findAllBookingsOfOwnerWithStatus(any(), any());
+        verify(bookingRepository, never()).findAllBookingsOfOwnerWithStatus(any(), any());
     }
 
     @Test
@@ -622,35 +622,33 @@ class BookingServiceTest {
     void getAllBookingsOfItemOwnerWithWrongPageTest() throws Exception {
         Integer from = -1;
         Integer size = 0;
-        when(userRepository.findUserById(anyLong())).thenReturn(user);
-        when(itemRepository.findAllItems(anyLong())).thenReturn(List.of(item));
+        when(userRepository.existsUserById(anyLong())).thenReturn(true);
         assertThatExceptionOfType(InvalidPaginationParamsException.class)
                 .isThrownBy(() -> bookingService.getAllBookingsForOwnerItems(expectedUserId, "ALL", from, size));
-        verify(userRepository, times(1)).findUserById(anyLong());
-        verify(itemRepository, times(1)).findAllItems(anyLong());
-        verify(bookingRepository, never()).findAllBookingOfItems(any(), any());
-        verify(bookingRepository, never()).findAllCurrentBookingsOfItems(any(), any());
-        verify(bookingRepository, never()).findAllPastBookingsOfItems(any(), any());
-        verify(bookingRepository, never()).findAllFutureBookingsOfItems(any(), any());
-        verify(bookingRepository, never()).findAllBookingsOfItemsWithStatus(any(), any(), any());
-        verify(bookingRepository, never()).findAllBookingsOfItemsWithStatus(any(), any(), any());
+        verify(userRepository, times(1)).existsUserById(anyLong());
+        verify(itemRepository, never()).findAllItems(anyLong());
+        verify(bookingRepository, never()).findAllBookingOfOwner(any(), any());
+        verify(bookingRepository, never()).findAllCurrentBookingsOfOwner(any(), any());
+        verify(bookingRepository, never()).findAllPastBookingsOfOwner(any(), any());
+        verify(bookingRepository, never()).findAllFutureBookingsOfOwner(any(), any());
+        verify(bookingRepository, never()).findAllBookingsOfOwnerWithStatus(any(), any(), any());
+        verify(bookingRepository, never()).findAllBookingsOfOwnerWithStatus(any(), any(), any());
     }
 
     @Test
     @DisplayName("Get all bookings of item owner with wrong page test")
     void getAllBookingsOfItemWithWrongStateStringTest() throws Exception {
         String wrongState = "XXX";
-        when(userRepository.findUserById(anyLong())).thenReturn(user);
-        when(itemRepository.findAllItems(anyLong())).thenReturn(List.of(item));
+        when(userRepository.existsUserById(anyLong())).thenReturn(true);
         assertThatExceptionOfType(BookingStateException.class)
                 .isThrownBy(() -> bookingService.getAllBookingsForOwnerItems(expectedUserId, wrongState, null, null));
-        verify(userRepository, times(1)).findUserById(anyLong());
-        verify(itemRepository, times(1)).findAllItems(anyLong());
-        verify(bookingRepository, never()).findAllBookingOfItems(any(), any());
-        verify(bookingRepository, never()).findAllCurrentBookingsOfItems(any(), any());
-        verify(bookingRepository, never()).findAllPastBookingsOfItems(any(), any());
-        verify(bookingRepository, never()).findAllFutureBookingsOfItems(any(), any());
-        verify(bookingRepository, never()).findAllBookingsOfItemsWithStatus(any(), any(), any());
-        verify(bookingRepository, never()).findAllBookingsOfItemsWithStatus(any(), any(), any());
+        verify(userRepository, times(1)).existsUserById(anyLong());
+        verify(itemRepository, never()).findAllItems(anyLong());
+        verify(bookingRepository, never()).findAllBookingOfOwner(any(), any());
+        verify(bookingRepository, never()).findAllCurrentBookingsOfOwner(any(), any());
+        verify(bookingRepository, never()).findAllPastBookingsOfOwner(any(), any());
+        verify(bookingRepository, never()).findAllFutureBookingsOfOwner(any(), any());
+        verify(bookingRepository, never()).findAllBookingsOfOwnerWithStatus(any(), any(), any());
+        verify(bookingRepository, never()).findAllBookingsOfOwnerWithStatus(any(), any(), any());
     }
 }
@@ -7,7 +7,7 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
-import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.SliceImpl;
 import ru.practicum.shareit.config.PageBuilder;
 import ru.practicum.shareit.item.dto.mapper.ItemToSimpleDtoMapper;
 import ru.practicum.shareit.request.ItemRequest;
@@ -109,33 +109,33 @@ class ItemRequestServiceTest {
     @DisplayName("Get item request by existing user test")
     void getItemRequestByExistingUserTest() throws Exception {
         LocalDateTime created = LocalDateTime.now();
-        when(userRepository.findUserById(anyLong())).thenReturn(user);
+        when(userRepository.existsUserById(anyLong())).thenReturn(true);
         when(itemRequestRepository.getItemRequest(anyLong()))
                 .thenReturn(itemRequest.withRequestor(user).withCreated(created));
         ItemRequestDto result = itemRequestService.getItemRequest(expectedUserId, expectedItemRequestId);
         assertThat(result).isEqualTo(itemRequestDto.withCreated(created));
-        verify(userRepository, times(1)).findUserById(anyLong());
+        verify(userRepository, times(1)).existsUserById(anyLong());
         verify(itemRequestRepository, times(1)).getItemRequest(anyLong());
     }
 
     @Test
     @DisplayName("Get item request by not existing user test")
     void getItemRequestByNotExistingUserTest() throws Exception {
-        when(userRepository.findUserById(anyLong())).thenReturn(null);
+        when(userRepository.existsUserById(anyLong())).thenReturn(false);
         assertThatExceptionOfType(UserNotFoundException.class)
                 .isThrownBy(() -> itemRequestService.getItemRequest(expectedUserId, expectedItemRequestId));
-        verify(userRepository, times(1)).findUserById(anyLong());
+        verify(userRepository, times(1)).existsUserById(anyLong());
         verify(itemRequestRepository, never()).getItemRequest(anyLong());
     }
 
     @Test
     @DisplayName("Get not existing item request test")
     void getNotExistingItemRequestTest() throws Exception {
-        when(userRepository.findUserById(anyLong())).thenReturn(user);
+        when(userRepository.existsUserById(anyLong())).thenReturn(true);
         when(itemRequestRepository.getItemRequest(anyLong())).thenReturn(null);
         assertThatExceptionOfType(ItemRequestNotFoundException.class)
                 .isThrownBy(() -> itemRequestService.getItemRequest(expectedUserId, expectedItemRequestId));
-        verify(userRepository, times(1)).findUserById(anyLong());
+        verify(userRepository, times(1)).existsUserById(anyLong());
         verify(itemRequestRepository, times(1)).getItemRequest(anyLong());
     }
 
@@ -193,7 +193,7 @@ class ItemRequestServiceTest {
         LocalDateTime created = LocalDateTime.now();
         when(userRepository.findUserById(anyLong())).thenReturn(user);
         when(itemRequestRepository.getAllItemRequests(any(), any()))
-                .thenReturn(new PageImpl<>(Lists.list(itemRequest.withRequestor(user).withCreated(created))));
+                .thenReturn(new SliceImpl<>(Lists.list(itemRequest.withRequestor(user).withCreated(created))));
         Collection<ItemRequestDto> result = itemRequestService.getAllItemRequests(expectedUserId, from, size);
         assertThat(result).asList().isNotEmpty().contains(itemRequestDto.withCreated(created));
         verify(userRepository, times(1)).findUserById(anyLong());
@@ -8,7 +8,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.core.convert.converter.Converter;
-import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.SliceImpl;
 import ru.practicum.shareit.booking.Booking;
 import ru.practicum.shareit.booking.BookingStatus;
 import ru.practicum.shareit.booking.dto.BookingLinkedDto;
@@ -22,6 +22,7 @@ import ru.practicum.shareit.item.exceptions.ItemNotFoundException;
 import ru.practicum.shareit.item.exceptions.WrongItemOwnerException;
 import ru.practicum.shareit.item.model.Comment;
 import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.model.ItemBookingSummary;
 import ru.practicum.shareit.item.repository.DatabaseItemRepositoryImpl;
 import ru.practicum.shareit.item.repository.ItemRepository;
 import ru.practicum.shareit.item.service.ItemService;
@@ -33,12 +34,16 @@ import ru.practicum.shareit.user.repository.DatabaseUserRepositoryImpl;
 import ru.practicum.shareit.user.repository.UserRepository;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.List;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThatExceptionOfType;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
 import static org.mockito.Mockito.*;
 
 @SpringBootTest(
@@ -122,6 +127,8 @@ class ItemServiceTest {
             .withStart(LocalDateTime.of(2043, 1, 1, 2, 0, 0))
             .withEnd(LocalDateTime.of(2043, 1, 1, 3, 0, 0));
 
+    private final ItemBookingSummary bookingSummary = new ItemBookingSummary(expectedItemId, nextBooking, lastBooking);
+
     private final Comment comment = new Comment(
             expectedCommentId,
             "test_text",
@@ -174,8 +181,7 @@ class ItemServiceTest {
         verify(itemRepository, times(1)).findItemById(anyLong());
         verify(userRepository, never()).findUserById(anyLong());
         verify(itemRepository, never()).findAllItemComments(anyLong());
-        verify(itemRepository, never()).getLastBookingByItemId(anyLong());
-        verify(itemRepository, never()).getNextBookingByItemId(anyLong());
+        verify(itemRepository, never()).getBookingSummaryByItemId(anyLong());
     }
 
     @Test
@@ -187,31 +193,28 @@ class ItemServiceTest {
         verify(itemRepository, times(1)).findItemById(anyLong());
         verify(userRepository, never()).findUserById(anyLong());
         verify(itemRepository, never()).findAllItemComments(anyLong());
-        verify(itemRepository, never()).getLastBookingByItemId(anyLong());
-        verify(itemRepository, never()).getNextBookingByItemId(anyLong());
+        verify(itemRepository, never()).getBookingSummaryByItemId(anyLong());
     }
 
     @Test
     @DisplayName("Get existing item by wrong user test")
     void getExistingItemByWrongUserTest() throws Exception {
-        when(userRepository.findUserById(anyLong())).thenReturn(null);
+        when(userRepository.existsUserById(anyLong())).thenReturn(false);
         when(itemRepository.findItemById(anyLong())).thenReturn(item);
         assertThatExceptionOfType(UserNotFoundException.class)
                 .isThrownBy(() -> itemService.getItem(expectedUserId, expectedItemId));
         verify(itemRepository, times(1)).findItemById(anyLong());
-        verify(userRepository, times(1)).findUserById(anyLong());
+        verify(userRepository, times(1)).existsUserById(anyLong());
         verify(itemRepository, never()).findAllItemComments(anyLong());
-        verify(itemRepository, never()).getLastBookingByItemId(anyLong());
-        verify(itemRepository, never()).getNextBookingByItemId(anyLong());
+        verify(itemRepository, never()).getBookingSummaryByItemId(anyLong());
     }
 
     @Test
     @DisplayName("Get existing item by owner test")
     void getExistingItemByOwnerTest() throws Exception {
         when(itemRepository.findItemById(anyLong())).thenReturn(item.withOwner(user));
-        when(userRepository.findUserById(anyLong())).thenReturn(user);
-        when(itemRepository.getLastBookingByItemId(anyLong())).thenReturn(lastBooking);
-        when(itemRepository.getNextBookingByItemId(anyLong())).thenReturn(nextBooking);
+        when(userRepository.existsUserById(anyLong())).thenReturn(true);
+        when(itemRepository.getBookingSummaryByItemId(anyLong())).thenReturn(bookingSummary);
         when(itemRepository.findAllItemComments(anyLong())).thenReturn(Collections.emptyList());
         when(itemRepository.isUserCommentatorOfItem(anyLong(), anyLong())).thenReturn(Boolean.FALSE);
         ItemDto result = itemService.getItem(expectedUserId, expectedItemId);
@@ -224,17 +227,16 @@ class ItemServiceTest {
         assertThat(result.getNextBooking()).isEqualTo(bookingLinkedMapper.convert(nextBooking));
         assertThat(result.getComments()).asList().isEmpty();
         verify(itemRepository, times(1)).findItemById(anyLong());
-        verify(userRepository, times(1)).findUserById(anyLong());
+        verify(userRepository, times(1)).existsUserById(anyLong());
         verify(itemRepository, times(1)).findAllItemComments(anyLong());
-        verify(itemRepository, times(1)).getLastBookingByItemId(anyLong());
-        verify(itemRepository, times(1)).getNextBookingByItemId(anyLong());
+        verify(itemRepository, times(1)).getBookingSummaryByItemId(anyLong());
     }
 
     @Test
     @DisplayName("Get existing item by commentator test")
     void getExistingItemByCommentatorTest() throws Exception {
         when(itemRepository.findItemById(anyLong())).thenReturn(item);
-        when(userRepository.findUserById(anyLong())).thenReturn(user);
+        when(userRepository.existsUserById(anyLong())).thenReturn(true);
         when(itemRepository.findAllItemComments(anyLong())).thenReturn(Lists.list(comment));
         when(itemRepository.isUserCommentatorOfItem(anyLong(), anyLong())).thenReturn(Boolean.TRUE);
         ItemDto result = itemService.getItem(expectedUserId, expectedItemId);
@@ -248,10 +250,9 @@ class ItemServiceTest {
         assertThat(result.getComments()).asList().isNotEmpty()
                 .contains(commentMapper.convert(comment));
         verify(itemRepository, times(1)).findItemById(anyLong());
-        verify(userRepository, times(1)).findUserById(anyLong());
+        verify(userRepository, times(1)).existsUserById(anyLong());
         verify(itemRepository, times(1)).findAllItemComments(anyLong());
-        verify(itemRepository, never()).getLastBookingByItemId(anyLong());
-        verify(itemRepository, never()).getNextBookingByItemId(anyLong());
+        verify(itemRepository, never()).getBookingSummaryByItemId(anyLong());
     }
 
     @Test
@@ -268,9 +269,8 @@ class ItemServiceTest {
                         .withDescription(updatedDescription)
                         .withName(updatedName)
                         .withAvailable(updatedStatus));
-        when(userRepository.findUserById(anyLong())).thenReturn(user);
-        when(itemRepository.getLastBookingByItemId(anyLong())).thenReturn(lastBooking);
-        when(itemRepository.getNextBookingByItemId(anyLong())).thenReturn(nextBooking);
+        when(userRepository.existsUserById(anyLong())).thenReturn(true);
+        when(itemRepository.getBookingSummaryByItemId(anyLong())).thenReturn(bookingSummary);
         when(itemRepository.findAllItemComments(anyLong())).thenReturn(Lists.list(comment));
         when(itemRepository.isUserCommentatorOfItem(anyLong(), anyLong())).thenReturn(Boolean.FALSE);
         ItemDto result = itemService.updateItem(expectedUserId, expectedItemId,
@@ -284,62 +284,57 @@ class ItemServiceTest {
         assertThat(result.getNextBooking()).isEqualTo(bookingLinkedMapper.convert(nextBooking));
         assertThat(result.getComments()).asList().isNotEmpty().contains(commentMapper.convert(comment));
         verify(itemRepository, times(1)).findItemById(anyLong());
-        verify(userRepository, times(1)).findUserById(anyLong());
+        verify(userRepository, times(1)).existsUserById(anyLong());
         verify(itemRepository, times(1)).findAllItemComments(anyLong());
-        verify(itemRepository, times(1)).getLastBookingByItemId(anyLong());
-        verify(itemRepository, times(1)).getNextBookingByItemId(anyLong());
+        verify(itemRepository, times(1)).getBookingSummaryByItemId(anyLong());
     }
 
     @Test
     @DisplayName("Update existing item by not existing test")
     void updateExistingItemByNotExistingUserTest() throws Exception {
-        when(userRepository.findUserById(anyLong())).thenReturn(null);
+        when(userRepository.existsUserById(anyLong())).thenReturn(false);
         assertThatExceptionOfType(UserNotFoundException.class)
                 .isThrownBy(() -> itemService.updateItem(expectedUserId, expectedItemId, itemDto));
         verify(itemRepository, never()).findItemById(anyLong());
-        verify(userRepository, times(1)).findUserById(anyLong());
+        verify(userRepository, times(1)).existsUserById(anyLong());
         verify(itemRepository, never()).findAllItemComments(anyLong());
-        verify(itemRepository, never()).getLastBookingByItemId(anyLong());
-        verify(itemRepository, never()).getNextBookingByItemId(anyLong());
+        verify(itemRepository, never()).getBookingSummaryByItemId(anyLong());
     }
 
     @Test
     @DisplayName("Update not existing item test")
     void updateNotExistingItemTest() throws Exception {
-        when(userRepository.findUserById(anyLong())).thenReturn(user);
+        when(userRepository.existsUserById(anyLong())).thenReturn(true);
         when(itemRepository.findItemById(anyLong())).thenReturn(null);
         assertThatExceptionOfType(ItemNotFoundException.class)
                 .isThrownBy(() -> itemService.updateItem(expectedUserId, expectedItemId, itemDto));
         verify(itemRepository, times(1)).findItemById(anyLong());
-        verify(userRepository, times(1)).findUserById(anyLong());
+        verify(userRepository, times(1)).existsUserById(anyLong());
         verify(itemRepository, never()).findAllItemComments(anyLong());
-        verify(itemRepository, never()).getLastBookingByItemId(anyLong());
-        verify(itemRepository, never()).getNextBookingByItemId(anyLong());
+        verify(itemRepository, never()).getBookingSummaryByItemId(anyLong());
     }
 
     @Test
     @DisplayName("Update existing item by wrong owner test")
     void updateExistingItemByWrongOwnerTest() throws Exception {
         Long wrongOwnerId = 99L;
-        when(userRepository.findUserById(anyLong())).thenReturn(user.withId(wrongOwnerId));
+        when(userRepository.existsUserById(anyLong())).thenReturn(true);
         when(itemRepository.findItemById(anyLong())).thenReturn(item.withOwner(user));
         assertThatExceptionOfType(WrongItemOwnerException.class)
                 .isThrownBy(() -> itemService.updateItem(wrongOwnerId, expectedItemId, itemDto));
         verify(itemRepository, times(1)).findItemById(anyLong());
-        verify(userRepository, times(1)).findUserById(anyLong());
+        verify(userRepository, times(1)).existsUserById(anyLong());
         verify(itemRepository, never()).findAllItemComments(anyLong());
-        verify(itemRepository, never()).getLastBookingByItemId(anyLong());
-        verify(itemRepository, never()).getNextBookingByItemId(anyLong());
+        verify(itemRepository, never()).getBookingSummaryByItemId(anyLong());
     }
 
     @Test
     @DisplayName("Delete existing item by owner test")
     void deleteExistingItemByOwnerTest() throws Exception {
-        when(itemRepository.findItemById(anyLong())).thenReturn(item.withOwner(user));
+        when(itemRepository.findItemOwnerId(anyLong())).thenReturn(expectedUserId);
         when(itemRepository.deleteItem(any())).thenReturn(item.withOwner(user));
-        when(userRepository.findUserById(anyLong())).thenReturn(user);
-        when(itemRepository.getLastBookingByItemId(anyLong())).thenReturn(lastBooking);
-        when(itemRepository.getNextBookingByItemId(anyLong())).thenReturn(nextBooking);
+        when(userRepository.existsUserById(anyLong())).thenReturn(true);
+        when(itemRepository.getBookingSummaryByItemId(anyLong())).thenReturn(bookingSummary);
         when(itemRepository.findAllItemComments(anyLong())).thenReturn(Lists.list(comment));
         when(itemRepository.isUserCommentatorOfItem(anyLong(), anyLong())).thenReturn(Boolean.FALSE);
         ItemDto result = itemService.deleteItem(expectedUserId, expectedItemId);
@@ -351,53 +346,74 @@ class ItemServiceTest {
         assertThat(result.getLastBooking()).isEqualTo(bookingLinkedMapper.convert(lastBooking));
         assertThat(result.getNextBooking()).isEqualTo(bookingLinkedMapper.convert(nextBooking));
         assertThat(result.getComments()).asList().isNotEmpty().contains(commentMapper.convert(comment));
-        verify(itemRepository, times(1)).findItemById(anyLong());
-        verify(userRepository, times(1)).findUserById(anyLong());
+        verify(itemRepository, times(1)).findItemOwnerId(anyLong());
+        verify(itemRepository, never()).findItemById(anyLong());
+        verify(userRepository, times(1)).existsUserById(anyLong());
         verify(itemRepository, times(1)).findAllItemComments(anyLong());
-        verify(itemRepository, times(1)).getLastBookingByItemId(anyLong());
-        verify(itemRepository, times(1)).getNextBookingByItemId(anyLong());
+        verify(itemRepository, times(1)).getBookingSummaryByItemId(anyLong());
     }
 
     @Test
     @DisplayName("Delete existing item by not existing test")
     void deleteExistingItemByNotExistingUserTest() throws Exception {
-        when(userRepository.findUserById(anyLong())).thenReturn(null);
+        when(userRepository.existsUserById(anyLong())).thenReturn(false);
         assertThatExceptionOfType(UserNotFoundException.class)
                 .isThrownBy(() -> itemService.deleteItem(expectedUserId, expectedItemId));
         verify(itemRepository, never()).findItemById(anyLong());
-        verify(userRepository, times(1)).findUserById(anyLong());
+        verify(userRepository, times(1)).existsUserById(anyLong());
         verify(itemRepository, never()).findAllItemComments(anyLong());
-        verify(itemRepository, never()).getLastBookingByItemId(anyLong());
-        verify(itemRepository, never()).getNextBookingByItemId(anyLong());
+        verify(itemRepository, never()).getBookingSummaryByItemId(anyLong());
     }
 
     @Test
     @DisplayName("Delete not existing item test")
     void deleteNotExistingItemTest() throws Exception {
-        when(userRepository.findUserById(anyLong())).thenReturn(user);
-        when(itemRepository.findItemById(anyLong())).thenReturn(null);
+        when(userRepository.existsUserById(anyLong())).thenReturn(true);
+        when(itemRepository.findItemOwnerId(anyLong())).thenReturn(null);
         assertThatExceptionOfType(ItemNotFoundException.class)
                 .isThrownBy(() -> itemService.deleteItem(expectedUserId, expectedItemId));
-        verify(itemRepository, times(1)).findItemById(anyLong());
-        verify(userRepository, times(1)).findUserById(anyLong());
+        verify(itemRepository, times(1)).findItemOwnerId(anyLong());
+        verify(userRepository, times(1)).existsUserById(anyLong());
         verify(itemRepository, never()).findAllItemComments(anyLong());
-        verify(itemRepository, never()).getLastBookingByItemId(anyLong());
-        verify(itemRepository, never()).getNextBookingByItemId(anyLong());
+        verify(itemRepository, never()).getBookingSummaryByItemId(anyLong());
     }
 
     @Test
     @DisplayName("Delete existing item by wrong owner test")
     void deleteExistingItemByWrongOwnerTest() throws Exception {
         Long wrongOwnerId = 99L;
-        when(userRepository.findUserById(anyLong())).thenReturn(user.withId(wrongOwnerId));
-        when(itemRepository.findItemById(anyLong())).thenReturn(item.withOwner(user));
+        when(userRepository.existsUserById(anyLong())).thenReturn(true);
+        when(itemRepository.findItemOwnerId(anyLong())).thenReturn(expectedUserId);
         assertThatExceptionOfType(WrongItemOwnerException.class)
                 .isThrownBy(() -> itemService.deleteItem(wrongOwnerId, expectedItemId));
-        verify(itemRepository, times(1)).findItemById(anyLong());
-        verify(userRepository, times(1)).findUserById(anyLong());
+        verify(itemRepository, times(1)).findItemOwnerId(anyLong());
+        verify(userRepository, times(1)).existsUserById(anyLong());
         verify(itemRepository, never()).findAllItemComments(anyLong());
-        verify(itemRepository, never()).getLastBookingByItemId(anyLong());
-        verify(itemRepository, never()).getNextBookingByItemId(anyLong());
+        verify(itemRepository, never()).getBookingSummaryByItemId(anyLong());
+    }
+
+    @Test
+    @DisplayName("For each item of owner test")
+    void forEachItemOfOwnerTest() throws Exception {
+        when(itemRepository.streamAllItems(anyLong()))
+                .thenReturn(Stream.of(item
+                        .withOwner(user)
+                        .withAvailable(Boolean.TRUE)));
+        when(itemRepository.getBookingSummariesByItemIds(anyCollection())).thenReturn(Lists.list(bookingSummary));
+        when(itemRepository.findAllItemsComments(anyCollection())).thenReturn(Lists.list(comment));
+        List<ItemDto> result = new ArrayList<>();
+        itemService.forEachItem(expectedUserId, result::add);
+        assertThat(result).asList().containsExactly(
+                itemDto
+                        .withComments(Lists.list(commentMapper.convert(comment.withId(expectedCommentId))))
+                        .withNextBooking(bookingLinkedMapper.convert(nextBooking))
+                        .withLastBooking(bookingLinkedMapper.convert(lastBooking))
+                        .withAvailable(Boolean.TRUE)
+        );
+        verify(itemRepository, times(1)).streamAllItems(anyLong());
+        verify(itemRepository, never()).findAllItems(anyLong());
+        verify(itemRepository, times(1)).findAllItemsComments(anyCollection());
+        verify(itemRepository, times(1)).getBookingSummariesByItemIds(anyCollection());
     }
 
     @Test
@@ -407,10 +423,8 @@ class ItemServiceTest {
                 .thenReturn(Lists.list(item
                         .withOwner(user)
                         .withAvailable(Boolean.TRUE)));
-        when(itemRepository.getLastBookingByItemId(anyLong())).thenReturn(lastBooking);
-        when(itemRepository.getNextBookingByItemId(anyLong())).thenReturn(nextBooking);
-        when(itemRepository.findAllItemComments(anyLong())).thenReturn(Lists.list(comment));
-        when(itemRepository.isUserCommentatorOfItem(anyLong(), anyLong())).thenReturn(Boolean.FALSE);
+        when(itemRepository.getBookingSummariesByItemIds(anyCollection())).thenReturn(Lists.list(bookingSummary));
+        when(itemRepository.findAllItemsComments(anyCollection())).thenReturn(Lists.list(comment));
         Collection<ItemDto> result = itemService.getAllItems(expectedUserId, null, null);
         assertThat(result).asList().isNotEmpty().contains(
                 itemDto
@@ -422,9 +436,10 @@ class ItemServiceTest {
         verify(itemRepository, never()).findItemById(anyLong());
         verify(userRepository, never()).findUserById(anyLong());
         verify(itemRepository, times(1)).findAllItems(anyLong());
-        verify(itemRepository, times(1)).findAllItemComments(anyLong());
-        verify(itemRepository, times(1)).getLastBookingByItemId(anyLong());
-        verify(itemRepository, times(1)).getNextBookingByItemId(anyLong());
+        verify(itemRepository, times(1)).findAllItemsComments(anyCollection());
+        verify(itemRepository, times(1)).getBookingSummariesByItemIds(anyCollection());
+        verify(itemRepository, never()).findAllItemComments(anyLong());
+        verify(itemRepository, never()).getBookingSummaryByItemId(anyLong());
     }
 
     @Test
@@ -433,13 +448,11 @@ class ItemServiceTest {
         Integer from = 0;
         Integer size = 1;
         when(itemRepository.findAllItems(anyLong(), any()))
-                .thenReturn(new PageImpl<>(Lists.list(item
+                .thenReturn(new SliceImpl<>(Lists.list(item
                         .withOwner(user.withId(expectedUserId))
                         .withAvailable(Boolean.TRUE))));
-        when(itemRepository.getLastBookingByItemId(anyLong())).thenReturn(lastBooking);
-        when(itemRepository.getNextBookingByItemId(anyLong())).thenReturn(nextBooking);
-        when(itemRepository.findAllItemComments(anyLong())).thenReturn(Lists.list(comment));
-        when(itemRepository.isUserCommentatorOfItem(anyLong(), anyLong())).thenReturn(Boolean.FALSE);
+        when(itemRepository.getBookingSummariesByItemIds(anyCollection())).thenReturn(Lists.list(bookingSummary));
+        when(itemRepository.findAllItemsComments(anyCollection())).thenReturn(Lists.list(comment));
         Collection<ItemDto> result = itemService.getAllItems(expectedUserId, from, size);
         assertThat(result).asList().isNotEmpty().contains(
                 itemDto
@@ -451,9 +464,10 @@ class ItemServiceTest {
         verify(itemRepository, never()).findItemById(anyLong());
         verify(userRepository, never()).findUserById(anyLong());
         verify(itemRepository, times(1)).findAllItems(anyLong(), any());
-        verify(itemRepository, times(1)).findAllItemComments(anyLong());
-        verify(itemRepository, times(1)).getLastBookingByItemId(anyLong());
-        verify(itemRepository, times(1)).getNextBookingByItemId(anyLong());
+        verify(itemRepository, times(1)).findAllItemsComments(anyCollection());
+        verify(itemRepository, times(1)).getBookingSummariesByItemIds(anyCollection());
+        verify(itemRepository, never()).findAllItemComments(anyLong());
+        verify(itemRepository, never()).getBookingSummaryByItemId(anyLong());
     }
 
     @Test
@@ -467,8 +481,7 @@ class ItemServiceTest {
         verify(userRepository, never()).findUserById(anyLong());
         verify(itemRepository, never()).findAllItems(anyLong(), any());
         verify(itemRepository, never()).findAllItemComments(anyLong());
-        verify(itemRepository, never()).getLastBookingByItemId(anyLong());
-        verify(itemRepository, never()).getNextBookingByItemId(anyLong());
+        verify(itemRepository, never()).getBookingSummaryByItemId(anyLong());
     }
 
     @Test
@@ -485,8 +498,7 @@ class ItemServiceTest {
         verify(userRepository, never()).findUserById(anyLong());
         verify(itemRepository, times(1)).searchItem(anyString());
         verify(itemRepository, never()).findAllItemComments(anyLong());
-        verify(itemRepository, never()).getLastBookingByItemId(anyLong());
-        verify(itemRepository, never()).getNextBookingByItemId(anyLong());
+        verify(itemRepository, never()).getBookingSummaryByItemId(anyLong());
     }
 
     @Test
@@ -496,7 +508,7 @@ class ItemServiceTest {
         Integer size = 1;
         String text = "test";
         when(itemRepository.searchItem(anyString(), any()))
-                .thenReturn(new PageImpl<>(Lists.list(item
+                .thenReturn(new SliceImpl<>(Lists.list(item
                         .withOwner(user)
                         .withAvailable(Boolean.TRUE))));
         when(itemRepository.isUserCommentatorOfItem(anyLong(), anyLong())).thenReturn(Boolean.FALSE);
@@ -506,8 +518,7 @@ class ItemServiceTest {
         verify(userRepository, never()).findUserById(anyLong());
         verify(itemRepository, times(1)).searchItem(anyString(), any());
         verify(itemRepository, never()).findAllItemComments(anyLong());
-        verify(itemRepository, never()).getLastBookingByItemId(anyLong());
-        verify(itemRepository, never()).getNextBookingByItemId(anyLong());
+        verify(itemRepository, never()).getBookingSummaryByItemId(anyLong());
     }
 
     @Test
@@ -522,8 +533,7 @@ class ItemServiceTest {
         verify(userRepository, never()).findUserById(anyLong());
         verify(itemRepository, never()).searchItem(anyString());
         verify(itemRepository, never()).findAllItemComments(anyLong());
-        verify(itemRepository, never()).getLastBookingByItemId(anyLong());
-        verify(itemRepository, never()).getNextBookingByItemId(anyLong());
+        verify(itemRepository, never()).getBookingSummaryByItemId(anyLong());
     }
 
     @Test
@@ -534,8 +544,7 @@ class ItemServiceTest {
         verify(userRepository, never()).findUserById(anyLong());
         verify(itemRepository, never()).searchItem(anyString());
         verify(itemRepository, never()).findAllItemComments(anyLong());
-        verify(itemRepository, never()).getLastBookingByItemId(anyLong());
-        verify(itemRepository, never()).getNextBookingByItemId(anyLong());
+        verify(itemRepository, never()).getBookingSummaryByItemId(anyLong());
     }
 
     @Test
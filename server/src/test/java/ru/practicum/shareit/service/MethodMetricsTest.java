@@ -0,0 +1,73 @@
+package ru.practicum.shareit.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import ru.practicum.shareit.config.MethodMetricsInterceptor;
+import ru.practicum.shareit.config.MetricsConfig;
+import ru.practicum.shareit.user.User;
+import ru.practicum.shareit.user.dto.mapper.UserDtoMapper;
+import ru.practicum.shareit.user.dto.mapper.UserMapper;
+import ru.practicum.shareit.user.exception.UserNotFoundException;
+import ru.practicum.shareit.user.repository.DatabaseUserRepositoryImpl;
+import ru.practicum.shareit.user.repository.UserRepository;
+import ru.practicum.shareit.user.service.UserService;
+import ru.practicum.shareit.user.service.UserServiceImpl;
+
+import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+import static org.assertj.core.api.AssertionsForClassTypes.assertThatExceptionOfType;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.when;
+
+@SpringBootTest(
+        classes = {
+                UserServiceImpl.class,
+                UserDtoMapper.class,
+                UserMapper.class,
+                MetricsConfig.class,
+                SimpleMeterRegistry.class
+        },
+        webEnvironment = SpringBootTest.WebEnvironment.NONE
+)
+@MockBean(classes = DatabaseUserRepositoryImpl.class)
+@RequiredArgsConstructor(onConstructor_ = @Autowired)
+class MethodMetricsTest {
+
+    private final UserRepository userRepository;
+
+    private final UserService userService;
+
+    private final MeterRegistry meterRegistry;
+
+    @Test
+    @DisplayName("Service calls are timed by outcome test")
+    void serviceCallsAreTimedTest() throws Exception {
+        when(userRepository.findUserById(anyLong())).thenReturn(new User(1L, "test_name", "test@mail.com"));
+        userService.findUserById(1L);
+        userService.findUserById(1L);
+        when(userRepository.findUserById(anyLong())).thenReturn(null);
+        assertThatExceptionOfType(UserNotFoundException.class).isThrownBy(() -> userService.findUserById(2L));
+
+        assertThat(meterRegistry.get(MethodMetricsInterceptor.TIMER_NAME)
+                .tags("class", "UserServiceImpl", "method", "findUserById", "exception", "none")
+                .timer().count()).isEqualTo(2L);
+        assertThat(meterRegistry.get(MethodMetricsInterceptor.TIMER_NAME)
+                .tags("class", "UserServiceImpl", "method", "findUserById", "exception", "UserNotFoundException")
+                .timer().count()).isEqualTo(1L);
+        assertThat(meterRegistry.get(MethodMetricsInterceptor.ERRORS_NAME)
+                .tags("class", "UserServiceImpl", "exception", "UserNotFoundException")
+                .counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Mappers are not timed test")
+    void mappersAreNotTimedTest() throws Exception {
+        assertThat(meterRegistry.find(MethodMetricsInterceptor.TIMER_NAME).tag("class", "UserMapper").timer())
+                .isNull();
+    }
+}
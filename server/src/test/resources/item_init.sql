@@ -5,6 +5,8 @@ INSERT INTO items(name, description, is_available, owner_id, request_id)
 VALUES ('test_item_name', 'test_item_description', true, 1, null);
 INSERT INTO items(name, description, is_available, owner_id, request_id)
 VALUES ('test_item_name_2', 'test_item_description_2', true, 1, null);
+INSERT INTO items(name, description, is_available, owner_id, request_id)
+VALUES ('test_item_name_3', 'test_item_description_3', false, 2, null);
 
 INSERT INTO bookings(start_date, end_date, status, booker_id, item_id)
 VALUES ('2023-01-01 11:00:00'::timestamp, '2023-01-01 12:00:00'::timestamp, 'APPROVED', 2, 1);
@@ -0,0 +1,19 @@
+INSERT INTO users(name, email) VALUES ('test_name_3', 'email_3@test.com');
+INSERT INTO users(name, email) VALUES ('test_name_4', 'email_4@test.com');
+INSERT INTO users(name, email) VALUES ('test_name_5', 'email_5@test.com');
+
+INSERT INTO requests(description, requestor_id, created)
+VALUES ('test_description_2', 3, '2023-01-02 10:00:00'::timestamp);
+INSERT INTO requests(description, requestor_id, created)
+VALUES ('test_description_3', 3, '2023-01-03 10:00:00'::timestamp);
+INSERT INTO requests(description, requestor_id, created)
+VALUES ('test_description_4', 3, '2023-01-04 10:00:00'::timestamp);
+
+INSERT INTO items(name, description, is_available, owner_id, request_id)
+VALUES ('test_item_name_2', 'test_item_description_2', true, 4, 2);
+INSERT INTO items(name, description, is_available, owner_id, request_id)
+VALUES ('test_item_name_3', 'test_item_description_3', true, 5, 2);
+INSERT INTO items(name, description, is_available, owner_id, request_id)
+VALUES ('test_item_name_4', 'test_item_description_4', true, 4, 3);
+INSERT INTO items(name, description, is_available, owner_id, request_id)
+VALUES ('test_item_name_5', 'test_item_description_5', true, 5, 4);